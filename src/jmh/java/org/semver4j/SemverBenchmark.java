@@ -0,0 +1,98 @@
+package org.semver4j;
+
+import static java.lang.String.join;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the construction of {@link Semver} instances.
+ *
+ * <p>{@code formatCanonicalVersion} rebuilds the version string the way the constructor used to, with
+ * {@link String#format(Locale, String, Object...)} and {@link String#join(CharSequence, Iterable)}, so its cost can be
+ * compared with {@code constructFromCanonicalInput}, which now reuses the input string. {@code sortReleases} exercises
+ * the comparison of versions without {@code pre-release} identifiers.
+ *
+ * <p>Run with {@code ./mvnw -P jmh test-compile exec:exec -Djmh.args="SemverBenchmark"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SemverBenchmark {
+    private final String[] canonicalVersions = {
+        "1.0.0", "4.17.21", "10.20.30", "1.0.0-alpha", "1.0.0-rc.1", "2.0.0-beta.11+sha.0nsfgkjkjsdf", "1.2.3+build.1848"
+    };
+    private final String[] prefixedVersions = {
+        "v1.0.0", "v4.17.21", "v10.20.30", "v1.0.0-alpha", "v1.0.0-rc.1", "v2.0.0-beta.11+sha.0nsfgkjkjsdf", "v1.2.3+build.1848"
+    };
+    private final Semver[] semvers = new Semver[canonicalVersions.length];
+    private final Semver[] releases = new Semver[10_000];
+
+    public SemverBenchmark() {
+        for (int i = 0; i < canonicalVersions.length; i++) {
+            semvers[i] = new Semver(canonicalVersions[i]);
+        }
+        Random random = new Random(42);
+        for (int i = 0; i < releases.length; i++) {
+            releases[i] = Semver.create(random.nextInt(5), random.nextInt(30), random.nextInt(100));
+        }
+    }
+
+    @Benchmark
+    public Semver[] sortReleases() {
+        Semver[] copy = releases.clone();
+        Arrays.sort(copy);
+        return copy;
+    }
+
+    @Benchmark
+    public void constructFromCanonicalInput(Blackhole blackhole) {
+        for (String version : canonicalVersions) {
+            blackhole.consume(new Semver(version));
+        }
+    }
+
+    @Benchmark
+    public void constructFromPrefixedInput(Blackhole blackhole) {
+        for (String version : prefixedVersions) {
+            blackhole.consume(new Semver(version));
+        }
+    }
+
+    @Benchmark
+    public void constructFromPrefixedInputAndGetVersion(Blackhole blackhole) {
+        for (String version : prefixedVersions) {
+            blackhole.consume(new Semver(version).getVersion());
+        }
+    }
+
+    @Benchmark
+    public void formatCanonicalVersion(Blackhole blackhole) {
+        for (Semver semver : semvers) {
+            String version =
+                    String.format(Locale.ROOT, "%d.%d.%d", semver.getMajor(), semver.getMinor(), semver.getPatch());
+            if (!semver.getPreRelease().isEmpty()) {
+                version += "-" + join(".", semver.getPreRelease());
+            }
+            if (!semver.getBuild().isEmpty()) {
+                version += "+" + join(".", semver.getBuild());
+            }
+            blackhole.consume(version);
+        }
+    }
+}
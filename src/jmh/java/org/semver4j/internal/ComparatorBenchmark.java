@@ -0,0 +1,51 @@
+package org.semver4j.internal;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.semver4j.Semver;
+
+/**
+ * Measures sorting versions which mostly differ by their {@code pre-release} identifiers.
+ *
+ * <p>Run with {@code ./mvnw -P jmh test-compile exec:exec -Djmh.args="ComparatorBenchmark"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ComparatorBenchmark {
+    private static final String[] LABELS = {"alpha", "beta", "rc", "SNAPSHOT", "dev", "beta2", "rc1-hotfix"};
+
+    private Semver[] versions;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        versions = new Semver[100_000];
+        for (int i = 0; i < versions.length; i++) {
+            versions[i] = Semver.of(1, random.nextInt(3), random.nextInt(3))
+                    .withPreReleases(LABELS[random.nextInt(LABELS.length)], String.valueOf(random.nextInt(500)))
+                    .build();
+        }
+    }
+
+    @Benchmark
+    public Semver[] sortPreReleases() {
+        Semver[] copy = versions.clone();
+        Arrays.sort(copy);
+        return copy;
+    }
+}
@@ -0,0 +1,89 @@
+package org.semver4j.internal;
+
+import static java.util.regex.Pattern.compile;
+import static org.semver4j.internal.Tokenizers.STRICT;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.semver4j.internal.VersionParser.Version;
+
+/**
+ * Compares {@link VersionParser#parse(String)} with the regular expression based parser it replaced.
+ *
+ * <p>Run with {@code ./mvnw -P jmh test-compile exec:exec -Djmh.args="VersionParserBenchmark"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VersionParserBenchmark {
+    private static final Pattern PATTERN = compile(STRICT);
+    private static final BigInteger MAX_INT = BigInteger.valueOf(Integer.MAX_VALUE);
+
+    private final String[] versions = {
+        "1.0.0",
+        "4.17.21",
+        "10.20.30",
+        "2.3.1",
+        "0.0.4",
+        "1.0.0-alpha",
+        "1.0.0-rc.1",
+        "2.0.0-beta.11+sha.0nsfgkjkjsdf",
+        "v3.2.1",
+        "1.2.3+build.1848"
+    };
+
+    @Benchmark
+    public void scanner(Blackhole blackhole) {
+        for (String version : versions) {
+            blackhole.consume(VersionParser.parse(version));
+        }
+    }
+
+    @Benchmark
+    public void regex(Blackhole blackhole) {
+        for (String version : versions) {
+            blackhole.consume(parseWithRegex(version));
+        }
+    }
+
+    private static Version parseWithRegex(String version) {
+        Matcher matcher = PATTERN.matcher(version);
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException(version);
+        }
+        return new Version(
+                parseInt(matcher.group(1)),
+                parseInt(matcher.group(2)),
+                parseInt(matcher.group(3)),
+                convertToList(matcher.group(4)),
+                convertToList(matcher.group(5)));
+    }
+
+    private static int parseInt(String value) {
+        BigInteger number = new BigInteger(value);
+        if (MAX_INT.compareTo(number) < 0) {
+            throw new IllegalArgumentException(value);
+        }
+        return number.intValue();
+    }
+
+    private static List<String> convertToList(String value) {
+        return value == null ? List.of() : List.of(value.split("\\."));
+    }
+}
@@ -0,0 +1,116 @@
+package org.semver4j.range;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.jspecify.annotations.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.semver4j.Semver;
+
+/**
+ * Measures checking versions against range strings.
+ *
+ * <p>{@code satisfiesParsedRange} parses the range on every check, the way {@link Semver#satisfies(String)} used to,
+ * while {@code satisfiesRangeString} goes through the {@link RangeListCache}. {@code satisfiesManyBranches} and
+ * {@code satisfiesCompiledManyBranches} check versions against a range with many {@code ||} branches, directly and
+ * through the compiled form of the cached range list. {@code maxSatisfyingStream} picks the highest version of a
+ * catalog satisfying a range with a stream, while {@code maxSatisfyingSorted} uses
+ * {@link RangeList#maxSatisfying(List, boolean)} on the sorted catalog.
+ *
+ * <p>Run with {@code ./mvnw -P jmh test-compile exec:exec -Djmh.args="RangeListBenchmark"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RangeListBenchmark {
+    private final String[] ranges = {
+        "^1.2.3", "~4.17.0", ">=1.0.0 <2.0.0 || >=3.0.0", "1.x", "1.2.3 - 2.3.4", "[1.0,2.0)", "*", "=10.20.30"
+    };
+    private final Semver version = new Semver("1.5.0");
+
+    private final RangeList manyBranches = RangeListFactory.create(manyBranches());
+    private final RangeList compiledManyBranches = RangeListCache.getDefault().get(manyBranches(), false);
+    private final Semver[] versions = {
+        new Semver("0.1.0"), new Semver("12.3.4"), new Semver("24.1.0-rc.1"), new Semver("31.0.0"), new Semver("47.9.9")
+    };
+
+    private final RangeList caret = RangeListCache.getDefault().get("^3.2.0", false);
+    private final List<Semver> catalog = catalog();
+
+    @Benchmark
+    public void satisfiesParsedRange(Blackhole blackhole) {
+        for (String range : ranges) {
+            blackhole.consume(RangeListFactory.create(range).isSatisfiedBy(version));
+        }
+    }
+
+    @Benchmark
+    public void satisfiesRangeString(Blackhole blackhole) {
+        for (String range : ranges) {
+            blackhole.consume(version.satisfies(range));
+        }
+    }
+
+    @Benchmark
+    public void satisfiesManyBranches(Blackhole blackhole) {
+        for (Semver candidate : versions) {
+            blackhole.consume(manyBranches.isSatisfiedBy(candidate));
+        }
+    }
+
+    @Benchmark
+    public void satisfiesCompiledManyBranches(Blackhole blackhole) {
+        for (Semver candidate : versions) {
+            blackhole.consume(compiledManyBranches.isSatisfiedBy(candidate));
+        }
+    }
+
+    @Benchmark
+    public @Nullable Semver maxSatisfyingStream() {
+        return catalog.stream().filter(caret::isSatisfiedBy).max(Comparator.naturalOrder()).orElse(null);
+    }
+
+    @Benchmark
+    public @Nullable Semver maxSatisfyingSorted() {
+        return caret.maxSatisfying(catalog, true);
+    }
+
+    /** Returns a sorted catalog of 10,000 versions, with a release candidate before each minor release. */
+    private static List<Semver> catalog() {
+        List<Semver> catalog = new ArrayList<>();
+        for (int major = 0; major < 10; major++) {
+            for (int minor = 0; minor < 100; minor++) {
+                catalog.add(new Semver(major + "." + minor + ".0-rc.1"));
+                for (int patch = 0; patch < 9; patch++) {
+                    catalog.add(Semver.create(major, minor, patch));
+                }
+            }
+        }
+        return catalog;
+    }
+
+    /** Returns a range with a caret branch per major version, like those listing every supported release line. */
+    private static String manyBranches() {
+        StringBuilder range = new StringBuilder();
+        for (int major = 1; major <= 40; major++) {
+            if (major > 1) {
+                range.append(" || ");
+            }
+            range.append('^').append(major).append(".2.0");
+        }
+        return range.toString();
+    }
+}
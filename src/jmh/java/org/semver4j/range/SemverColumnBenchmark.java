@@ -0,0 +1,76 @@
+package org.semver4j.range;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.semver4j.Semver;
+
+/**
+ * Measures filtering a million versions with a range list.
+ *
+ * <p>{@code satisfiesEachSemver} checks a {@link Semver} per row with {@link RangeList#isSatisfiedBy(Semver)}, while
+ * {@code filterScalar} and {@code filterVector} filter a {@link SemverColumn} with the scalar kernel and with the
+ * fastest kernel available, the SIMD kernel when it is compiled.
+ *
+ * <p>Run with {@code ./mvnw -P jmh,vector test-compile exec:exec -Djmh.args="SemverColumnBenchmark"}; without the
+ * {@code vector} profile, {@code filterVector} measures the scalar kernel too.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class SemverColumnBenchmark {
+    private static final int ROWS = 1_000_000;
+
+    private final RangeList rangeList = RangeListFactory.create("^1.2.0 || >=3.1.0-rc.1 <4.0.0 || ~7.4.0");
+    private final List<Semver> versions = new ArrayList<>(ROWS);
+    private final SemverColumn column;
+
+    public SemverColumnBenchmark() {
+        Random random = new Random(42);
+        String[] preReleases = {"", "", "", "", "-alpha.1", "-beta.2", "-rc.1"};
+        List<String> strings = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            strings.add(random.nextInt(10) + "." + random.nextInt(20) + "." + random.nextInt(10)
+                    + preReleases[random.nextInt(preReleases.length)]);
+        }
+        for (String string : strings) {
+            versions.add(new Semver(string));
+        }
+        column = SemverColumn.parse(strings);
+    }
+
+    @Benchmark
+    public BitSet satisfiesEachSemver() {
+        BitSet rows = new BitSet(ROWS);
+        for (int row = 0; row < ROWS; row++) {
+            if (rangeList.isSatisfiedBy(versions.get(row))) {
+                rows.set(row);
+            }
+        }
+        return rows;
+    }
+
+    @Benchmark
+    public BitSet filterScalar() {
+        return column.filter(rangeList, ColumnKernel.SCALAR);
+    }
+
+    @Benchmark
+    public BitSet filterVector() {
+        return column.filter(rangeList);
+    }
+}
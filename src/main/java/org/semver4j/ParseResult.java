@@ -0,0 +1,114 @@
+package org.semver4j;
+
+import static java.util.Objects.hash;
+
+import java.util.Locale;
+import java.util.Objects;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The outcome of {@link Semver#tryParse(String)}: either the parsed {@link Semver}, or the reason why the input is not
+ * a valid version together with the index of the offending character.
+ *
+ * <p>Unlike {@link Semver#Semver(String)}, producing a failed result does not create an exception, so it is cheap to
+ * use on inputs that are often invalid.
+ *
+ * @since 6.1.0
+ */
+public final class ParseResult {
+    private final @Nullable Semver semver;
+    private final @Nullable Reason reason;
+    private final int errorIndex;
+
+    private ParseResult(@Nullable Semver semver, @Nullable Reason reason, int errorIndex) {
+        this.semver = semver;
+        this.reason = reason;
+        this.errorIndex = errorIndex;
+    }
+
+    static ParseResult success(Semver semver) {
+        return new ParseResult(semver, null, -1);
+    }
+
+    static ParseResult failure(Reason reason, int errorIndex) {
+        return new ParseResult(null, reason, errorIndex);
+    }
+
+    /**
+     * Checks if the input was parsed successfully.
+     *
+     * @return {@code true} if the input is a valid version, {@code false} otherwise
+     */
+    public boolean isSuccess() {
+        return semver != null;
+    }
+
+    /**
+     * Returns the parsed version.
+     *
+     * @return the parsed {@link Semver}, {@code null} if parsing failed
+     */
+    public @Nullable Semver getSemver() {
+        return semver;
+    }
+
+    /**
+     * Returns the reason why parsing failed.
+     *
+     * @return the {@link Reason} of the failure, {@code null} if parsing succeeded
+     */
+    public @Nullable Reason getReason() {
+        return reason;
+    }
+
+    /**
+     * Returns the index, in the parsed string, of the character at which parsing failed.
+     *
+     * <p>For {@link Reason#UNEXPECTED_END} this is the index right after the last (non-whitespace) character. For
+     * {@link Reason#LEADING_ZERO} and {@link Reason#VALUE_TOO_BIG} it is the index of the first digit of the number.
+     *
+     * @return the index of the failure, {@code -1} if parsing succeeded
+     */
+    public int getErrorIndex() {
+        return errorIndex;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ParseResult)) {
+            return false;
+        }
+        ParseResult that = (ParseResult) o;
+        return errorIndex == that.errorIndex && Objects.equals(semver, that.semver) && reason == that.reason;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash(semver, reason, errorIndex);
+    }
+
+    @Override
+    public String toString() {
+        if (semver != null) {
+            return String.format(Locale.ROOT, "ParseResult[success=%s]", semver);
+        }
+        return String.format(Locale.ROOT, "ParseResult[failure=%s at %d]", reason, errorIndex);
+    }
+
+    /** The reasons why a string is not a valid version. */
+    public enum Reason {
+        /** A character is not allowed at its position, e.g. the {@code _} in {@code 1.2.3-alpha_1}. */
+        UNEXPECTED_CHARACTER,
+        /** The input ends before the version is complete, e.g. {@code 1.2} or {@code 1.2.3-}. */
+        UNEXPECTED_END,
+        /** A {@code pre-release} or {@code build} identifier is empty, e.g. {@code 1.2.3-alpha..1}. */
+        EMPTY_IDENTIFIER,
+        /** A numeric identifier has a leading zero, e.g. {@code 01.2.3} or {@code 1.2.3-01}. */
+        LEADING_ZERO,
+        /** A {@code major}, {@code minor} or {@code patch} number is greater than {@link Integer#MAX_VALUE}. */
+        VALUE_TOO_BIG
+    }
+}
@@ -1,21 +1,26 @@
 package org.semver4j;
 
-import static java.lang.String.join;
 import static java.util.Collections.emptyList;
+import static java.util.Objects.checkFromIndexSize;
 import static java.util.Objects.hash;
 import static java.util.Objects.requireNonNull;
+import static org.semver4j.internal.VersionStrings.skipPrefix;
+import static org.semver4j.internal.VersionStrings.trimEnd;
+import static org.semver4j.internal.VersionStrings.trimStart;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.nio.ByteBuffer;
 import java.util.Collection;
 import java.util.List;
-import java.util.Locale;
 import java.util.function.Function;
 import org.jspecify.annotations.Nullable;
 import org.semver4j.internal.*;
 import org.semver4j.internal.VersionParser.Version;
+import org.semver4j.range.CompiledRange;
 import org.semver4j.range.RangeExpression;
 import org.semver4j.range.RangeList;
+import org.semver4j.range.RangeListCache;
 import org.semver4j.range.RangeListFactory;
 
 /**
@@ -32,12 +37,23 @@ public class Semver implements Comparable<Semver>, Serializable {
     /** A constant {@link Semver} version object representing {@code 0.0.0}. */
     public static final Semver ZERO = new Semver("0.0.0");
 
+    /** Marks the {@link #precedenceKey()} of a version without {@code pre-release} identifiers. */
+    private static final long RELEASE_BIT = 1;
+
+    private static final int PATCH_BITS = 21;
+    private static final int MINOR_BITS = 21;
+    private static final int MAJOR_BITS = 20;
+
     private final int major;
     private final int minor;
     private final int patch;
+    /** Backed by {@link #version}, or {@code List.of()} when there are none; see {@link Identifiers}. */
     private final List<String> preRelease;
+
+    /** Backed by {@link #version}, or {@code List.of()} when there are none; see {@link Identifiers}. */
     private final List<String> build;
 
+    /** The canonical version string, which is the trimmed input itself when it has no {@code v} prefix. */
     private final String version;
 
     /**
@@ -50,7 +66,13 @@ public class Semver implements Comparable<Semver>, Serializable {
     public Semver(String version) {
         requireNonNull(version, "version must not be null");
 
-        Version parsedVersion = VersionParser.parse(version.trim());
+        String trimmedVersion = version.trim();
+        String canonicalVersion = withoutPrefix(trimmedVersion);
+        Version parsedVersion = VersionParser.tryParse(canonicalVersion, 0, canonicalVersion.length(), null);
+        if (parsedVersion == null) {
+            // Parse the version as given, so that the error reports it
+            parsedVersion = VersionParser.parse(trimmedVersion);
+        }
 
         major = parsedVersion.major();
         minor = parsedVersion.minor();
@@ -58,13 +80,76 @@ public class Semver implements Comparable<Semver>, Serializable {
         preRelease = parsedVersion.preRelease();
         build = parsedVersion.build();
 
-        this.version = new Builder()
-                .withMajor(major)
-                .withMinor(minor)
-                .withPatch(patch)
-                .withPreReleases(preRelease)
-                .withBuilds(build)
-                .toVersion();
+        this.version = canonicalVersion;
+    }
+
+    /** Creates a version from the result of parsing its canonical string, whose identifiers are backed by it. */
+    private Semver(String version, Version parsedVersion) {
+        this(
+                parsedVersion.major(),
+                parsedVersion.minor(),
+                parsedVersion.patch(),
+                parsedVersion.preRelease(),
+                parsedVersion.build(),
+                version);
+    }
+
+    /**
+     * Constructs a new {@code Semver} instance directly from already validated components, without building and parsing
+     * a version string.
+     *
+     * @param major non-negative {@code major} version
+     * @param minor non-negative {@code minor} version
+     * @param patch non-negative {@code patch} version
+     * @param preRelease immutable list of valid {@code pre-release} identifiers
+     * @param build immutable list of valid {@code build} identifiers
+     */
+    Semver(int major, int minor, int patch, List<String> preRelease, List<String> build) {
+        this(major, minor, patch, toCanonicalString(major, minor, patch, preRelease, build));
+    }
+
+    private Semver(int major, int minor, int patch, String version) {
+        this(major, minor, patch, preReleaseOf(version), buildOf(version), version);
+    }
+
+    private Semver(int major, int minor, int patch, List<String> preRelease, List<String> build, String version) {
+        this.major = major;
+        this.minor = minor;
+        this.patch = patch;
+        this.preRelease = preRelease;
+        this.build = build;
+        this.version = version;
+    }
+
+    /** Returns the {@code pre-release} identifiers of a canonical version string, which start after the first dash. */
+    private static List<String> preReleaseOf(String version) {
+        int buildSeparator = version.indexOf('+');
+        int end = buildSeparator < 0 ? version.length() : buildSeparator;
+        int separator = version.indexOf('-');
+        return separator < 0 || separator > end ? List.of() : Identifiers.of(version, separator + 1, end);
+    }
+
+    /** Returns the {@code build} identifiers of a canonical version string, which start after the first plus sign. */
+    private static List<String> buildOf(String version) {
+        int separator = version.indexOf('+');
+        return separator < 0 ? List.of() : Identifiers.of(version, separator + 1, version.length());
+    }
+
+    /**
+     * Packs {@code major}, {@code minor}, {@code patch} and a "no pre-release" bit into a non-negative {@code long}
+     * ordered like the versions themselves. The key is computed on demand rather than stored, which keeps plain
+     * releases as small as they were before.
+     *
+     * @return the packed key, or {@code -1} when the numbers are too big to be packed
+     */
+    private long precedenceKey() {
+        if (major >>> MAJOR_BITS != 0 || minor >>> MINOR_BITS != 0 || patch >>> PATCH_BITS != 0) {
+            return -1;
+        }
+        return ((long) major << (MINOR_BITS + PATCH_BITS + 1))
+                | ((long) minor << (PATCH_BITS + 1))
+                | ((long) patch << 1)
+                | (preRelease.isEmpty() ? RELEASE_BIT : 0);
     }
 
     /**
@@ -77,11 +162,93 @@ public class Semver implements Comparable<Semver>, Serializable {
         if (version == null) {
             return null;
         }
-        try {
-            return new Semver(version);
-        } catch (Exception e) {
+        return tryCreate(version.trim());
+    }
+
+    /**
+     * Try to parse string as a semver, reporting why it is not valid otherwise.
+     *
+     * <p>Leading and trailing whitespace is ignored, the same as {@link #Semver(String)} does. No exception is created
+     * when the version is not valid, which makes this method suitable for inputs that are often invalid.
+     *
+     * @param version version string to parse
+     * @return the {@link ParseResult} holding either the parsed {@link Semver} or the reason and position of the
+     *     failure
+     * @throws NullPointerException if the version is {@code null}
+     * @since 6.1.0
+     */
+    public static ParseResult tryParse(String version) {
+        requireNonNull(version, "version must not be null");
+
+        Semver semver = tryCreate(version.trim());
+        if (semver != null) {
+            return ParseResult.success(semver);
+        }
+
+        ParseStatus status = new ParseStatus();
+        tryParseTrimmed(version, 0, version.length(), status);
+        return ParseResult.failure(requireNonNull(status.reason()), status.index());
+    }
+
+    /**
+     * Try to parse a slice of a character sequence as a semver.
+     *
+     * <p>The slice is read in place, so the version does not have to be extracted from a larger text (e.g. a lockfile
+     * line) first. Leading and trailing whitespace of the slice is ignored, the same as {@link #Semver(String)} does.
+     *
+     * @param version character sequence containing the version
+     * @param offset index of the first character of the slice
+     * @param length number of characters in the slice
+     * @return {@link Semver} when successfully parsed, {@code null} otherwise
+     * @throws NullPointerException if the version is {@code null}
+     * @throws IndexOutOfBoundsException if the slice is out of the sequence bounds
+     * @since 6.1.0
+     */
+    public static @Nullable Semver parse(CharSequence version, int offset, int length) {
+        requireNonNull(version, "version must not be null");
+        checkFromIndexSize(offset, length, version.length());
+
+        int start = trimStart(version, offset, offset + length);
+        int end = trimEnd(version, start, offset + length);
+        if (!VersionParser.isValid(version, start, end - start)) {
             return null;
         }
+        return tryCreate(version.subSequence(start, end).toString());
+    }
+
+    /**
+     * Try to parse a slice of ASCII encoded bytes as a semver.
+     *
+     * <p>The bytes are read in place; see {@link #parse(CharSequence, int, int)}.
+     *
+     * @param version bytes containing the version
+     * @param offset index of the first byte of the slice
+     * @param length number of bytes in the slice
+     * @return {@link Semver} when successfully parsed, {@code null} otherwise
+     * @throws NullPointerException if the version is {@code null}
+     * @throws IndexOutOfBoundsException if the slice is out of the array bounds
+     * @since 6.1.0
+     */
+    public static @Nullable Semver parse(byte[] version, int offset, int length) {
+        return parse(AsciiCharSequence.of(version, offset, length), 0, length);
+    }
+
+    /**
+     * Try to parse a slice of an ASCII encoded buffer as a semver.
+     *
+     * <p>The {@code offset} is an absolute index, the position and limit of the buffer are left untouched. Buffers
+     * backed by an accessible array are read in place; see {@link #parse(CharSequence, int, int)}.
+     *
+     * @param version buffer containing the version
+     * @param offset absolute index of the first byte of the slice
+     * @param length number of bytes in the slice
+     * @return {@link Semver} when successfully parsed, {@code null} otherwise
+     * @throws NullPointerException if the version is {@code null}
+     * @throws IndexOutOfBoundsException if the slice is out of the buffer capacity
+     * @since 6.1.0
+     */
+    public static @Nullable Semver parse(ByteBuffer version, int offset, int length) {
+        return parse(AsciiCharSequence.of(version, offset, length), 0, length);
     }
 
     /**
@@ -113,7 +280,38 @@ public class Semver implements Comparable<Semver>, Serializable {
      * @return {@code true} if it is a valid version, {@code false} otherwise
      */
     public static boolean isValid(@Nullable String version) {
-        return parse(version) != null;
+        if (version == null) {
+            return false;
+        }
+        int start = trimStart(version, 0, version.length());
+        int end = trimEnd(version, start, version.length());
+        return VersionParser.isValid(version, start, end - start);
+    }
+
+    /**
+     * Returns the given version string without its optional {@code v} prefix. The result is the canonical version
+     * string if the version is valid, and invalid otherwise.
+     */
+    private static String withoutPrefix(String version) {
+        return version.substring(skipPrefix(version, 0, version.length()));
+    }
+
+    /** Parses a version without leading and trailing whitespace, without throwing when it is not valid. */
+    private static @Nullable Semver tryCreate(String trimmedVersion) {
+        String canonicalVersion = withoutPrefix(trimmedVersion);
+        Version parsedVersion = VersionParser.tryParse(canonicalVersion, 0, canonicalVersion.length(), null);
+        return parsedVersion == null ? null : new Semver(canonicalVersion, parsedVersion);
+    }
+
+    /**
+     * Parses a slice without its leading and trailing whitespace (as defined by {@link String#trim()}), without
+     * throwing when it is not a valid version.
+     */
+    private static @Nullable Version tryParseTrimmed(
+            CharSequence version, int offset, int length, @Nullable ParseStatus status) {
+        int start = trimStart(version, offset, offset + length);
+        int end = trimEnd(version, start, offset + length);
+        return VersionParser.tryParse(version, start, end - start, status);
     }
 
     /**
@@ -152,6 +350,73 @@ public class Semver implements Comparable<Semver>, Serializable {
         return of(major, minor, patch).build();
     }
 
+    /**
+     * Returns a {@link Builder} initialized with all the components of this version.
+     *
+     * <p>The identifiers taken from this version are known to be valid and are not checked again by
+     * {@link Builder#build()}, so deriving a version only costs validating what changed.
+     *
+     * @return a {@link Builder} initialized with the components of this version
+     * @since 6.1.0
+     */
+    public Builder toBuilder() {
+        Builder builder = new Builder().withMajor(major).withMinor(minor).withPatch(patch);
+        builder.preRelease = preRelease;
+        builder.build = build;
+        builder.validatedPreRelease = preRelease;
+        builder.validatedBuild = build;
+        return builder;
+    }
+
+    /**
+     * Returns a binary key of this version, whose order is the precedence order of versions.
+     *
+     * <p>Comparing the keys of two versions byte by byte, as unsigned bytes (for instance with
+     * {@link java.util.Arrays#compareUnsigned(byte[], byte[])}), gives the same result as {@link #compareTo(Semver)},
+     * so that versions can be stored as keys of sorted stores and indexes and scanned by range. Numeric identifiers,
+     * and the runs of digits of other {@code pre-release} identifiers, compare numerically. Versions which only differ
+     * by their {@code build} have different keys, ordered after their common precedence.
+     *
+     * <p>{@link #compareTo(Semver)} is not transitive on some {@code pre-release} identifiers mixing digits and other
+     * characters, such as {@code 10a} or {@code a1b2}; the keys order them naturally, runs of digits numerically and
+     * other characters in ASCII order.
+     *
+     * @return a new array with the key of this version, which {@link #fromSortKey(byte[])} decodes back
+     * @since 6.1.0
+     */
+    public byte[] toSortKey() {
+        return SortKeys.encode(this);
+    }
+
+    /**
+     * Decodes a version from its binary key.
+     *
+     * @param sortKey the key returned by {@link #toSortKey()}
+     * @return the version of the key
+     * @throws NullPointerException if the key is {@code null}
+     * @throws SemverException if the bytes are not the key of a version
+     * @since 6.1.0
+     */
+    public static Semver fromSortKey(byte[] sortKey) {
+        requireNonNull(sortKey, "sortKey must not be null");
+        return new Semver(SortKeys.decode(sortKey));
+    }
+
+    /**
+     * Returns the canonical instance of this version, shared by all the equal versions interned in the
+     * {@linkplain SemverPool#getDefault() default pool}.
+     *
+     * <p>Interning saves memory when many equal versions are kept, and lets {@link #equals(Object)} succeed on identity
+     * for the interned instances.
+     *
+     * @return the pooled instance equal to this version
+     * @see SemverPool
+     * @since 6.1.0
+     */
+    public Semver intern() {
+        return SemverPool.getDefault().intern(this);
+    }
+
     /**
      * Returns the complete version string.
      *
@@ -375,6 +640,13 @@ public class Semver implements Comparable<Semver>, Serializable {
      */
     @Override
     public int compareTo(Semver other) {
+        long precedenceKey = precedenceKey();
+        long otherPrecedenceKey = other.precedenceKey();
+        if (precedenceKey >= 0
+                && otherPrecedenceKey >= 0
+                && (precedenceKey != otherPrecedenceKey || (precedenceKey & RELEASE_BIT) != 0)) {
+            return Long.compare(precedenceKey, otherPrecedenceKey);
+        }
         return Comparator.compareTo(this, other);
     }
 
@@ -589,7 +861,9 @@ public class Semver implements Comparable<Semver>, Serializable {
     /**
      * Checks if this version satisfies the specified version range.
      *
-     * <p>Allows control over whether {@code pre-release} versions are included in the check.
+     * <p>Allows control over whether {@code pre-release} versions are included in the check. The parsed range is kept
+     * in the {@linkplain RangeListCache#getDefault() default range cache}, so checking the same range again does not
+     * parse it again.
      *
      * @param range version range expression to check against
      * @param includePreRelease whether to include {@code pre-releases} in the check
@@ -599,7 +873,7 @@ public class Semver implements Comparable<Semver>, Serializable {
      * @since 5.8.0
      */
     public boolean satisfies(String range, boolean includePreRelease) {
-        RangeList rangeList = RangeListFactory.create(range, includePreRelease);
+        RangeList rangeList = RangeListCache.getDefault().get(range, includePreRelease);
         return satisfies(rangeList);
     }
 
@@ -630,6 +904,18 @@ public class Semver implements Comparable<Semver>, Serializable {
         return rangeList.isSatisfiedBy(this);
     }
 
+    /**
+     * Checks if this version satisfies the specified compiled range.
+     *
+     * @param compiledRange compiled version ranges to check against
+     * @return {@code true} if this version satisfies the compiled range, {@code false} otherwise
+     * @see RangeList#compile()
+     * @since 6.1.0
+     */
+    public boolean satisfies(CompiledRange compiledRange) {
+        return compiledRange.isSatisfiedBy(this);
+    }
+
     /**
      * Formats this version using a custom formatter function.
      *
@@ -648,7 +934,9 @@ public class Semver implements Comparable<Semver>, Serializable {
         if (!(o instanceof Semver)) {
             return false;
         }
-        return version.equals(((Semver) o).version);
+        Semver other = (Semver) o;
+        // Equal versions have equal numbers, which rejects most unequal versions without comparing strings
+        return major == other.major && minor == other.minor && patch == other.patch && version.equals(other.version);
     }
 
     @Override
@@ -658,7 +946,34 @@ public class Semver implements Comparable<Semver>, Serializable {
 
     @Override
     public String toString() {
-        return getVersion();
+        return version;
+    }
+
+    /**
+     * Replaces a deserialized instance with one built by a constructor, which backs the identifiers by the version
+     * string.
+     */
+    @Serial
+    private Object readResolve() {
+        return new Semver(major, minor, patch, preRelease, build);
+    }
+
+    /**
+     * Formats the components of a version as {@code MAJOR.MINOR.PATCH[-PRERELEASE][+BUILD]}.
+     *
+     * @return the canonical version string
+     */
+    private static String toCanonicalString(
+            int major, int minor, int patch, List<String> preRelease, List<String> build) {
+        StringBuilder builder = new StringBuilder(32)
+                .append(major)
+                .append('.')
+                .append(minor)
+                .append('.')
+                .append(patch);
+        Identifiers.appendTo(builder, '-', preRelease);
+        Identifiers.appendTo(builder, '+', build);
+        return builder.toString();
     }
 
     /**
@@ -695,6 +1010,11 @@ public class Semver implements Comparable<Semver>, Serializable {
         private List<String> preRelease = emptyList();
         private List<String> build = emptyList();
 
+        /** Identifiers known to be valid because they come from an existing {@link Semver}. */
+        private @Nullable List<String> validatedPreRelease;
+
+        private @Nullable List<String> validatedBuild;
+
         /**
          * Sets the {@code major} version component.
          *
@@ -808,10 +1128,19 @@ public class Semver implements Comparable<Semver>, Serializable {
          * Builds a new {@link Semver} instance from this builder's configuration.
          *
          * @return a new {@link Semver} instance
+         * @throws SemverException if the components do not form a valid version
          */
         public Semver build() {
-            String version = toVersion();
-            return new Semver(version);
+            if (major >= 0
+                    && minor >= 0
+                    && patch >= 0
+                    && (preRelease == validatedPreRelease || VersionParser.isValidIdentifiers(preRelease, true))
+                    && (build == validatedBuild || VersionParser.isValidIdentifiers(build, false))) {
+                return new Semver(major, minor, patch, preRelease, build);
+            }
+            // Anything else goes through the parser, which rejects it or normalizes it (e.g. identifiers containing
+            // dots or surrounding whitespace) exactly as before.
+            return new Semver(toVersion());
         }
 
         /**
@@ -822,14 +1151,7 @@ public class Semver implements Comparable<Semver>, Serializable {
          * @return the formatted version string
          */
         private String toVersion() {
-            String resultVersion = String.format(Locale.ROOT, "%d.%d.%d", major, minor, patch);
-            if (!preRelease.isEmpty()) {
-                resultVersion += "-" + join(".", preRelease);
-            }
-            if (!build.isEmpty()) {
-                resultVersion += "+" + join(".", build);
-            }
-            return resultVersion;
+            return toCanonicalString(major, minor, patch, preRelease, build);
         }
     }
 }
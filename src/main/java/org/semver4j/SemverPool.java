@@ -0,0 +1,182 @@
+package org.semver4j;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A pool of canonical {@link Semver} instances, used to deduplicate equal versions when many of them are kept in
+ * memory.
+ *
+ * <p>{@link #intern(Semver)} returns the instance of the pool equal to the given version, adding the version to the
+ * pool if there is none. The pool only references its instances weakly, so an entry goes away once the version is not
+ * used anymore.
+ *
+ * <p>A pool is safe for concurrent use and does not lock: entries are kept in a {@link ConcurrentHashMap} keyed by the
+ * version string, and the statistics are {@link LongAdder}s. When two threads intern equal versions at the same time,
+ * both get the instance which made it into the pool.
+ *
+ * <p>Interning is opt-in: versions are not pooled unless interned, either in a pool of their own or in the
+ * {@linkplain #getDefault() default pool} with {@link Semver#intern()}.
+ *
+ * @since 6.1.0
+ */
+public final class SemverPool {
+    private static final SemverPool DEFAULT = new SemverPool();
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ReferenceQueue<Semver> collected = new ReferenceQueue<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /** Creates an empty pool. */
+    public SemverPool() {}
+
+    /**
+     * Returns the pool used by {@link Semver#intern()}.
+     *
+     * @return the default pool
+     */
+    public static SemverPool getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Returns the pooled instance equal to the given version, adding the version to the pool if there is none.
+     *
+     * @param version the version to intern
+     * @return the pooled instance equal to {@code version}
+     * @throws NullPointerException if the version is {@code null}
+     */
+    public Semver intern(Semver version) {
+        requireNonNull(version, "version must not be null");
+
+        String key = version.getVersion();
+        Semver pooled = lookup(key);
+        if (pooled != null) {
+            return pooled;
+        }
+        return add(key, version);
+    }
+
+    /**
+     * Returns the pooled instance of the given version string, parsing and adding it to the pool if there is none.
+     *
+     * <p>A canonical version string (without {@code v} prefix) already in the pool is found without being parsed.
+     *
+     * @param version the version string to intern
+     * @return the pooled instance of {@code version}
+     * @throws NullPointerException if the version is {@code null}
+     * @throws SemverException if the version is not valid
+     */
+    public Semver intern(String version) {
+        requireNonNull(version, "version must not be null");
+
+        Semver pooled = lookup(version.trim());
+        if (pooled != null) {
+            return pooled;
+        }
+        return intern(new Semver(version));
+    }
+
+    /**
+     * Returns the number of versions in the pool. Versions which are not used anymore may still be counted until they
+     * are garbage collected.
+     *
+     * @return the number of pooled versions
+     */
+    public int size() {
+        expungeCollectedEntries();
+        return entries.size();
+    }
+
+    /**
+     * Returns how many times an interned version was found in the pool.
+     *
+     * @return the number of hits
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns how many times an interned version was not found in the pool, and was added to it.
+     *
+     * @return the number of misses
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the ratio of interned versions that were found in the pool.
+     *
+     * @return the hit rate, between {@code 0} and {@code 1}; {@code 0} if nothing was interned yet
+     */
+    public double getHitRate() {
+        long hitCount = getHitCount();
+        long total = hitCount + getMissCount();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    /** Removes all the versions from the pool and resets its statistics. */
+    public void clear() {
+        entries.clear();
+        hits.reset();
+        misses.reset();
+        expungeCollectedEntries();
+    }
+
+    private @Nullable Semver lookup(String key) {
+        expungeCollectedEntries();
+
+        Entry entry = entries.get(key);
+        Semver pooled = entry == null ? null : entry.get();
+        if (pooled != null) {
+            hits.increment();
+        }
+        return pooled;
+    }
+
+    private Semver add(String key, Semver version) {
+        misses.increment();
+
+        Entry entry = new Entry(key, version, collected);
+        while (true) {
+            Entry existing = entries.putIfAbsent(key, entry);
+            if (existing == null) {
+                return version;
+            }
+            Semver pooled = existing.get();
+            if (pooled != null) {
+                // Interned concurrently by another thread
+                return pooled;
+            }
+            if (entries.replace(key, existing, entry)) {
+                return version;
+            }
+        }
+    }
+
+    private void expungeCollectedEntries() {
+        Reference<? extends Semver> reference;
+        while ((reference = collected.poll()) != null) {
+            Entry entry = (Entry) reference;
+            entries.remove(entry.key, entry);
+        }
+    }
+
+    private static final class Entry extends WeakReference<Semver> {
+        private final String key;
+
+        private Entry(String key, Semver version, ReferenceQueue<Semver> queue) {
+            super(version, queue);
+            this.key = key;
+        }
+    }
+}
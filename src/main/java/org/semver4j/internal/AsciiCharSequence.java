@@ -0,0 +1,98 @@
+package org.semver4j.internal;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.util.Objects.checkFromIndexSize;
+import static java.util.Objects.checkFromToIndex;
+import static java.util.Objects.checkIndex;
+import static java.util.Objects.requireNonNull;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A read-only {@link CharSequence} view over a slice of ASCII encoded bytes.
+ *
+ * <p>Characters are read directly from the underlying array, so the bytes can be scanned in place. Strings are only
+ * allocated when {@link #subSequence(int, int)} or {@link #toString()} is called. Bytes outside the ASCII range are
+ * exposed as the characters {@code U+0080}-{@code U+00FF}, none of which are valid in a version.
+ *
+ * <p>The view is not a copy: changes to the underlying bytes are visible through it.
+ */
+public final class AsciiCharSequence implements CharSequence {
+    private final byte[] bytes;
+    private final int offset;
+    private final int length;
+
+    private AsciiCharSequence(byte[] bytes, int offset, int length) {
+        this.bytes = bytes;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * Creates a view over {@code length} bytes of the array, starting at {@code offset}.
+     *
+     * @param bytes the ASCII encoded bytes
+     * @param offset index of the first byte of the slice
+     * @param length number of bytes in the slice
+     * @return a view over the slice
+     * @throws IndexOutOfBoundsException if the slice is out of the array bounds
+     */
+    public static AsciiCharSequence of(byte[] bytes, int offset, int length) {
+        requireNonNull(bytes, "bytes must not be null");
+        checkFromIndexSize(offset, length, bytes.length);
+        return new AsciiCharSequence(bytes, offset, length);
+    }
+
+    /**
+     * Creates a view over {@code length} bytes of the buffer, starting at the absolute index {@code offset}.
+     *
+     * <p>The position and limit of the buffer are neither used nor modified. Buffers backed by an accessible array are
+     * read in place; the slice of any other buffer (e.g. a direct or read-only one) is copied once.
+     *
+     * @param buffer the ASCII encoded bytes
+     * @param offset absolute index of the first byte of the slice
+     * @param length number of bytes in the slice
+     * @return a view over the slice
+     * @throws IndexOutOfBoundsException if the slice is out of the buffer capacity
+     */
+    public static AsciiCharSequence of(ByteBuffer buffer, int offset, int length) {
+        requireNonNull(buffer, "buffer must not be null");
+        checkFromIndexSize(offset, length, buffer.capacity());
+        if (buffer.hasArray()) {
+            return new AsciiCharSequence(buffer.array(), buffer.arrayOffset() + offset, length);
+        }
+
+        byte[] copy = new byte[length];
+        buffer.get(offset, copy);
+        return new AsciiCharSequence(copy, 0, length);
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        checkIndex(index, length);
+        return (char) (bytes[offset + index] & 0xFF);
+    }
+
+    /**
+     * Returns the characters of the given range as a new {@link String}.
+     *
+     * @param start the start index, inclusive
+     * @param end the end index, exclusive
+     * @return the characters of the range
+     */
+    @Override
+    public String subSequence(int start, int end) {
+        checkFromToIndex(start, end, length);
+        return new String(bytes, offset + start, end - start, US_ASCII);
+    }
+
+    @Override
+    public String toString() {
+        return new String(bytes, offset, length, US_ASCII);
+    }
+}
@@ -1,23 +1,27 @@
 package org.semver4j.internal;
 
 import static java.lang.Math.max;
+import static org.semver4j.internal.Identifiers.NUMERIC;
+import static org.semver4j.internal.Identifiers.UNDEFINED;
+import static org.semver4j.internal.Identifiers.end;
+import static org.semver4j.internal.Identifiers.hasDigits;
+import static org.semver4j.internal.Identifiers.isNumeric;
+import static org.semver4j.internal.Identifiers.kind;
+import static org.semver4j.internal.Identifiers.value;
 
 import java.util.List;
-import org.jspecify.annotations.Nullable;
 import org.semver4j.Semver;
 
 /**
  * Utility class for comparing semantic versions according to the SemVer specification. This class provides
  * functionality to compare two {@link Semver} objects.
+ *
+ * <p>{@code pre-release} identifiers are compared using the classification precomputed by {@link Identifiers}, and by
+ * scanning the characters of the backing version strings in place otherwise, without regular expressions or
+ * allocations. Identifiers mixing letters and digits are compared chunk by chunk, with the rules this class has always
+ * applied (see {@link #compareSuffixes(String, int, int, String, int, int)}).
  */
 public class Comparator {
-    private static final String ALL_DIGITS = "^\\d+$";
-    private static final String CONTAINS_DIGITS = ".*\\d.*";
-    private static final String TRAILING_DIGITS_EXTRACT = "(?<=\\D)(?=\\d)";
-    private static final String LEADING_DIGITS_EXTRACT = "(?<=\\d)(?=\\D)";
-
-    private static final String UNDEFINED_MARKER = "undef";
-
     /** Private constructor to prevent instantiation of this utility class. */
     private Comparator() {}
 
@@ -52,91 +56,205 @@ public class Comparator {
     }
 
     private static int preReleaseCompare(Semver version, Semver other) {
-        if (!version.getPreRelease().isEmpty() && other.getPreRelease().isEmpty()) {
+        List<String> preRelease = version.getPreRelease();
+        List<String> otherPreRelease = other.getPreRelease();
+        if (!preRelease.isEmpty() && otherPreRelease.isEmpty()) {
             return -1;
-        } else if (version.getPreRelease().isEmpty() && !other.getPreRelease().isEmpty()) {
+        } else if (preRelease.isEmpty() && !otherPreRelease.isEmpty()) {
             return 1;
-        } else if (version.getPreRelease().isEmpty() && other.getPreRelease().isEmpty()) {
+        } else if (preRelease.isEmpty()) {
             return 0;
         }
 
-        int maxElements =
-                max(version.getPreRelease().size(), other.getPreRelease().size());
-
-        int i = 0;
-        do {
-            String a = getString(i, version.getPreRelease());
-            String b = getString(i, other.getPreRelease());
-
-            i++;
+        int maxElements = max(preRelease.size(), otherPreRelease.size());
+        for (int i = 0; i < maxElements; i++) {
+            // A missing identifier and an identifier spelled "undef" are treated alike
+            long packed = i < preRelease.size() ? Identifiers.packed(preRelease, i) : UNDEFINED;
+            long otherPacked = i < otherPreRelease.size() ? Identifiers.packed(otherPreRelease, i) : UNDEFINED;
+            int kind = kind(packed);
+            int otherKind = kind(otherPacked);
 
-            if (a.equals(UNDEFINED_MARKER) && b.equals(UNDEFINED_MARKER)) {
+            if (kind == UNDEFINED && otherKind == UNDEFINED) {
                 return 0;
-            } else if (b.equals(UNDEFINED_MARKER)) {
+            } else if (otherKind == UNDEFINED) {
                 return 1;
-            } else if (a.equals(UNDEFINED_MARKER)) {
+            } else if (kind == UNDEFINED) {
                 return -1;
-            } else if (a.equals(b)) {
+            }
+
+            String a = Identifiers.source(preRelease, i);
+            int aStart = Identifiers.start(preRelease, i);
+            int aEnd = end(packed);
+            String b = Identifiers.source(otherPreRelease, i);
+            int bStart = Identifiers.start(otherPreRelease, i);
+            int bEnd = end(otherPacked);
+            if (regionEquals(a, aStart, aEnd, b, bStart, bEnd)) {
                 continue;
             }
 
-            return compareIdentifiers(a, b);
-        } while (maxElements > i);
+            if (kind == NUMERIC && otherKind == NUMERIC) {
+                return Long.compare(value(packed), value(otherPacked));
+            }
+            if (isNumeric(kind) && isNumeric(otherKind)) {
+                return compareNumbers(a, aStart, aEnd, b, bStart, bEnd);
+            }
+            if (hasDigits(kind) && hasDigits(otherKind)) {
+                return compareSuffixes(a, aStart, aEnd, b, bStart, bEnd);
+            }
+            return compareLexically(a, aStart, aEnd, b, bStart, bEnd);
+        }
 
         return 0;
     }
 
-    private static int compareIdentifiers(String a, String b) {
-        // Only attempt to parse fully numeric string sequences so that we can avoid
-        // raising a costly exception
-        if (a.matches(ALL_DIGITS) && b.matches(ALL_DIGITS)) {
-            long aAsLong = Long.parseLong(a);
-            long bAsLong = Long.parseLong(b);
-            return Long.compare(aAsLong, bAsLong);
-        }
+    /**
+     * Compares the suffixes {@code a[aStart..aEnd]} and {@code b[bStart..bEnd]} of two identifiers.
+     *
+     * <ul>
+     *   <li>suffixes made of digits only are compared numerically,
+     *   <li>suffixes which both contain digits are split into tokens, each starting where a digit follows a non-digit.
+     *       The suffix with fewer tokens is lower. If the first tokens are equal, the digits starting the second tokens
+     *       are compared numerically; on a tie, a second token made of digits only is lower. On a further tie the
+     *       comparison continues with the suffixes following the first character of the first occurrence of those
+     *       digits,
+     *   <li>anything else is compared lexically.
+     * </ul>
+     */
+    private static int compareSuffixes(String a, int aStart, int aEnd, String b, int bStart, int bEnd) {
+        while (true) {
+            int aDigits = skipDigits(a, aStart, aEnd);
+            int bDigits = skipDigits(b, bStart, bEnd);
+            if (aDigits == aEnd && bDigits == bEnd) {
+                return compareNumbers(a, aStart, aDigits, b, bStart, bDigits);
+            }
+            if (!containsDigit(a, aStart, aEnd) || !containsDigit(b, bStart, bEnd)) {
+                return compareLexically(a, aStart, aEnd, b, bStart, bEnd);
+            }
+
+            int aTokens = countTokens(a, aStart, aEnd);
+            int bTokens = countTokens(b, bStart, bEnd);
+            if (aTokens != bTokens) {
+                return aTokens - bTokens;
+            }
 
-        if (a.matches(CONTAINS_DIGITS) && b.matches(CONTAINS_DIGITS)) {
-            Integer alphaNumericComparison = checkAlphanumericPrerelease(a, b);
-            if (alphaNumericComparison != null) {
-                return alphaNumericComparison;
+            int aSecondToken = nextToken(a, aStart, aEnd);
+            int bSecondToken = nextToken(b, bStart, bEnd);
+            if (!regionEquals(a, aStart, aSecondToken, b, bStart, bSecondToken)) {
+                return compareLexically(a, aStart, aEnd, b, bStart, bEnd);
             }
+            if (aSecondToken == aEnd) {
+                // A single token on both sides: the suffixes are equal
+                return 0;
+            }
+
+            int aNumberEnd = skipDigits(a, aSecondToken, aEnd);
+            int bNumberEnd = skipDigits(b, bSecondToken, bEnd);
+            int numberCompare = compareNumbers(a, aSecondToken, aNumberEnd, b, bSecondToken, bNumberEnd);
+            if (numberCompare != 0) {
+                return numberCompare;
+            }
+
+            int aParts = aNumberEnd < aEnd ? 2 : 1;
+            int bParts = bNumberEnd < bEnd ? 2 : 1;
+            if (aParts != bParts) {
+                return aParts - bParts;
+            }
+
+            aStart = indexOf(a, aStart, aSecondToken, aNumberEnd) + 1;
+            bStart = indexOf(b, bStart, bSecondToken, bNumberEnd) + 1;
         }
+    }
 
-        int i = a.compareTo(b);
-        if (i > 0) {
-            return 1;
-        } else if (i < 0) {
-            return -1;
+    /** Compares two runs of digits by their numeric value, whatever their length. */
+    private static int compareNumbers(String a, int aStart, int aEnd, String b, int bStart, int bEnd) {
+        while (aStart < aEnd - 1 && a.charAt(aStart) == '0') {
+            aStart++;
+        }
+        while (bStart < bEnd - 1 && b.charAt(bStart) == '0') {
+            bStart++;
+        }
+
+        int lengthCompare = Integer.compare(aEnd - aStart, bEnd - bStart);
+        if (lengthCompare != 0) {
+            return lengthCompare;
+        }
+        for (int i = 0; i < aEnd - aStart; i++) {
+            int charCompare = Character.compare(a.charAt(aStart + i), b.charAt(bStart + i));
+            if (charCompare != 0) {
+                return charCompare < 0 ? -1 : 1;
+            }
         }
         return 0;
     }
 
-    private static @Nullable Integer checkAlphanumericPrerelease(String a, String b) {
-        String[] tokenArrA = a.split(TRAILING_DIGITS_EXTRACT);
-        String[] tokenArrB = b.split(TRAILING_DIGITS_EXTRACT);
-        if (tokenArrA.length != tokenArrB.length) {
-            return tokenArrA.length - tokenArrB.length;
+    private static int compareLexically(String a, int aStart, int aEnd, String b, int bStart, int bEnd) {
+        int aLength = aEnd - aStart;
+        int bLength = bEnd - bStart;
+        int length = Math.min(aLength, bLength);
+        for (int i = 0; i < length; i++) {
+            char aChar = a.charAt(aStart + i);
+            char bChar = b.charAt(bStart + i);
+            if (aChar != bChar) {
+                return aChar < bChar ? -1 : 1;
+            }
+        }
+        return Integer.signum(aLength - bLength);
+    }
+
+    private static int skipDigits(String s, int start, int end) {
+        int position = start;
+        while (position < end && isDigit(s.charAt(position))) {
+            position++;
         }
-        if (tokenArrA[0].equals(tokenArrB[0])) {
-            String[] leadingDigitsArrA = tokenArrA[1].split(LEADING_DIGITS_EXTRACT);
-            String[] leadingDigitsArrB = tokenArrB[1].split(LEADING_DIGITS_EXTRACT);
-            long digitA = Long.parseLong(leadingDigitsArrA[0]);
-            long digitB = Long.parseLong(leadingDigitsArrB[0]);
-            int digitComparison = Long.compare(digitA, digitB);
-            if (digitComparison != 0) {
-                return digitComparison;
-            } else if (leadingDigitsArrA.length != leadingDigitsArrB.length) {
-                return leadingDigitsArrA.length - leadingDigitsArrB.length;
-            } else {
-                return compareIdentifiers(
-                        a.substring(a.indexOf(leadingDigitsArrA[0]) + 1),
-                        b.substring(b.indexOf(leadingDigitsArrB[0]) + 1));
+        return position;
+    }
+
+    private static boolean containsDigit(String s, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (isDigit(s.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Counts the tokens of {@code s[start..end]}, a new token starting wherever a digit follows a non-digit. */
+    private static int countTokens(String s, int start, int end) {
+        int tokens = 1;
+        for (int i = start + 1; i < end; i++) {
+            if (isDigit(s.charAt(i)) && !isDigit(s.charAt(i - 1))) {
+                tokens++;
+            }
+        }
+        return tokens;
+    }
+
+    /** Returns the start of the token following the one at {@code start}, or {@code end} if none. */
+    private static int nextToken(String s, int start, int end) {
+        for (int i = start + 1; i < end; i++) {
+            if (isDigit(s.charAt(i)) && !isDigit(s.charAt(i - 1))) {
+                return i;
+            }
+        }
+        return end;
+    }
+
+    private static boolean regionEquals(String a, int aStart, int aEnd, String b, int bStart, int bEnd) {
+        return aEnd - aStart == bEnd - bStart && a.regionMatches(aStart, b, bStart, aEnd - aStart);
+    }
+
+    /** Returns the index of the first occurrence of {@code s[from..to]} in {@code s}, searching from {@code start}. */
+    private static int indexOf(String s, int start, int from, int to) {
+        int length = to - from;
+        for (int i = start; i < from; i++) {
+            if (s.regionMatches(i, s, from, length)) {
+                return i;
             }
         }
-        return null;
+        return from;
     }
 
-    private static String getString(int i, List<String> list) {
-        return list.size() > i ? list.get(i) : UNDEFINED_MARKER;
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
     }
 }
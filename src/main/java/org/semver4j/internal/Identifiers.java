@@ -0,0 +1,238 @@
+package org.semver4j.internal;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * An immutable list of {@code pre-release} or {@code build} identifiers backed by a region of a version string.
+ *
+ * <p>The identifiers are not stored as separate strings: the list keeps the version string and, for each identifier, a
+ * single {@code long} packing where the identifier ends and the classification used by {@link Comparator}. An
+ * identifier is only materialized as a {@link String} when it is read with {@link #get(int)}, and comparing or
+ * formatting versions reads the backing string in place.
+ *
+ * <p>The packed data of an identifier is laid out as follows, from the lowest bits:
+ *
+ * <ul>
+ *   <li>3 bits: the kind of the identifier, one of {@link #NUMERIC}, {@link #NUMERIC_TOO_BIG}, {@link #WITH_DIGITS},
+ *       {@link #WITHOUT_DIGITS} or {@link #UNDEFINED} (the identifier {@code undef}, which {@link Comparator} treats as
+ *       a missing identifier),
+ *   <li>28 bits: the index, in the backing string, right after the identifier,
+ *   <li>32 bits: the value of a {@link #NUMERIC} identifier.
+ * </ul>
+ *
+ * <p>Lists are serialized as plain immutable lists of strings.
+ */
+public final class Identifiers extends AbstractList<String> implements RandomAccess, Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /** Digits only, with a value lower than {@code 2^32}. */
+    static final int NUMERIC = 0;
+    /** Digits only, with a value too big to be packed. */
+    static final int NUMERIC_TOO_BIG = 1;
+    /** Digits and other characters. */
+    static final int WITH_DIGITS = 2;
+    /** No digits. */
+    static final int WITHOUT_DIGITS = 3;
+    /** The identifier {@code undef}. */
+    static final int UNDEFINED = 4;
+
+    private static final int KIND_BITS = 3;
+    private static final int END_BITS = 28;
+    private static final int VALUE_SHIFT = KIND_BITS + END_BITS;
+    private static final long MAX_VALUE = 0xFFFF_FFFFL;
+
+    private static final String UNDEFINED_IDENTIFIER = "undef";
+
+    private final String source;
+    private final int start;
+    private final long[] identifiers;
+
+    private Identifiers(String source, int start, long[] identifiers) {
+        this.source = source;
+        this.start = start;
+        this.identifiers = identifiers;
+    }
+
+    /**
+     * Returns the dot-separated identifiers found in {@code source[start..end]} as a list backed by {@code source}.
+     *
+     * <p>The region must contain valid identifiers; it is not validated again.
+     *
+     * @param source the version string containing the identifiers
+     * @param start index of the first character of the first identifier
+     * @param end index right after the last identifier
+     * @return the identifiers, or an empty list if the region is empty
+     */
+    public static List<String> of(String source, int start, int end) {
+        if (start >= end) {
+            return List.of();
+        }
+        if (end >>> END_BITS != 0) {
+            // Too long to pack the offsets, which only happens with absurd inputs
+            return List.of(source.substring(start, end).split("\\."));
+        }
+
+        int count = 1;
+        for (int i = start; i < end; i++) {
+            if (source.charAt(i) == '.') {
+                count++;
+            }
+        }
+
+        long[] identifiers = new long[count];
+        int identifierStart = start;
+        int index = 0;
+        for (int i = start; i <= end; i++) {
+            if (i == end || source.charAt(i) == '.') {
+                identifiers[index++] = classify(source, identifierStart, i);
+                identifierStart = i + 1;
+            }
+        }
+        return new Identifiers(source, start, identifiers);
+    }
+
+    /**
+     * Returns the packed data of the identifier at the given index, computing it if the list is not backed by a version
+     * string. The end offset is then relative to the identifier itself.
+     */
+    static long packed(List<String> identifiers, int index) {
+        if (identifiers instanceof Identifiers) {
+            return ((Identifiers) identifiers).identifiers[index];
+        }
+        String identifier = identifiers.get(index);
+        return classify(identifier, 0, identifier.length());
+    }
+
+    /** Returns the string in which the identifier at the given index is found. */
+    static String source(List<String> identifiers, int index) {
+        if (identifiers instanceof Identifiers) {
+            return ((Identifiers) identifiers).source;
+        }
+        return identifiers.get(index);
+    }
+
+    /** Returns the index, in {@link #source(List, int)}, of the first character of the identifier. */
+    static int start(List<String> identifiers, int index) {
+        if (identifiers instanceof Identifiers) {
+            return ((Identifiers) identifiers).start(index);
+        }
+        return 0;
+    }
+
+    static int kind(long packed) {
+        return (int) packed & ((1 << KIND_BITS) - 1);
+    }
+
+    static int end(long packed) {
+        return (int) (packed >>> KIND_BITS) & ((1 << END_BITS) - 1);
+    }
+
+    static long value(long packed) {
+        return packed >>> VALUE_SHIFT;
+    }
+
+    static boolean isNumeric(int kind) {
+        return kind == NUMERIC || kind == NUMERIC_TOO_BIG;
+    }
+
+    static boolean hasDigits(int kind) {
+        return kind <= WITH_DIGITS;
+    }
+
+    private static long classify(String source, int start, int end) {
+        int kind;
+        long value = 0;
+        if (source.startsWith(UNDEFINED_IDENTIFIER, start) && end - start == UNDEFINED_IDENTIFIER.length()) {
+            kind = UNDEFINED;
+        } else {
+            int digits = 0;
+            for (int i = start; i < end; i++) {
+                char c = source.charAt(i);
+                if (c >= '0' && c <= '9') {
+                    digits++;
+                    if (value <= MAX_VALUE) {
+                        value = value * 10 + (c - '0');
+                    }
+                }
+            }
+
+            if (digits == 0) {
+                kind = WITHOUT_DIGITS;
+            } else if (digits < end - start) {
+                kind = WITH_DIGITS;
+            } else {
+                kind = value <= MAX_VALUE ? NUMERIC : NUMERIC_TOO_BIG;
+            }
+            if (kind != NUMERIC) {
+                value = 0;
+            }
+        }
+        return value << VALUE_SHIFT | (long) end << KIND_BITS | kind;
+    }
+
+    private int start(int index) {
+        return index == 0 ? start : end(identifiers[index - 1]) + 1;
+    }
+
+    private int end(int index) {
+        return end(identifiers[index]);
+    }
+
+    /**
+     * Appends the identifiers to a version being formatted, each preceded by {@code prefix} for the first one and by a
+     * dot for the others.
+     *
+     * @param builder the version being formatted
+     * @param prefix the separator preceding the first identifier
+     * @param identifiers the identifiers to append
+     */
+    public static void appendTo(StringBuilder builder, char prefix, List<String> identifiers) {
+        if (identifiers instanceof Identifiers) {
+            Identifiers view = (Identifiers) identifiers;
+            builder.append(prefix).append(view.source, view.start, view.end(view.identifiers.length - 1));
+            return;
+        }
+        for (int i = 0; i < identifiers.size(); i++) {
+            builder.append(i == 0 ? prefix : '.').append(identifiers.get(i));
+        }
+    }
+
+    @Override
+    public String get(int index) {
+        return source.substring(start(index), end(index));
+    }
+
+    @Override
+    public int size() {
+        return identifiers.length;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        if (o instanceof Identifiers) {
+            Identifiers that = (Identifiers) o;
+            int end = end(identifiers.length - 1);
+            int thatEnd = that.end(that.identifiers.length - 1);
+            // The identifiers are equal exactly when the dot-separated regions are
+            return end - start == thatEnd - that.start
+                    && source.regionMatches(start, that.source, that.start, end - start);
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    @Serial
+    private Object writeReplace() {
+        return List.copyOf(this);
+    }
+}
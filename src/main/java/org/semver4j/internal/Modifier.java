@@ -1,22 +1,17 @@
 package org.semver4j.internal;
 
-import static java.lang.String.format;
-import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 
-import java.util.List;
-import java.util.Locale;
 import org.semver4j.Semver;
 
 /**
  * Utility class for semantic versioning operations. Provides methods to manipulate and transform {@link Semver}
  * instances according to semantic versioning specifications.
+ *
+ * <p>New versions are derived with {@link Semver#toBuilder()}, so unchanged components and identifiers are reused as
+ * they are and only new identifiers are validated.
  */
 public class Modifier {
-    private static final String FULL_FORMAT = "%d.%d.%d";
-    private static final String MAJOR_FORMAT = "%d.0.0";
-    private static final String MAJOR_MINOR_FORMAT = "%d.%d.0";
-
     /** Private constructor to prevent instantiation of utility class. */
     private Modifier() {}
 
@@ -40,8 +35,12 @@ public class Modifier {
             nextMajor = nextMajor + 1;
         }
 
-        String newVersion = createFullVersion(version, format(Locale.ROOT, MAJOR_FORMAT, nextMajor), emptyList());
-        return new Semver(newVersion);
+        return version.toBuilder()
+                .withMajor(nextMajor)
+                .withMinor(0)
+                .withPatch(0)
+                .withPreReleases(emptyList())
+                .build();
     }
 
     /**
@@ -52,11 +51,7 @@ public class Modifier {
      * @return a new {@link Semver} instance with increased {@code major} version
      */
     public static Semver withIncMajor(Semver version, int number) {
-        String newVersion = createFullVersion(
-                version,
-                format(Locale.ROOT, FULL_FORMAT, (version.getMajor() + number), version.getMinor(), version.getPatch()),
-                version.getPreRelease());
-        return new Semver(newVersion);
+        return version.toBuilder().withMajor(version.getMajor() + number).build();
     }
 
     /**
@@ -76,9 +71,11 @@ public class Modifier {
             nextMinor = nextMinor + 1;
         }
 
-        String newVersion = createFullVersion(
-                version, format(Locale.ROOT, MAJOR_MINOR_FORMAT, version.getMajor(), nextMinor), emptyList());
-        return new Semver(newVersion);
+        return version.toBuilder()
+                .withMinor(nextMinor)
+                .withPatch(0)
+                .withPreReleases(emptyList())
+                .build();
     }
 
     /**
@@ -89,11 +86,7 @@ public class Modifier {
      * @return a new {@link Semver} instance with increased {@code minor} version
      */
     public static Semver withIncMinor(Semver version, int number) {
-        String newVersion = createFullVersion(
-                version,
-                format(Locale.ROOT, FULL_FORMAT, version.getMajor(), (version.getMinor() + number), version.getPatch()),
-                version.getPreRelease());
-        return new Semver(newVersion);
+        return version.toBuilder().withMinor(version.getMinor() + number).build();
     }
 
     /**
@@ -113,11 +106,10 @@ public class Modifier {
             newPatch = newPatch + 1;
         }
 
-        String newVersion = createFullVersion(
-                version,
-                format(Locale.ROOT, FULL_FORMAT, version.getMajor(), version.getMinor(), newPatch),
-                emptyList());
-        return new Semver(newVersion);
+        return version.toBuilder()
+                .withPatch(newPatch)
+                .withPreReleases(emptyList())
+                .build();
     }
 
     /**
@@ -128,11 +120,7 @@ public class Modifier {
      * @return a new {@link Semver} instance with increased {@code patch} version
      */
     public static Semver withIncPatch(Semver version, int number) {
-        String newVersion = createFullVersion(
-                version,
-                format(Locale.ROOT, FULL_FORMAT, version.getMajor(), version.getMinor(), (version.getPatch() + number)),
-                version.getPreRelease());
-        return new Semver(newVersion);
+        return version.toBuilder().withPatch(version.getPatch() + number).build();
     }
 
     /**
@@ -143,13 +131,7 @@ public class Modifier {
      * @return a new {@link Semver} instance with the specified {@code pre-release} identifier
      */
     public static Semver withPreRelease(Semver version, String preRelease) {
-        List<String> newPreRelease = asList(preRelease.split("\\."));
-
-        String newVersion = createFullVersion(
-                version,
-                format(Locale.ROOT, FULL_FORMAT, version.getMajor(), version.getMinor(), version.getPatch()),
-                newPreRelease);
-        return new Semver(newVersion);
+        return version.toBuilder().withPreReleases(preRelease.split("\\.")).build();
     }
 
     /**
@@ -160,13 +142,7 @@ public class Modifier {
      * @return a new {@link Semver} instance with the specified {@code build} metadata
      */
     public static Semver withBuild(Semver version, String build) {
-        List<String> newBuild = asList(build.split("\\."));
-
-        String newVersion = createFullVersion(
-                format(Locale.ROOT, FULL_FORMAT, version.getMajor(), version.getMinor(), version.getPatch()),
-                version.getPreRelease(),
-                newBuild);
-        return new Semver(newVersion);
+        return version.toBuilder().withBuilds(build.split("\\.")).build();
     }
 
     /**
@@ -176,11 +152,7 @@ public class Modifier {
      * @return a new {@link Semver} instance without {@code pre-release} identifier
      */
     public static Semver withClearedPreRelease(Semver version) {
-        String newVersion = createFullVersion(
-                version,
-                format(Locale.ROOT, FULL_FORMAT, version.getMajor(), version.getMinor(), version.getPatch()),
-                emptyList());
-        return new Semver(newVersion);
+        return version.toBuilder().withPreReleases(emptyList()).build();
     }
 
     /**
@@ -190,11 +162,7 @@ public class Modifier {
      * @return a new {@link Semver} instance without {@code build} metadata
      */
     public static Semver withClearedBuild(Semver version) {
-        String newVersion = createFullVersion(
-                format(Locale.ROOT, FULL_FORMAT, version.getMajor(), version.getMinor(), version.getPatch()),
-                version.getPreRelease(),
-                emptyList());
-        return new Semver(newVersion);
+        return version.toBuilder().withBuilds(emptyList()).build();
     }
 
     /**
@@ -204,33 +172,9 @@ public class Modifier {
      * @return a new {@link Semver} instance without {@code pre-release} identifier and build metadata
      */
     public static Semver withClearedPreReleaseAndBuild(Semver version) {
-        String newVersion =
-                format(Locale.ROOT, FULL_FORMAT, version.getMajor(), version.getMinor(), version.getPatch());
-        return new Semver(newVersion);
-    }
-
-    private static String createFullVersion(Semver version, String main, List<String> preRelease) {
-        return createFullVersion(main, preRelease, version.getBuild());
-    }
-
-    private static String createFullVersion(String main, List<String> preRelease, List<String> build) {
-        StringBuilder stringBuilder = new StringBuilder(main);
-
-        if (!preRelease.isEmpty()) {
-            stringBuilder.append("-");
-            for (String s : preRelease) {
-                stringBuilder.append(s).append(".");
-            }
-            stringBuilder.deleteCharAt(stringBuilder.length() - 1);
-        }
-
-        if (!build.isEmpty()) {
-            stringBuilder.append("+");
-            for (String s : build) {
-                stringBuilder.append(s).append(".");
-            }
-            stringBuilder.deleteCharAt(stringBuilder.length() - 1);
-        }
-        return stringBuilder.toString();
+        return version.toBuilder()
+                .withPreReleases(emptyList())
+                .withBuilds(emptyList())
+                .build();
     }
 }
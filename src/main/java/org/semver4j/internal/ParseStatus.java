@@ -0,0 +1,38 @@
+package org.semver4j.internal;
+
+import org.jspecify.annotations.Nullable;
+import org.semver4j.ParseResult.Reason;
+
+/**
+ * Mutable holder filled by {@link VersionParser#tryParse(CharSequence, int, int, ParseStatus)} when parsing fails.
+ *
+ * <p>It lets callers find out why and where a version is invalid without the parser throwing an exception. Instances
+ * are not thread-safe.
+ */
+public final class ParseStatus {
+    private @Nullable Reason reason;
+    private int index = -1;
+
+    /**
+     * Returns the reason of the last failure.
+     *
+     * @return the reason of the failure, {@code null} if no failure was recorded
+     */
+    public @Nullable Reason reason() {
+        return reason;
+    }
+
+    /**
+     * Returns the index, in the parsed character sequence, of the character at which parsing failed.
+     *
+     * @return the index of the failure, {@code -1} if no failure was recorded
+     */
+    public int index() {
+        return index;
+    }
+
+    void fail(Reason reason, int index) {
+        this.reason = reason;
+        this.index = index;
+    }
+}
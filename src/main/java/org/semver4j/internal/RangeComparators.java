@@ -0,0 +1,45 @@
+package org.semver4j.internal;
+
+import static java.util.regex.Pattern.compile;
+import static org.semver4j.internal.Tokenizers.COMPARATOR;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.semver4j.range.Range;
+
+/**
+ * Utility class for parsing ranges written as comparators, such as {@code >=1.2.3 <2.0.0}, the form into which
+ * processors translate the other range notations.
+ */
+public class RangeComparators {
+    private static final Pattern COMPARATOR_PATTERN = compile(COMPARATOR);
+
+    /** Private constructor to prevent instantiation of this utility class. */
+    private RangeComparators() {}
+
+    /**
+     * Parses whitespace-separated comparators into ranges. Anything which is not a comparator is skipped.
+     *
+     * @param comparators the comparators to parse
+     * @return the ranges of the comparators
+     * @throws org.semver4j.SemverException if the version of a comparator is not valid
+     */
+    public static List<Range> parse(String comparators) {
+        List<Range> ranges = new ArrayList<>();
+
+        String[] parsedRanges = comparators.split("\\s+");
+        for (String parsedRange : parsedRanges) {
+            Matcher matcher = COMPARATOR_PATTERN.matcher(parsedRange);
+            if (matcher.matches()) {
+                String rangeOperator = matcher.group(1);
+                String version = matcher.group(2);
+
+                ranges.add(new Range(version, Range.RangeOperator.value(rangeOperator)));
+            }
+        }
+
+        return ranges;
+    }
+}
@@ -0,0 +1,299 @@
+package org.semver4j.internal;
+
+import static java.lang.String.format;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import org.semver4j.Semver;
+import org.semver4j.SemverException;
+
+/**
+ * Utility class encoding versions into binary keys whose unsigned lexicographic order is the precedence order of the
+ * versions, as compared by {@link Comparator}, and decoding them back.
+ *
+ * <p>A key is laid out as follows:
+ *
+ * <ul>
+ *   <li>the {@code major}, {@code minor} and {@code patch} numbers, each as the count of its significant bytes (from
+ *       {@code 0} to {@code 4}) followed by those bytes in big-endian order,
+ *   <li>{@link #RELEASE} for a release version. For a {@code pre-release} version, {@link #PRE_RELEASE}, then each
+ *       {@code pre-release} identifier followed by {@link #IDENTIFIER_END}, then {@link #PRE_RELEASE_END}. The bytes of
+ *       an identifier are its characters, except that each run of digits is {@link #DIGITS}, the count of its
+ *       significant digits, those digits, and the count of its leading zeros, so that runs of digits compare
+ *       numerically,
+ *   <li>the rest of the version string, which does not take part in the precedence: the {@code build} identifiers, and
+ *       the {@code pre-release} identifiers from the first {@code undef} one, which {@link Comparator} treats as the
+ *       end of the identifiers.
+ * </ul>
+ *
+ * <p>The ends of the identifiers and of the {@code pre-release} sort below any character, and {@link #DIGITS} between
+ * the hyphen and the letters, where digits are. The keys then order numeric identifiers numerically, identifiers
+ * without digits in ASCII order, and identifiers mixing letters and digits naturally, with {@code beta2} below
+ * {@code beta10}, as {@link Comparator} does. {@link Comparator} is not transitive on some identifiers mixing digits
+ * and other characters ({@code 2 < 10 < 10a < 2}), those starting with a digit or a hyphen, or with different numbers
+ * of runs of digits ({@code b1 < a1b2 < az < b1}); the keys order them naturally as well, which may differ.
+ */
+public class SortKeys {
+    /** Follows the numbers of a release version. */
+    static final byte RELEASE = 2;
+    /** Follows the numbers of a {@code pre-release} version, before its identifiers. */
+    static final byte PRE_RELEASE = 1;
+    /** Follows each {@code pre-release} identifier. */
+    static final byte IDENTIFIER_END = 1;
+    /** Follows the last {@code pre-release} identifier. */
+    static final byte PRE_RELEASE_END = 0;
+    /** Starts a run of digits in an identifier. */
+    static final byte DIGITS = '0';
+
+    /** The counts from this value on are written on five bytes. */
+    private static final int LONG_COUNT = 0xFF;
+
+    private static final String UNDEFINED_IDENTIFIER = "undef";
+
+    /** Private constructor to prevent instantiation of this utility class. */
+    private SortKeys() {}
+
+    /**
+     * Encodes a version into its sort key.
+     *
+     * @param version the version to encode
+     * @return the sort key of the version
+     */
+    public static byte[] encode(Semver version) {
+        return encode(version, true);
+    }
+
+    /**
+     * Encodes the precedence of a version: the part of its sort key shared by all the versions of the same precedence,
+     * which is also the lowest of their keys.
+     *
+     * @param version the version to encode
+     * @return the sort key of the version without its {@code build} and its {@code pre-release} identifiers from the
+     *     first {@code undef} one
+     */
+    public static byte[] encodePrecedence(Semver version) {
+        return encode(version, false);
+    }
+
+    /**
+     * Checks whether a sort key is the key of a release version.
+     *
+     * @param key the sort key
+     * @return {@code true} if the key encodes a release version, {@code false} if it encodes a {@code pre-release}
+     * @throws SemverException if the key is not a sort key
+     */
+    public static boolean isRelease(byte[] key) {
+        Reader reader = new Reader(key);
+        reader.readNumber();
+        reader.readNumber();
+        reader.readNumber();
+        return reader.read() == RELEASE;
+    }
+
+    private static byte[] encode(Semver version, boolean withRest) {
+        String string = version.getVersion();
+        Buffer key = new Buffer(string.length() + 8);
+        key.writeNumber(version.getMajor());
+        key.writeNumber(version.getMinor());
+        key.writeNumber(version.getPatch());
+
+        // The core numbers only contain digits and dots
+        int rest = 0;
+        while (rest < string.length() && string.charAt(rest) != '-' && string.charAt(rest) != '+') {
+            rest++;
+        }
+        List<String> preRelease = version.getPreRelease();
+        if (preRelease.isEmpty()) {
+            key.write(RELEASE);
+        } else {
+            key.write(PRE_RELEASE);
+            for (String identifier : preRelease) {
+                if (identifier.equals(UNDEFINED_IDENTIFIER)) {
+                    break;
+                }
+                writeIdentifier(key, identifier);
+                key.write(IDENTIFIER_END);
+                rest += identifier.length() + 1;
+            }
+            key.write(PRE_RELEASE_END);
+        }
+        for (int i = rest; withRest && i < string.length(); i++) {
+            key.write((byte) string.charAt(i));
+        }
+        return key.toByteArray();
+    }
+
+    private static void writeIdentifier(Buffer key, String identifier) {
+        int i = 0;
+        while (i < identifier.length()) {
+            if (!isDigit(identifier.charAt(i))) {
+                key.write((byte) identifier.charAt(i++));
+                continue;
+            }
+            int start = i;
+            while (i < identifier.length() && isDigit(identifier.charAt(i))) {
+                i++;
+            }
+            int significant = start;
+            while (significant < i - 1 && identifier.charAt(significant) == '0') {
+                significant++;
+            }
+            key.write(DIGITS);
+            key.writeCount(i - significant);
+            for (int digit = significant; digit < i; digit++) {
+                key.write((byte) identifier.charAt(digit));
+            }
+            key.writeCount(significant - start);
+        }
+    }
+
+    /**
+     * Decodes the version string of a sort key.
+     *
+     * @param key the sort key
+     * @return the canonical string of the version encoded by the key
+     * @throws SemverException if the key is not a sort key
+     */
+    public static String decode(byte[] key) {
+        Reader reader = new Reader(key);
+        StringBuilder version = new StringBuilder(key.length + 8);
+        version.append(reader.readNumber())
+                .append('.')
+                .append(reader.readNumber())
+                .append('.')
+                .append(reader.readNumber());
+
+        byte kind = reader.read();
+        if (kind == PRE_RELEASE) {
+            char separator = '-';
+            for (byte b = reader.read(); b != PRE_RELEASE_END; b = reader.read()) {
+                version.append(separator);
+                separator = '.';
+                for (; b != IDENTIFIER_END; b = reader.read()) {
+                    if (b == DIGITS) {
+                        int digits = reader.readCount();
+                        int digitsStart = reader.position;
+                        reader.skip(digits);
+                        int zeros = reader.readCount();
+                        for (int i = 0; i < zeros; i++) {
+                            version.append('0');
+                        }
+                        version.append(new String(key, digitsStart, digits, StandardCharsets.US_ASCII));
+                    } else {
+                        version.append((char) b);
+                    }
+                }
+            }
+        } else if (kind != RELEASE) {
+            throw reader.invalid();
+        }
+        return version.append(new String(key, reader.position, key.length - reader.position, StandardCharsets.US_ASCII))
+                .toString();
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /** A growable array of bytes. */
+    private static final class Buffer {
+        private byte[] bytes;
+        private int size;
+
+        Buffer(int capacity) {
+            bytes = new byte[capacity];
+        }
+
+        void write(byte b) {
+            if (size == bytes.length) {
+                bytes = Arrays.copyOf(bytes, size * 2);
+            }
+            bytes[size++] = b;
+        }
+
+        /** Writes a non-negative number as the count of its significant bytes followed by those bytes. */
+        void writeNumber(int number) {
+            int length = (Integer.SIZE - Integer.numberOfLeadingZeros(number) + 7) / 8;
+            write((byte) length);
+            for (int i = length - 1; i >= 0; i--) {
+                write((byte) (number >>> (i * 8)));
+            }
+        }
+
+        /** Writes a count on one byte, or on five bytes from {@link #LONG_COUNT} on, which sort above. */
+        void writeCount(int count) {
+            if (count < LONG_COUNT) {
+                write((byte) count);
+                return;
+            }
+            write((byte) LONG_COUNT);
+            for (int i = 3; i >= 0; i--) {
+                write((byte) (count >>> (i * 8)));
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(bytes, size);
+        }
+    }
+
+    /** Reads the parts of a key, failing on anything but a key. */
+    private static final class Reader {
+        private final byte[] key;
+        private int position;
+
+        Reader(byte[] key) {
+            this.key = key;
+        }
+
+        byte read() {
+            if (position >= key.length) {
+                throw invalid();
+            }
+            return key[position++];
+        }
+
+        void skip(int count) {
+            if (count > key.length - position) {
+                throw invalid();
+            }
+            position += count;
+        }
+
+        int readNumber() {
+            int length = read();
+            if (length < 0 || length > 4) {
+                throw invalid();
+            }
+            int number = 0;
+            for (int i = 0; i < length; i++) {
+                number = number << 8 | (read() & 0xFF);
+            }
+            if (number < 0) {
+                throw invalid();
+            }
+            return number;
+        }
+
+        int readCount() {
+            int count = read() & 0xFF;
+            if (count < LONG_COUNT) {
+                return count;
+            }
+            count = 0;
+            for (int i = 0; i < 4; i++) {
+                count = count << 8 | (read() & 0xFF);
+            }
+            if (count < 0) {
+                throw invalid();
+            }
+            return count;
+        }
+
+        SemverException invalid() {
+            return new SemverException(format(Locale.ROOT, "Sort key is not valid at byte %d.", position));
+        }
+    }
+}
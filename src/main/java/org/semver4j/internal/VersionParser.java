@@ -1,15 +1,17 @@
 package org.semver4j.internal;
 
 import static java.lang.String.format;
-import static java.util.regex.Pattern.compile;
-import static org.semver4j.internal.Tokenizers.STRICT;
+import static java.util.Objects.checkFromIndexSize;
+import static org.semver4j.ParseResult.Reason.EMPTY_IDENTIFIER;
+import static org.semver4j.ParseResult.Reason.LEADING_ZERO;
+import static org.semver4j.ParseResult.Reason.UNEXPECTED_CHARACTER;
+import static org.semver4j.ParseResult.Reason.UNEXPECTED_END;
+import static org.semver4j.ParseResult.Reason.VALUE_TOO_BIG;
 
-import java.math.BigInteger;
 import java.util.List;
 import java.util.Locale;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import org.jspecify.annotations.Nullable;
+import org.semver4j.ParseResult.Reason;
 import org.semver4j.SemverException;
 
 /**
@@ -18,13 +20,17 @@ import org.semver4j.SemverException;
  * <p>This class provides functionality to parse a version string into its components: {@code major}, {@code minor},
  * {@code patch}, {@code pre-release} identifiers, and {@code build} metadata.
  *
- * <p>The parser follows strict SemVer rules and validates input against the standard pattern.
+ * <p>The parser follows strict SemVer rules and accepts exactly the grammar described by {@link Tokenizers#STRICT}. The
+ * input is validated and split into its components in a single left-to-right pass, without regular expressions.
  *
  * @see <a href="https://semver.org/">Semantic Versioning Specification</a>
  */
 public class VersionParser {
-    private static final Pattern PATTERN = compile(STRICT);
-    private static final BigInteger MAX_INT = BigInteger.valueOf(Integer.MAX_VALUE);
+    /** Number of decimal digits of {@link Integer#MAX_VALUE}. */
+    private static final int MAX_INT_DIGITS = 10;
+
+    /** Returned by {@link #scan} for a valid version that does not have to be created. */
+    private static final Version VALID = new Version(0, 0, 0);
 
     /** Private constructor to prevent instantiation of this utility class */
     private VersionParser() {}
@@ -37,42 +43,317 @@ public class VersionParser {
      * @throws SemverException if the version string is not a valid semantic version
      */
     public static Version parse(String version) {
-        Matcher matcher = PATTERN.matcher(version);
+        return parse(version, 0, version.length());
+    }
+
+    /**
+     * Parses the semantic version found in a slice of a character sequence.
+     *
+     * <p>The slice is read in place. The {@code pre-release} and {@code build} identifiers are backed by the version
+     * when it is a {@link String}, and by a copy of their region otherwise. Any character outside the slice, including
+     * surrounding whitespace, is ignored; whitespace inside the slice makes the version invalid.
+     *
+     * @param version the character sequence containing the version
+     * @param offset index of the first character of the version
+     * @param length number of characters of the version
+     * @return a {@link Version} object containing the parsed components
+     * @throws IndexOutOfBoundsException if the slice is out of the sequence bounds
+     * @throws SemverException if the slice is not a valid semantic version
+     * @see AsciiCharSequence
+     */
+    public static Version parse(CharSequence version, int offset, int length) {
+        Version parsedVersion = tryParse(version, offset, length, null);
+        if (parsedVersion != null) {
+            return parsedVersion;
+        }
+
+        ParseStatus status = new ParseStatus();
+        tryParse(version, offset, length, status);
+        int end = offset + length;
+        if (status.reason() == VALUE_TOO_BIG) {
+            int numberEnd = status.index();
+            while (numberEnd < end && isDigit(version.charAt(numberEnd))) {
+                numberEnd++;
+            }
+            throw new SemverException(
+                    format(Locale.ROOT, "Value [%s] is too big.", substring(version, status.index(), numberEnd)));
+        }
+        throw new SemverException(
+                format(Locale.ROOT, "Version [%s] is not valid semver.", substring(version, offset, end)));
+    }
+
+    /**
+     * Parses the semantic version found in a slice of a character sequence without throwing an exception when it is not
+     * valid.
+     *
+     * <p>Grammar errors are reported before too big numbers, in the same order in which {@link #parse(CharSequence,
+     * int, int)} reports them.
+     *
+     * @param version the character sequence containing the version
+     * @param offset index of the first character of the version
+     * @param length number of characters of the version
+     * @param status receives the reason and position of the failure; may be {@code null} if they are not needed
+     * @return a {@link Version} object containing the parsed components, {@code null} if the slice is not a valid
+     *     semantic version
+     * @throws IndexOutOfBoundsException if the slice is out of the sequence bounds
+     */
+    public static @Nullable Version tryParse(
+            CharSequence version, int offset, int length, @Nullable ParseStatus status) {
+        return scan(version, offset, length, status, true);
+    }
+
+    /**
+     * Checks whether a slice of a character sequence is a valid semantic version, without creating anything.
+     *
+     * @param version the character sequence containing the version
+     * @param offset index of the first character of the version
+     * @param length number of characters of the version
+     * @return {@code true} if the slice is a valid semantic version, {@code false} otherwise
+     * @throws IndexOutOfBoundsException if the slice is out of the sequence bounds
+     */
+    public static boolean isValid(CharSequence version, int offset, int length) {
+        return scan(version, offset, length, null, false) != null;
+    }
 
-        if (!matcher.matches()) {
-            throw new SemverException(format(Locale.ROOT, "Version [%s] is not valid semver.", version));
+    /**
+     * Scans a slice, returning the parsed version if {@code createVersion} is set or {@link #VALID} otherwise, and
+     * {@code null} if the slice is not valid.
+     */
+    private static @Nullable Version scan(
+            CharSequence version, int offset, int length, @Nullable ParseStatus status, boolean createVersion) {
+        checkFromIndexSize(offset, length, version.length());
+
+        int end = offset + length;
+        int position = offset;
+
+        if (position < end && version.charAt(position) == 'v') {
+            position++;
+        }
+
+        int majorStart = position;
+        int majorEnd = scanNumericIdentifier(version, majorStart, end, status);
+        if (majorEnd < 0 || !expectDot(version, majorEnd, end, status)) {
+            return null;
         }
 
-        int major = parseInt(matcher.group(1));
-        int minor = parseInt(matcher.group(2));
-        int patch = parseInt(matcher.group(3));
-        List<String> preRelease = convertToList(matcher.group(4));
-        List<String> build = convertToList(matcher.group(5));
+        int minorStart = majorEnd + 1;
+        int minorEnd = scanNumericIdentifier(version, minorStart, end, status);
+        if (minorEnd < 0 || !expectDot(version, minorEnd, end, status)) {
+            return null;
+        }
+
+        int patchStart = minorEnd + 1;
+        int patchEnd = scanNumericIdentifier(version, patchStart, end, status);
+        if (patchEnd < 0) {
+            return null;
+        }
+
+        position = patchEnd;
+
+        int preReleaseStart = -1;
+        int preReleaseEnd = -1;
+        if (position < end && version.charAt(position) == '-') {
+            preReleaseStart = position + 1;
+            preReleaseEnd = scanIdentifiers(version, preReleaseStart, end, true, status);
+            if (preReleaseEnd < 0) {
+                return null;
+            }
+            position = preReleaseEnd;
+        }
+
+        int buildStart = -1;
+        int buildEnd = -1;
+        if (position < end && version.charAt(position) == '+') {
+            buildStart = position + 1;
+            buildEnd = scanIdentifiers(version, buildStart, end, false, status);
+            if (buildEnd < 0) {
+                return null;
+            }
+            position = buildEnd;
+        }
+
+        if (position != end) {
+            return fail(status, UNEXPECTED_CHARACTER, position);
+        }
+
+        int major = parseInt(version, majorStart, majorEnd);
+        if (major < 0) {
+            return fail(status, VALUE_TOO_BIG, majorStart);
+        }
+        int minor = parseInt(version, minorStart, minorEnd);
+        if (minor < 0) {
+            return fail(status, VALUE_TOO_BIG, minorStart);
+        }
+        int patch = parseInt(version, patchStart, patchEnd);
+        if (patch < 0) {
+            return fail(status, VALUE_TOO_BIG, patchStart);
+        }
+        if (!createVersion) {
+            return VALID;
+        }
+        List<String> preRelease = toList(version, preReleaseStart, preReleaseEnd);
+        List<String> build = toList(version, buildStart, buildEnd);
 
         return new Version(major, minor, patch, preRelease, build);
     }
 
-    private static int parseInt(@Nullable String maybeInt) {
-        if (maybeInt == null) {
-            throw new SemverException("Value is null and cannot be parsed as an integer.");
+    /**
+     * Checks that every element of the list is a single valid {@code pre-release} or {@code build} identifier.
+     *
+     * <p>This is a cheap character class check, equivalent to parsing the identifiers as part of a version.
+     *
+     * @param identifiers the identifiers to check
+     * @param preRelease {@code true} to check {@code pre-release} identifiers, which must not be numeric with leading
+     *     zeroes, {@code false} to check {@code build} identifiers
+     * @return {@code true} if all identifiers are valid, {@code false} otherwise
+     */
+    public static boolean isValidIdentifiers(List<String> identifiers, boolean preRelease) {
+        for (int i = 0; i < identifiers.size(); i++) {
+            String identifier = identifiers.get(i);
+            int length = identifier.length();
+            if (length == 0
+                    || identifier.indexOf('.') >= 0
+                    || scanIdentifiers(identifier, 0, length, preRelease, null) != length) {
+                return false;
+            }
         }
+        return true;
+    }
 
-        BigInteger secureNumber = new BigInteger(maybeInt);
-        if (MAX_INT.compareTo(secureNumber) < 0) {
-            throw new SemverException(format(Locale.ROOT, "Value [%s] is too big.", maybeInt));
+    /**
+     * Scans a numeric identifier ({@code 0|[1-9]\d*}) starting at the given position.
+     *
+     * @return the position right after the identifier, or {@code -1} if there is no valid identifier at the position
+     */
+    private static int scanNumericIdentifier(CharSequence version, int start, int end, @Nullable ParseStatus status) {
+        int position = start;
+        while (position < end && isDigit(version.charAt(position))) {
+            position++;
         }
+        if (position == start) {
+            return failAt(status, position == end ? UNEXPECTED_END : UNEXPECTED_CHARACTER, position);
+        }
+        if (position - start > 1 && version.charAt(start) == '0') {
+            return failAt(status, LEADING_ZERO, start);
+        }
+        return position;
+    }
 
-        /*
-         * Do not use BigInteger.intValueExact() because it is not available on Android with API < 31.
-         * The use of BigInteger.intValue() here is always valid since the above check guarantees that
-         * the BigInteger is not too big to fit in an int (non-negative integer <= Integer.MAX_VALUE).
-         * In other words, BigInteger.intValueExact() would never throw, meaning, it is not necessary.
-         */
-        return secureNumber.intValue();
+    /**
+     * Scans a dot-separated series of {@code pre-release} or {@code build} identifiers starting at the given position.
+     *
+     * <p>Both kinds of identifiers are non-empty sequences of {@code [0-9A-Za-z-]}. A {@code pre-release} identifier
+     * that consists of digits only must not have leading zeroes.
+     *
+     * @return the position right after the last identifier, or {@code -1} if the identifiers are not valid
+     */
+    private static int scanIdentifiers(
+            CharSequence version, int start, int end, boolean preRelease, @Nullable ParseStatus status) {
+        int position = start;
+        while (true) {
+            int identifierStart = position;
+            boolean numeric = true;
+            while (position < end) {
+                char c = version.charAt(position);
+                if (isDigit(c)) {
+                    position++;
+                } else if (isNonDigitIdentifierCharacter(c)) {
+                    numeric = false;
+                    position++;
+                } else {
+                    break;
+                }
+            }
+
+            int length = position - identifierStart;
+            if (length == 0) {
+                if (position == end) {
+                    return failAt(status, UNEXPECTED_END, position);
+                }
+                char c = version.charAt(position);
+                return failAt(status, c == '.' || c == '+' ? EMPTY_IDENTIFIER : UNEXPECTED_CHARACTER, position);
+            }
+            if (preRelease && numeric && length > 1 && version.charAt(identifierStart) == '0') {
+                return failAt(status, LEADING_ZERO, identifierStart);
+            }
+
+            if (position < end && version.charAt(position) == '.') {
+                position++;
+            } else {
+                return position;
+            }
+        }
+    }
+
+    private static boolean expectDot(CharSequence version, int position, int end, @Nullable ParseStatus status) {
+        if (position == end) {
+            failAt(status, UNEXPECTED_END, position);
+            return false;
+        }
+        if (version.charAt(position) != '.') {
+            failAt(status, UNEXPECTED_CHARACTER, position);
+            return false;
+        }
+        return true;
+    }
+
+    private static @Nullable Version fail(@Nullable ParseStatus status, Reason reason, int index) {
+        failAt(status, reason, index);
+        return null;
+    }
+
+    private static int failAt(@Nullable ParseStatus status, Reason reason, int index) {
+        if (status != null) {
+            status.fail(reason, index);
+        }
+        return -1;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isNonDigitIdentifierCharacter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '-';
+    }
+
+    /**
+     * Parses a sequence of digits.
+     *
+     * @return the value of the digits, or {@code -1} if it is greater than {@link Integer#MAX_VALUE}
+     */
+    private static int parseInt(CharSequence version, int start, int end) {
+        if (end - start > MAX_INT_DIGITS) {
+            return -1;
+        }
+
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            value = value * 10 + (version.charAt(i) - '0');
+        }
+
+        if (value > Integer.MAX_VALUE) {
+            return -1;
+        }
+        return (int) value;
+    }
+
+    /**
+     * Returns the identifiers of a scanned region, backed by the version itself when it is a {@link String} and by a
+     * copy of the region otherwise.
+     */
+    private static List<String> toList(CharSequence version, int start, int end) {
+        if (start < 0) {
+            return List.of();
+        }
+        if (version instanceof String) {
+            return Identifiers.of((String) version, start, end);
+        }
+        return Identifiers.of(substring(version, start, end), 0, end - start);
     }
 
-    private static List<String> convertToList(@Nullable String toList) {
-        return toList == null ? List.of() : List.of(toList.split("\\."));
+    private static String substring(CharSequence version, int start, int end) {
+        return version.subSequence(start, end).toString();
     }
 
     /**
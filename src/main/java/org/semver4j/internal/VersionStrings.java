@@ -0,0 +1,60 @@
+package org.semver4j.internal;
+
+/**
+ * Utility class finding the version in a version string, the way {@link org.semver4j.Semver} reads it: without leading
+ * and trailing whitespace, as defined by {@link String#trim()}, and without an optional {@code v} prefix.
+ *
+ * <p>The methods work on slices of character sequences, so that the parsers reading versions in place, without creating
+ * a {@code Semver}, accept exactly the same strings.
+ */
+public class VersionStrings {
+    /** Private constructor to prevent instantiation of this utility class. */
+    private VersionStrings() {}
+
+    /**
+     * Skips the leading whitespace of a slice.
+     *
+     * @param version the character sequence
+     * @param start the index of the first character of the slice
+     * @param end the index after the last character of the slice
+     * @return the index of the first character of the slice which is not whitespace, or {@code end} if there is none
+     */
+    public static int trimStart(CharSequence version, int start, int end) {
+        while (start < end && version.charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    /**
+     * Skips the trailing whitespace of a slice.
+     *
+     * @param version the character sequence
+     * @param start the index of the first character of the slice
+     * @param end the index after the last character of the slice
+     * @return the index after the last character of the slice which is not whitespace, or {@code start} if there is
+     *     none
+     */
+    public static int trimEnd(CharSequence version, int start, int end) {
+        while (end > start && version.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * Skips the optional {@code v} prefix of a trimmed slice. A doubled prefix, as in {@code vv1.2.3}, is kept, so that
+     * the version stays invalid.
+     *
+     * @param version the character sequence
+     * @param start the index of the first character of the slice
+     * @param end the index after the last character of the slice
+     * @return the index of the first character of the version, after the prefix if there is one
+     */
+    public static int skipPrefix(CharSequence version, int start, int end) {
+        if (end - start > 1 && version.charAt(start) == 'v' && version.charAt(start + 1) != 'v') {
+            return start + 1;
+        }
+        return start;
+    }
+}
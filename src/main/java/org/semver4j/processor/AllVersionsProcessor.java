@@ -2,9 +2,13 @@ package org.semver4j.processor;
 
 import static org.semver4j.internal.Utils.ALL_RANGE;
 import static org.semver4j.internal.Utils.ALL_RANGE_WITH_PRERELEASE;
+import static org.semver4j.internal.Utils.EMPTY;
+import static org.semver4j.range.Range.RangeOperator.GTE;
 
+import java.util.List;
 import org.jspecify.annotations.Nullable;
 import org.semver4j.internal.Utils;
+import org.semver4j.range.Range;
 
 /**
  * Processor for translating wildcard ({@code *}) and empty strings into a classic version range.
@@ -27,7 +31,7 @@ import org.semver4j.internal.Utils;
  * @see Utils#ALL_RANGE
  * @see Utils#ALL_RANGE_WITH_PRERELEASE
  */
-public class AllVersionsProcessor implements Processor {
+public class AllVersionsProcessor implements Processor, RangeProcessor {
     /**
      * Processes wildcard and empty string ranges into the standard version range format.
      *
@@ -43,4 +47,21 @@ public class AllVersionsProcessor implements Processor {
         }
         return null;
     }
+
+    /**
+     * Processes wildcard and empty string ranges into a range.
+     *
+     * @param range the version range string to process
+     * @param includePreRelease whether to include {@code pre-release} versions in the range
+     * @return the range if the input is a wildcard or empty string, or {@code null} if this processor cannot handle the
+     *     input
+     * @since 6.1.0
+     */
+    @Override
+    public @Nullable List<Range> processRanges(String range, boolean includePreRelease) {
+        if (range.equals("*") || range.isEmpty()) {
+            return Bound.toRanges(List.of(Bound.of(GTE, 0, 0, 0, includePreRelease ? LOWEST_PRE_RELEASE : EMPTY)));
+        }
+        return null;
+    }
 }
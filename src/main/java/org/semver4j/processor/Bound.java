@@ -0,0 +1,99 @@
+package org.semver4j.processor;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.joining;
+import static org.semver4j.internal.Utils.EMPTY;
+import static org.semver4j.internal.Utils.SPACE;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+import org.semver4j.Semver;
+import org.semver4j.internal.RangeComparators;
+import org.semver4j.internal.VersionParser;
+import org.semver4j.range.Range;
+import org.semver4j.range.Range.RangeOperator;
+
+/**
+ * One of the comparators a processor translates a range into: either an operator with version numbers, or a comparator
+ * copied from the input.
+ *
+ * <p>Processors describe their translation as a list of bounds, which is then either formatted as comparators by
+ * {@link Processor#process(String, boolean)} or turned into {@link Range}s by
+ * {@link RangeProcessor#processRanges(String, boolean)}. Bounds with version numbers become ranges without being
+ * formatted and parsed; the others are parsed exactly as their comparators would be, so both paths always agree.
+ */
+final class Bound {
+    private final @Nullable RangeOperator operator;
+    private final int major;
+    private final int minor;
+    private final int patch;
+    /**
+     * Either empty or a dash followed by {@code pre-release} identifiers, e.g. {@link Processor#LOWEST_PRE_RELEASE}.
+     */
+    private final String suffix;
+    /** The comparator copied from the input, {@code null} for a bound with version numbers. */
+    private final @Nullable String comparator;
+
+    private Bound(
+            @Nullable RangeOperator operator,
+            int major,
+            int minor,
+            int patch,
+            String suffix,
+            @Nullable String comparator) {
+        this.operator = operator;
+        this.major = major;
+        this.minor = minor;
+        this.patch = patch;
+        this.suffix = suffix;
+        this.comparator = comparator;
+    }
+
+    static Bound of(RangeOperator operator, int major, int minor, int patch, String suffix) {
+        return new Bound(operator, major, minor, patch, suffix, null);
+    }
+
+    static Bound comparator(String comparator) {
+        return new Bound(null, 0, 0, 0, EMPTY, comparator);
+    }
+
+    static String format(List<Bound> bounds) {
+        return bounds.stream().map(Bound::toString).collect(joining(SPACE));
+    }
+
+    static List<Range> toRanges(List<Bound> bounds) {
+        List<Range> ranges = new ArrayList<>(bounds.size());
+        for (Bound bound : bounds) {
+            bound.addTo(ranges);
+        }
+        return ranges;
+    }
+
+    private void addTo(List<Range> ranges) {
+        if (operator != null && major >= 0 && minor >= 0 && patch >= 0) {
+            if (suffix.isEmpty()) {
+                ranges.add(new Range(Semver.create(major, minor, patch), operator));
+                return;
+            }
+            List<String> preRelease = List.of(suffix.substring(1).split("\\.", -1));
+            if (VersionParser.isValidIdentifiers(preRelease, true)) {
+                Semver version = Semver.of(major, minor, patch)
+                        .withPreReleases(preRelease)
+                        .build();
+                ranges.add(new Range(version, operator));
+                return;
+            }
+        }
+        // Numbers which overflowed or stand for a wildcard are handled as the comparator would be
+        ranges.addAll(RangeComparators.parse(toString()));
+    }
+
+    @Override
+    public String toString() {
+        if (comparator != null) {
+            return comparator;
+        }
+        return requireNonNull(operator).asString() + major + '.' + minor + '.' + patch + suffix;
+    }
+}
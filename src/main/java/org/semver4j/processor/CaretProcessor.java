@@ -1,16 +1,16 @@
 package org.semver4j.processor;
 
-import static java.lang.String.format;
 import static java.util.regex.Pattern.compile;
 import static org.semver4j.internal.Tokenizers.CARET;
 import static org.semver4j.internal.Utils.*;
 import static org.semver4j.range.Range.RangeOperator.GTE;
 import static org.semver4j.range.Range.RangeOperator.LT;
 
-import java.util.Locale;
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.jspecify.annotations.Nullable;
+import org.semver4j.range.Range;
 
 /**
  * Processor for translating <a href="https://github.com/npm/node-semver#caret-ranges-123-025-004">caret ranges</a> into
@@ -51,7 +51,7 @@ import org.jspecify.annotations.Nullable;
  * @see Processor
  * @see <a href="https://github.com/npm/node-semver#caret-ranges-123-025-004">npm SemVer Caret Ranges</a>
  */
-public class CaretProcessor implements Processor {
+public class CaretProcessor implements Processor, RangeProcessor {
     private static final Pattern PATTERN = compile(CARET);
 
     /**
@@ -67,6 +67,25 @@ public class CaretProcessor implements Processor {
      */
     @Override
     public @Nullable String process(String range, boolean includePreRelease) {
+        List<Bound> bounds = bounds(range, includePreRelease);
+        return bounds == null ? null : Bound.format(bounds);
+    }
+
+    /**
+     * Processes a caret range expression into ranges.
+     *
+     * @param range the version range string to process
+     * @param includePreRelease whether to include pre-release versions in the range
+     * @return the ranges if the input is a valid caret range, or {@code null} if this processor cannot handle the input
+     * @since 6.1.0
+     */
+    @Override
+    public @Nullable List<Range> processRanges(String range, boolean includePreRelease) {
+        List<Bound> bounds = bounds(range, includePreRelease);
+        return bounds == null ? null : Bound.toRanges(bounds);
+    }
+
+    private static @Nullable List<Bound> bounds(String range, boolean includePreRelease) {
         Matcher matcher = PATTERN.matcher(range);
 
         if (!matcher.matches()) {
@@ -78,28 +97,28 @@ public class CaretProcessor implements Processor {
         int patch = parseIntWithXSupport(matcher.group(3));
         String preRelease = matcher.group(4);
 
-        String from;
-        String to;
+        Bound from;
+        Bound to;
         String preReleaseMarker = includePreRelease ? LOWEST_PRE_RELEASE : EMPTY;
 
         if (isX(minor)) {
-            from = format(Locale.ROOT, "%s%d.0.0%s", GTE.asString(), major, preReleaseMarker);
+            from = Bound.of(GTE, major, 0, 0, preReleaseMarker);
         } else if (isX(patch)) {
-            from = format(Locale.ROOT, "%s%d.%d.0%s", GTE.asString(), major, minor, preReleaseMarker);
+            from = Bound.of(GTE, major, minor, 0, preReleaseMarker);
         } else if (isNotBlank(preRelease)) {
-            from = format(Locale.ROOT, "%s%d.%d.%d-%s", GTE.asString(), major, minor, patch, preRelease);
+            from = Bound.of(GTE, major, minor, patch, "-" + preRelease);
         } else {
-            from = format(Locale.ROOT, "%s%d.%d.%d", GTE.asString(), major, minor, patch);
+            from = Bound.of(GTE, major, minor, patch, EMPTY);
         }
 
         if (major > 0) {
-            to = format(Locale.ROOT, "%s%d.0.0%s", LT.asString(), (major + 1), preReleaseMarker);
+            to = Bound.of(LT, (major + 1), 0, 0, preReleaseMarker);
         } else if (minor > 0) {
-            to = format(Locale.ROOT, "%s%d.%d.0%s", LT.asString(), major, (minor + 1), preReleaseMarker);
+            to = Bound.of(LT, major, (minor + 1), 0, preReleaseMarker);
         } else {
-            to = format(Locale.ROOT, "%s%d.%d.%d%s", LT.asString(), major, minor, (patch + 1), preReleaseMarker);
+            to = Bound.of(LT, major, minor, (patch + 1), preReleaseMarker);
         }
 
-        return format(Locale.ROOT, "%s %s", from, to);
+        return List.of(from, to);
     }
 }
@@ -1,10 +1,11 @@
 package org.semver4j.processor;
 
 import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toList;
 
 import java.util.List;
-import java.util.Objects;
 import org.jspecify.annotations.Nullable;
+import org.semver4j.range.Range;
 
 /**
  * A processor that combines multiple processors into a single processing pipeline.
@@ -12,15 +13,41 @@ import org.jspecify.annotations.Nullable;
  * <p>This processor delegates the processing to a list of processors and returns the first non-null result. If all
  * processors return null, this processor also returns null.
  *
+ * <p>The built-in processors are only tried on ranges which have the lexical features their notation requires, e.g. a
+ * leading {@code ^} for the {@link CaretProcessor} or a spaced {@code -} for the {@link HyphenProcessor}, so a range
+ * like {@code >=1.2.3} does not pay for every regular expression of the chain. Since a processor is only skipped when
+ * it would have returned {@code null}, the result is the same as trying all the processors in order. Other processors,
+ * including subclasses of the built-in ones, are always tried.
+ *
  * @see Processor
  * @see Processors
  * @since 6.0.0
  */
-public class CompositeProcessor implements Processor {
+public class CompositeProcessor implements Processor, RangeProcessor {
+    /** Feature of {@code *} and of the empty range. */
+    private static final int ALL_VERSIONS = 1;
+    /** Feature of a range starting with an interval bracket: {@code [}, {@code ]} or {@code (}. */
+    private static final int INTERVAL = 1 << 1;
+    /** Feature of a range starting with the {@code latest} keyword. */
+    private static final int LATEST = 1 << 2;
+    /** Feature of a range containing a {@code -} surrounded by whitespaces. */
+    private static final int HYPHEN = 1 << 3;
+    /** Feature of a range starting with {@code ^}. */
+    private static final int CARET = 1 << 4;
+    /** Feature of a range starting with {@code ~}. */
+    private static final int TILDE = 1 << 5;
+
     private final List<Processor> processors;
+    private final List<RangeProcessor> rangeProcessors;
+    /** The features, one of which a range needs to be handled by each processor, or 0 for any range. */
+    private final int[] requiredFeatures;
 
     private CompositeProcessor(List<Processor> processors) {
         this.processors = requireNonNull(processors, "processors cannot be null");
+        this.rangeProcessors = processors.stream().map(RangeProcessor::of).collect(toList());
+        this.requiredFeatures = processors.stream()
+                .mapToInt(CompositeProcessor::requiredFeatures)
+                .toArray();
     }
 
     /**
@@ -51,10 +78,99 @@ public class CompositeProcessor implements Processor {
      */
     @Override
     public @Nullable String process(String range, boolean includePreRelease) {
-        return processors.stream()
-                .map(processor -> processor.process(range, includePreRelease))
-                .filter(Objects::nonNull)
-                .findFirst()
-                .orElse(null);
+        int features = features(range);
+        for (int i = 0; i < processors.size(); i++) {
+            if (mayHandle(i, features)) {
+                String processedRange = processors.get(i).process(range, includePreRelease);
+                if (processedRange != null) {
+                    return processedRange;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Processes the range into ranges by trying each processor in sequence until one returns a non-null result.
+     *
+     * <p>Processors other than the built-in ones, including their subclasses, take part through
+     * {@link RangeProcessor#of(Processor)}, which translates the comparators they return.
+     *
+     * @param range the version range string to process
+     * @param includePreRelease whether to include pre-release versions in the range
+     * @return the ranges, or null if no processor could handle the input
+     * @since 6.1.0
+     */
+    @Override
+    public @Nullable List<Range> processRanges(String range, boolean includePreRelease) {
+        int features = features(range);
+        for (int i = 0; i < rangeProcessors.size(); i++) {
+            if (mayHandle(i, features)) {
+                List<Range> ranges = rangeProcessors.get(i).processRanges(range, includePreRelease);
+                if (ranges != null) {
+                    return ranges;
+                }
+            }
+        }
+        return null;
+    }
+
+    private boolean mayHandle(int processor, int features) {
+        int required = requiredFeatures[processor];
+        return required == 0 || (features & required) != 0;
+    }
+
+    /**
+     * Returns the features a range needs for the processor to return a non-null result, only known for the built-in
+     * processors, which are matched by their exact class as subclasses may accept other ranges.
+     */
+    private static int requiredFeatures(Processor processor) {
+        Class<?> type = processor.getClass();
+        if (type == AllVersionsProcessor.class) {
+            return ALL_VERSIONS;
+        } else if (type == IvyProcessor.class) {
+            return INTERVAL | LATEST;
+        } else if (type == HyphenProcessor.class) {
+            return HYPHEN;
+        } else if (type == CaretProcessor.class) {
+            return CARET;
+        } else if (type == TildeProcessor.class) {
+            return TILDE;
+        }
+        return 0;
+    }
+
+    private static int features(String range) {
+        if (range.isEmpty()) {
+            return ALL_VERSIONS;
+        }
+
+        int features = 0;
+        char first = range.charAt(0);
+        if (first == '*' && range.length() == 1) {
+            features |= ALL_VERSIONS;
+        } else if (first == '[' || first == ']' || first == '(') {
+            features |= INTERVAL;
+        } else if (first == 'l' && range.startsWith("latest")) {
+            features |= LATEST;
+        } else if (first == '^') {
+            features |= CARET;
+        } else if (first == '~') {
+            features |= TILDE;
+        }
+
+        for (int i = range.indexOf('-', 1); i > 0 && i < range.length() - 1; i = range.indexOf('-', i + 1)) {
+            if (isWhitespace(range.charAt(i - 1)) && isWhitespace(range.charAt(i + 1))) {
+                features |= HYPHEN;
+                break;
+            }
+        }
+
+        return features;
+    }
+
+    /** Whether the character is matched by {@code \s} in a regular expression. */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
     }
 }
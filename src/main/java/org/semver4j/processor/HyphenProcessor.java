@@ -1,15 +1,15 @@
 package org.semver4j.processor;
 
-import static java.lang.String.format;
 import static java.util.regex.Pattern.compile;
 import static org.semver4j.internal.Tokenizers.HYPHEN;
 import static org.semver4j.internal.Utils.*;
 import static org.semver4j.range.Range.RangeOperator.*;
 
-import java.util.Locale;
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.jspecify.annotations.Nullable;
+import org.semver4j.range.Range;
 
 /**
  * Processor for translating <a href="https://github.com/npm/node-semver#hyphen-ranges-xyz---abc">hyphen ranges</a> into
@@ -47,7 +47,7 @@ import org.jspecify.annotations.Nullable;
  * @see Processor
  * @see <a href="https://github.com/npm/node-semver#hyphen-ranges-xyz---abc">npm SemVer Hyphen Ranges</a>
  */
-public class HyphenProcessor implements Processor {
+public class HyphenProcessor implements Processor, RangeProcessor {
     private static final Pattern PATTERN = compile(HYPHEN);
 
     /**
@@ -63,36 +63,62 @@ public class HyphenProcessor implements Processor {
      */
     @Override
     public @Nullable String process(String range, boolean includePreRelease) {
+        List<Bound> bounds = bounds(range, includePreRelease);
+        return bounds == null ? null : Bound.format(bounds);
+    }
+
+    /**
+     * Processes a hyphen range expression into ranges.
+     *
+     * @param range the version range string to process
+     * @param includePreRelease whether to include pre-release versions in the range
+     * @return the ranges if the input is a valid hyphen range, or {@code null} if this processor cannot handle the
+     *     input
+     * @since 6.1.0
+     */
+    @Override
+    public @Nullable List<Range> processRanges(String range, boolean includePreRelease) {
+        List<Bound> bounds = bounds(range, includePreRelease);
+        return bounds == null ? null : Bound.toRanges(bounds);
+    }
+
+    private static @Nullable List<Bound> bounds(String range, boolean includePreRelease) {
         Matcher matcher = PATTERN.matcher(range);
 
         if (!matcher.matches()) {
             return null;
         }
 
-        String rangeFrom = getRangeFrom(matcher, includePreRelease);
-        String rangeTo = getRangeTo(matcher, includePreRelease);
+        Bound rangeFrom = getRangeFrom(matcher, includePreRelease);
+        Bound rangeTo = getRangeTo(matcher, includePreRelease);
 
-        return format(Locale.ROOT, "%s %s", rangeFrom, rangeTo);
+        return List.of(rangeFrom, rangeTo);
     }
 
-    private String getRangeFrom(Matcher matcher, boolean includePreRelease) {
+    private static Bound getRangeFrom(Matcher matcher, boolean includePreRelease) {
         String from = matcher.group(1);
         int fromMajor = parseIntWithXSupport(matcher.group(2));
         int fromMinor = parseIntWithXSupport(matcher.group(3));
         int fromPatch = parseIntWithXSupport(matcher.group(4));
+        String fromPreRelease = matcher.group(5);
+        String fromBuild = matcher.group(6);
 
         String preRelease = includePreRelease ? LOWEST_PRE_RELEASE : EMPTY;
 
         if (isX(fromMinor)) {
-            return format(Locale.ROOT, "%s%d.0.0%s", GTE.asString(), fromMajor, preRelease);
+            return Bound.of(GTE, fromMajor, 0, 0, preRelease);
         } else if (isX(fromPatch)) {
-            return format(Locale.ROOT, "%s%d.%d.0%s", GTE.asString(), fromMajor, fromMinor, preRelease);
+            return Bound.of(GTE, fromMajor, fromMinor, 0, preRelease);
+        } else if (isDigit(from.charAt(0)) && fromBuild == null) {
+            // The version is written as MAJOR.MINOR.PATCH[-PRERELEASE]
+            return Bound.of(
+                    GTE, fromMajor, fromMinor, fromPatch, isNotBlank(fromPreRelease) ? "-" + fromPreRelease : EMPTY);
         } else {
-            return format(Locale.ROOT, "%s%s", GTE.asString(), from);
+            return Bound.comparator(GTE.asString() + from);
         }
     }
 
-    private String getRangeTo(Matcher matcher, boolean includePreRelease) {
+    private static Bound getRangeTo(Matcher matcher, boolean includePreRelease) {
         int toMajor = parseIntWithXSupport(matcher.group(8));
         int toMinor = parseIntWithXSupport(matcher.group(9));
         int toPatch = parseIntWithXSupport(matcher.group(10));
@@ -101,14 +127,17 @@ public class HyphenProcessor implements Processor {
         String preRelease = includePreRelease ? LOWEST_PRE_RELEASE : EMPTY;
 
         if (isX(toMinor)) {
-            return format(Locale.ROOT, "%s%d.0.0%s", LT.asString(), toMajor + 1, preRelease);
+            return Bound.of(LT, toMajor + 1, 0, 0, preRelease);
         } else if (isX(toPatch)) {
-            return format(Locale.ROOT, "%s%d.%d.0%s", LT.asString(), toMajor, toMinor + 1, preRelease);
+            return Bound.of(LT, toMajor, toMinor + 1, 0, preRelease);
         } else if (isNotBlank(explicitPreRelease)) {
-            return format(
-                    Locale.ROOT, "%s%d.%d.%d%s", LTE.asString(), toMajor, toMinor, toPatch, "-" + explicitPreRelease);
+            return Bound.of(LTE, toMajor, toMinor, toPatch, "-" + explicitPreRelease);
         } else {
-            return format(Locale.ROOT, "%s%d.%d.%d%s", LT.asString(), toMajor, toMinor, toPatch + 1, preRelease);
+            return Bound.of(LT, toMajor, toMinor, toPatch + 1, preRelease);
         }
     }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
 }
@@ -1,15 +1,15 @@
 package org.semver4j.processor;
 
-import static java.lang.String.format;
 import static java.util.regex.Pattern.compile;
 import static org.semver4j.internal.Tokenizers.IVY;
 import static org.semver4j.internal.Utils.*;
 import static org.semver4j.range.Range.RangeOperator.*;
 
-import java.util.Locale;
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.jspecify.annotations.Nullable;
+import org.semver4j.range.Range;
 
 /**
  * Processor for translating <a
@@ -55,7 +55,7 @@ import org.jspecify.annotations.Nullable;
  * @see <a href="https://ant.apache.org/ivy/history/latest-milestone/settings/version-matchers.html">Apache Ivy Version
  *     Matchers</a>
  */
-public class IvyProcessor implements Processor {
+public class IvyProcessor implements Processor, RangeProcessor {
     private static final String LATEST = "latest";
     private static final String LATEST_INTEGRATION = LATEST + ".integration";
 
@@ -74,8 +74,27 @@ public class IvyProcessor implements Processor {
      */
     @Override
     public @Nullable String process(String range, boolean includePreRelease) {
+        List<Bound> bounds = bounds(range, includePreRelease);
+        return bounds == null ? null : Bound.format(bounds);
+    }
+
+    /**
+     * Processes an Ivy range expression into ranges.
+     *
+     * @param range the version range string to process
+     * @param includePreRelease whether to include pre-release versions in the range
+     * @return the ranges if the input is a valid Ivy range, or {@code null} if this processor cannot handle the input
+     * @since 6.1.0
+     */
+    @Override
+    public @Nullable List<Range> processRanges(String range, boolean includePreRelease) {
+        List<Bound> bounds = bounds(range, includePreRelease);
+        return bounds == null ? null : Bound.toRanges(bounds);
+    }
+
+    private static @Nullable List<Bound> bounds(String range, boolean includePreRelease) {
         if (range.equals(LATEST) || range.equals(LATEST_INTEGRATION)) {
-            return includePreRelease ? ALL_RANGE_WITH_PRERELEASE : ALL_RANGE;
+            return List.of(Bound.of(GTE, 0, 0, 0, includePreRelease ? LOWEST_PRE_RELEASE : EMPTY));
         }
 
         Matcher matcher = PATTERN.matcher(range);
@@ -113,72 +132,40 @@ public class IvyProcessor implements Processor {
         boolean closeInclusive = isInclusiveRange(closeSign);
         if (openInclusive && closeInclusive) {
             if (openSign.equals("[") && closeSign.equals("]")) {
-                return format(
-                        Locale.ROOT,
-                        "%s%d.%d.%d %s%d.%d.%d",
-                        GTE.asString(),
-                        fromMajor,
-                        fromMinor,
-                        fromPatch,
-                        LTE.asString(),
-                        toMajor,
-                        toMinor,
-                        toPatch);
+                return List.of(
+                        Bound.of(GTE, fromMajor, fromMinor, fromPatch, EMPTY),
+                        Bound.of(LTE, toMajor, toMinor, toPatch, EMPTY));
             } else if (openSign.equals("[") && closeSign.equals("[")) {
-                return format(
-                        Locale.ROOT,
-                        "%s%d.%d.%d %s%d.%d.%d",
-                        GTE.asString(),
-                        fromMajor,
-                        fromMinor,
-                        fromPatch,
-                        LT.asString(),
-                        toMajor,
-                        toMinor,
-                        toPatch);
+                return List.of(
+                        Bound.of(GTE, fromMajor, fromMinor, fromPatch, EMPTY),
+                        Bound.of(LT, toMajor, toMinor, toPatch, EMPTY));
             } else if (openSign.equals("]") && closeSign.equals("]")) {
-                return format(
-                        Locale.ROOT,
-                        "%s%d.%d.%d %s%d.%d.%d",
-                        GT.asString(),
-                        fromMajor,
-                        fromMinor,
-                        fromPatch,
-                        LTE.asString(),
-                        toMajor,
-                        toMinor,
-                        toPatch);
+                return List.of(
+                        Bound.of(GT, fromMajor, fromMinor, fromPatch, EMPTY),
+                        Bound.of(LTE, toMajor, toMinor, toPatch, EMPTY));
             } else if (openSign.equals("]") && closeSign.equals("[")) {
-                return format(
-                        Locale.ROOT,
-                        "%s%d.%d.%d %s%d.%d.%d",
-                        GT.asString(),
-                        fromMajor,
-                        fromMinor,
-                        fromPatch,
-                        LT.asString(),
-                        toMajor,
-                        toMinor,
-                        toPatch);
+                return List.of(
+                        Bound.of(GT, fromMajor, fromMinor, fromPatch, EMPTY),
+                        Bound.of(LT, toMajor, toMinor, toPatch, EMPTY));
             }
         } else if (closeSign.equals(")")) {
             if (openSign.equals("[")) {
-                return format(Locale.ROOT, "%s%d.%d.%d", GTE.asString(), fromMajor, fromMinor, fromPatch);
+                return List.of(Bound.of(GTE, fromMajor, fromMinor, fromPatch, EMPTY));
             } else if (openSign.equals("]")) {
-                return format(Locale.ROOT, "%s%d.%d.%d", GT.asString(), fromMajor, fromMinor, fromPatch);
+                return List.of(Bound.of(GT, fromMajor, fromMinor, fromPatch, EMPTY));
             }
         } else if (openSign.equals("(")) {
             if (closeSign.equals("]")) {
-                return format(Locale.ROOT, "%s%d.%d.%d", LTE.asString(), toMajor, toMinor, toPatch);
+                return List.of(Bound.of(LTE, toMajor, toMinor, toPatch, EMPTY));
             } else if (closeSign.equals("[")) {
-                return format(Locale.ROOT, "%s%d.%d.%d", LT.asString(), toMajor, toMinor, toPatch);
+                return List.of(Bound.of(LT, toMajor, toMinor, toPatch, EMPTY));
             }
         }
 
-        return range;
+        return List.of(Bound.comparator(range));
     }
 
-    private boolean isInclusiveRange(final String character) {
+    private static boolean isInclusiveRange(final String character) {
         return character.equals("[") || character.equals("]");
     }
 }
@@ -0,0 +1,21 @@
+package org.semver4j.processor;
+
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+import org.semver4j.internal.RangeComparators;
+import org.semver4j.range.Range;
+
+/** Adapts a string-based {@link Processor} to {@link RangeProcessor} by parsing the comparators it returns. */
+final class ProcessorAdapter implements RangeProcessor {
+    private final Processor processor;
+
+    ProcessorAdapter(Processor processor) {
+        this.processor = processor;
+    }
+
+    @Override
+    public @Nullable List<Range> processRanges(String range, boolean includePreRelease) {
+        String processedRange = processor.process(range, includePreRelease);
+        return processedRange == null ? null : RangeComparators.parse(processedRange);
+    }
+}
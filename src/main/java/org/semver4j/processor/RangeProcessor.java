@@ -0,0 +1,62 @@
+package org.semver4j.processor;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+import org.semver4j.range.Range;
+
+/**
+ * Interface for processors that translate different version range formats directly into {@link Range}s.
+ *
+ * <p>This is the structured counterpart of {@link Processor}: instead of rewriting the range into comparators which are
+ * then parsed again, a {@code RangeProcessor} builds the ranges from the version components it extracted. All the
+ * processors of this package implement both interfaces and translate ranges identically through either of them.
+ *
+ * <p>A string-based {@link Processor} is turned into a {@code RangeProcessor} with {@link #of(Processor)}.
+ *
+ * @see Processor
+ * @since 6.1.0
+ */
+public interface RangeProcessor {
+    /**
+     * Translates a version range string into ranges.
+     *
+     * @param range the version range string to process
+     * @param includePreRelease whether to include pre-release versions in the range
+     * @return the ranges, all of which a version must satisfy, if this processor can handle the input, or {@code null}
+     *     if this processor cannot handle the input
+     */
+    @Nullable
+    List<Range> processRanges(String range, boolean includePreRelease);
+
+    /**
+     * Returns a {@code RangeProcessor} translating ranges like the given processor.
+     *
+     * <p>The built-in processors of this package are returned as is. Any other processor is adapted: the comparators it
+     * returns are parsed into ranges. The built-in processors are matched by their exact class, so that a subclass
+     * overriding {@link Processor#process(String, boolean)} is adapted too, rather than translating ranges with the
+     * {@link #processRanges(String, boolean)} of its superclass.
+     *
+     * @param processor the processor to adapt
+     * @return a {@code RangeProcessor} equivalent to {@code processor}
+     * @throws NullPointerException if the processor is {@code null}
+     */
+    static RangeProcessor of(Processor processor) {
+        requireNonNull(processor, "processor cannot be null");
+        if (isBuiltIn(processor.getClass())) {
+            return (RangeProcessor) processor;
+        }
+        return new ProcessorAdapter(processor);
+    }
+
+    private static boolean isBuiltIn(Class<?> type) {
+        return type == AllVersionsProcessor.class
+                || type == IvyProcessor.class
+                || type == HyphenProcessor.class
+                || type == CaretProcessor.class
+                || type == TildeProcessor.class
+                || type == XRangeProcessor.class
+                || type == CompositeProcessor.class;
+    }
+}
@@ -1,17 +1,16 @@
 package org.semver4j.processor;
 
-import static java.lang.String.format;
 import static java.util.regex.Pattern.compile;
 import static org.semver4j.internal.Tokenizers.TILDE;
 import static org.semver4j.internal.Utils.*;
 import static org.semver4j.range.Range.RangeOperator.GTE;
 import static org.semver4j.range.Range.RangeOperator.LT;
 
-import java.util.Locale;
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.jspecify.annotations.Nullable;
-import org.semver4j.range.Range.RangeOperator;
+import org.semver4j.range.Range;
 
 /**
  * Processor for translating <a href="https://github.com/npm/node-semver#tilde-ranges-123-12-1">tilde ranges</a> into
@@ -58,7 +57,7 @@ import org.semver4j.range.Range.RangeOperator;
  * @see Processor
  * @see <a href="https://github.com/npm/node-semver#tilde-ranges-123-12-1">npm SemVer Tilde Ranges</a>
  */
-public class TildeProcessor implements Processor {
+public class TildeProcessor implements Processor, RangeProcessor {
     private static final Pattern PATTERN = compile(TILDE);
 
     /**
@@ -74,6 +73,25 @@ public class TildeProcessor implements Processor {
      */
     @Override
     public @Nullable String process(String range, boolean includePreRelease) {
+        List<Bound> bounds = bounds(range, includePreRelease);
+        return bounds == null ? null : Bound.format(bounds);
+    }
+
+    /**
+     * Processes a tilde range expression into ranges.
+     *
+     * @param range the version range string to process
+     * @param includePreRelease whether to include pre-release versions in the range
+     * @return the ranges if the input is a valid tilde range, or {@code null} if this processor cannot handle the input
+     * @since 6.1.0
+     */
+    @Override
+    public @Nullable List<Range> processRanges(String range, boolean includePreRelease) {
+        List<Bound> bounds = bounds(range, includePreRelease);
+        return bounds == null ? null : Bound.toRanges(bounds);
+    }
+
+    private static @Nullable List<Bound> bounds(String range, boolean includePreRelease) {
         Matcher matcher = PATTERN.matcher(range);
 
         if (!matcher.matches()) {
@@ -89,32 +107,29 @@ public class TildeProcessor implements Processor {
         return createVersionRange(major, minor, patch, explicitPreRelease, preRelease);
     }
 
-    private String createVersionRange(int major, int minor, int patch, String explicitPreRelease, String preRelease) {
-        String from;
-        String to;
+    private static List<Bound> createVersionRange(
+            int major, int minor, int patch, String explicitPreRelease, String preRelease) {
+        Bound from;
+        Bound to;
 
         if (isX(minor)) {
             // ~1 becomes ≥1.0.0 <2.0.0
-            from = formatVersion(GTE, major, 0, 0, preRelease);
-            to = formatVersion(LT, major + 1, 0, 0, preRelease);
+            from = Bound.of(GTE, major, 0, 0, preRelease);
+            to = Bound.of(LT, major + 1, 0, 0, preRelease);
         } else if (isX(patch)) {
             // ~1.2 becomes ≥1.2.0 <1.3.0
-            from = formatVersion(GTE, major, minor, 0, preRelease);
-            to = formatVersion(LT, major, minor + 1, 0, preRelease);
+            from = Bound.of(GTE, major, minor, 0, preRelease);
+            to = Bound.of(LT, major, minor + 1, 0, preRelease);
         } else if (isNotBlank(explicitPreRelease)) {
             // ~1.2.3-beta becomes ≥1.2.3-beta <1.3.0
-            from = format(Locale.ROOT, "%s%d.%d.%d-%s", GTE.asString(), major, minor, patch, explicitPreRelease);
-            to = formatVersion(LT, major, minor + 1, 0, preRelease);
+            from = Bound.of(GTE, major, minor, patch, "-" + explicitPreRelease);
+            to = Bound.of(LT, major, minor + 1, 0, preRelease);
         } else {
             // ~1.2.3 becomes ≥1.2.3 <1.3.0
-            from = formatVersion(GTE, major, minor, patch, EMPTY);
-            to = formatVersion(LT, major, minor + 1, 0, preRelease);
+            from = Bound.of(GTE, major, minor, patch, EMPTY);
+            to = Bound.of(LT, major, minor + 1, 0, preRelease);
         }
 
-        return format(Locale.ROOT, "%s %s", from, to);
-    }
-
-    private String formatVersion(RangeOperator operator, int major, int minor, int patch, String preRelease) {
-        return format(Locale.ROOT, "%s%d.%d.%d%s", operator.asString(), major, minor, patch, preRelease);
+        return List.of(from, to);
     }
 }
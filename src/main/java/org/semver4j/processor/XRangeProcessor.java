@@ -1,7 +1,5 @@
 package org.semver4j.processor;
 
-import static java.lang.String.format;
-import static java.lang.String.join;
 import static java.util.regex.Pattern.compile;
 import static org.semver4j.internal.Tokenizers.XRANGE;
 import static org.semver4j.internal.Utils.*;
@@ -9,10 +7,11 @@ import static org.semver4j.range.Range.RangeOperator.*;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Locale;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.jspecify.annotations.Nullable;
+import org.semver4j.range.Range;
+import org.semver4j.range.Range.RangeOperator;
 
 /**
  * Processor for translating <a href="https://github.com/npm/node-semver#x-ranges-12x-1x-12-">X-Ranges</a> into classic
@@ -49,7 +48,7 @@ import org.jspecify.annotations.Nullable;
  * @see Processor
  * @see <a href="https://github.com/npm/node-semver#x-ranges-12x-1x-12-">npm SemVer X-Ranges</a>
  */
-public class XRangeProcessor implements Processor {
+public class XRangeProcessor implements Processor, RangeProcessor {
     private static final Pattern PATTERN = compile(XRANGE);
 
     /**
@@ -66,28 +65,45 @@ public class XRangeProcessor implements Processor {
      */
     @Override
     public @Nullable String process(String range, boolean includePreRelease) {
+        List<Bound> bounds = bounds(range, includePreRelease);
+        return bounds == null ? null : Bound.format(bounds);
+    }
+
+    /**
+     * Processes an X-Range expression into ranges.
+     *
+     * @param range the version range string to process
+     * @param includePreRelease whether to include pre-release versions in the range
+     * @return the ranges if the input contains valid X-Range expressions, or {@code null} if this processor cannot
+     *     handle the input
+     * @since 6.1.0
+     */
+    @Override
+    public @Nullable List<Range> processRanges(String range, boolean includePreRelease) {
+        List<Bound> bounds = bounds(range, includePreRelease);
+        return bounds == null ? null : Bound.toRanges(bounds);
+    }
+
+    private static @Nullable List<Bound> bounds(String range, boolean includePreRelease) {
         String preReleaseSuffix = includePreRelease ? LOWEST_PRE_RELEASE : EMPTY;
         String[] rangeVersions = range.split("\\s+");
 
-        List<String> processedRanges = new ArrayList<>();
+        List<Bound> bounds = new ArrayList<>();
         for (String rangeVersion : rangeVersions) {
-            String processedRange = processRangeVersion(rangeVersion, preReleaseSuffix);
-            if (processedRange != null) {
-                processedRanges.add(processedRange);
-            }
+            processRangeVersion(rangeVersion, preReleaseSuffix, bounds);
         }
 
-        if (processedRanges.isEmpty()) {
+        if (bounds.isEmpty()) {
             return null;
         }
 
-        return join(SPACE, processedRanges);
+        return bounds;
     }
 
-    private @Nullable String processRangeVersion(String rangeVersion, String preReleaseSuffix) {
+    private static void processRangeVersion(String rangeVersion, String preReleaseSuffix, List<Bound> bounds) {
         Matcher matcher = PATTERN.matcher(rangeVersion);
         if (!matcher.matches()) {
-            return null;
+            return;
         }
 
         String fullRange = matcher.group(0);
@@ -101,28 +117,30 @@ public class XRangeProcessor implements Processor {
         }
 
         if (!compareSign.isEmpty() && isX(patch)) {
-            return processWithComparisonOperator(compareSign, major, minor, preReleaseSuffix);
+            bounds.add(processWithComparisonOperator(compareSign, major, minor, preReleaseSuffix));
         } else if (isX(minor)) {
-            return processMajorOnly(major, preReleaseSuffix);
+            processMajorOnly(major, preReleaseSuffix, bounds);
         } else if (isX(patch)) {
-            return processMajorMinor(major, minor, preReleaseSuffix);
+            processMajorMinor(major, minor, preReleaseSuffix, bounds);
         } else {
-            return fullRange;
+            bounds.add(Bound.comparator(fullRange));
         }
     }
 
-    private String processWithComparisonOperator(String compareSign, int major, int minor, String preReleaseSuffix) {
+    private static Bound processWithComparisonOperator(
+            String compareSign, int major, int minor, String preReleaseSuffix) {
+        RangeOperator operator = RangeOperator.value(compareSign);
 
-        if (compareSign.equals(GT.asString())) {
-            compareSign = GTE.asString();
+        if (operator == GT) {
+            operator = GTE;
             if (isX(minor)) {
                 major = major + 1;
                 minor = 0;
             } else {
                 minor = minor + 1;
             }
-        } else if (compareSign.equals(LTE.asString())) {
-            compareSign = LT.asString();
+        } else if (operator == LTE) {
+            operator = LT;
             if (isX(minor)) {
                 major = major + 1;
                 minor = 0;
@@ -133,24 +151,18 @@ public class XRangeProcessor implements Processor {
             minor = 0;
         }
 
-        return formatVersion(compareSign, major, minor, preReleaseSuffix);
+        return Bound.of(operator, major, minor, 0, preReleaseSuffix);
     }
 
-    private String processMajorOnly(int major, String preReleaseSuffix) {
+    private static void processMajorOnly(int major, String preReleaseSuffix, List<Bound> bounds) {
         // 1.x or 1.X or 1.* becomes ≥1.0.0 <2.0.0
-        String from = formatVersion(GTE.asString(), major, 0, preReleaseSuffix);
-        String to = formatVersion(LT.asString(), major + 1, 0, preReleaseSuffix);
-        return from + SPACE + to;
+        bounds.add(Bound.of(GTE, major, 0, 0, preReleaseSuffix));
+        bounds.add(Bound.of(LT, major + 1, 0, 0, preReleaseSuffix));
     }
 
-    private String processMajorMinor(int major, int minor, String preReleaseSuffix) {
+    private static void processMajorMinor(int major, int minor, String preReleaseSuffix, List<Bound> bounds) {
         // 1.2.x or 1.2.* becomes ≥1.2.0 <1.3.0
-        String from = formatVersion(GTE.asString(), major, minor, preReleaseSuffix);
-        String to = formatVersion(LT.asString(), major, minor + 1, preReleaseSuffix);
-        return from + SPACE + to;
-    }
-
-    private String formatVersion(String operator, int major, int minor, String preReleaseSuffix) {
-        return format(Locale.ROOT, "%s%d.%d.%d%s", operator, major, minor, 0, preReleaseSuffix);
+        bounds.add(Bound.of(GTE, major, minor, 0, preReleaseSuffix));
+        bounds.add(Bound.of(LT, major, minor + 1, 0, preReleaseSuffix));
     }
 }
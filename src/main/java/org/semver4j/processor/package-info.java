@@ -17,10 +17,14 @@
  * <p>Processors are designed to work in a chain of responsibility pattern, where each processor attempts to handle the
  * input range string and returns a processed result if successful, or {@code null} to let the next processor try.
  *
+ * <p>The processors of this package also implement {@link org.semver4j.processor.RangeProcessor}, which builds the
+ * {@link org.semver4j.range.Range}s directly instead of rewriting the input into comparators that are parsed again.
+ *
  * <p>This package is marked with {@code @NullMarked} to indicate that all types in this package are null-safe by
  * default, with nullable references explicitly marked with {@code @Nullable}.
  *
  * @see org.semver4j.processor.Processor The interface implemented by all processors
+ * @see org.semver4j.processor.RangeProcessor The structured counterpart of processors
  * @see org.semver4j.processor.CompositeProcessor For combining multiple processors
  */
 @NullMarked
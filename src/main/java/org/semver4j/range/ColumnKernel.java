@@ -0,0 +1,149 @@
+package org.semver4j.range;
+
+/**
+ * Finds the rows of a {@link SemverColumn} between the bounds of intervals.
+ *
+ * <p>The scalar kernel checks a row at a time. The kernel of the {@code vector} build profile, compiled from
+ * {@code src/vector/java}, checks many rows at a time with the incubating Vector API; it is only used when its class is
+ * on the class path and the {@code jdk.incubator.vector} module is resolved, so that the library still runs on any Java
+ * 17 runtime without it.
+ */
+abstract class ColumnKernel {
+    /** The kernel checking a row at a time. */
+    static final ColumnKernel SCALAR = new ColumnKernel() {
+        @Override
+        long[] filter(int[] majors, int[] minors, int[] patches, int[] preReleaseKeys, Bounds bounds) {
+            long[] words = new long[(majors.length + 63) >>> 6];
+            filterRange(majors, minors, patches, preReleaseKeys, bounds, 0, majors.length, words);
+            return words;
+        }
+    };
+
+    private static final String VECTOR_KERNEL = "org.semver4j.range.VectorColumnKernel";
+    private static final ColumnKernel INSTANCE = load();
+
+    /**
+     * Returns the fastest kernel available.
+     *
+     * @return the vector kernel if it can be used, the scalar kernel otherwise
+     */
+    static ColumnKernel get() {
+        return INSTANCE;
+    }
+
+    private static ColumnKernel load() {
+        try {
+            return (ColumnKernel)
+                    Class.forName(VECTOR_KERNEL).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            // Not compiled, or the incubator module is not resolved
+            return SCALAR;
+        }
+    }
+
+    /**
+     * Finds the rows whose key is in one of the intervals which apply to it.
+     *
+     * @param majors the {@code major} number of each row
+     * @param minors the {@code minor} number of each row
+     * @param patches the {@code patch} number of each row
+     * @param preReleaseKeys the {@code pre-release} key of each row, {@link Integer#MAX_VALUE} for a release version
+     * @param bounds the intervals
+     * @return the bits of the rows found, in the layout of {@link java.util.BitSet#valueOf(long[])}
+     */
+    abstract long[] filter(int[] majors, int[] minors, int[] patches, int[] preReleaseKeys, Bounds bounds);
+
+    /** Sets the bits of the rows from {@code from} to {@code to} found with a scalar loop. */
+    static void filterRange(
+            int[] majors,
+            int[] minors,
+            int[] patches,
+            int[] preReleaseKeys,
+            Bounds bounds,
+            int from,
+            int to,
+            long[] words) {
+        for (int row = from; row < to; row++) {
+            boolean preRelease = preReleaseKeys[row] != Integer.MAX_VALUE;
+            for (int i = 0; i < bounds.count; i++) {
+                if (bounds.preRelease[i] == preRelease
+                        && isAbove(
+                                majors[row],
+                                minors[row],
+                                patches[row],
+                                preReleaseKeys[row],
+                                bounds.lowers,
+                                i,
+                                bounds.lowerInclusive[i])
+                        && !isAbove(
+                                majors[row],
+                                minors[row],
+                                patches[row],
+                                preReleaseKeys[row],
+                                bounds.uppers,
+                                i,
+                                !bounds.upperInclusive[i])) {
+                    words[row >>> 6] |= 1L << row;
+                    break;
+                }
+            }
+        }
+    }
+
+    /** Whether a row is above the {@code i}th key, or equal to it if {@code orEqual} is set. */
+    private static boolean isAbove(
+            int major, int minor, int patch, int preReleaseKey, int[] keys, int i, boolean orEqual) {
+        int offset = i * Bounds.KEY_SIZE;
+        int result = Integer.compare(major, keys[offset]);
+        if (result == 0) {
+            result = Integer.compare(minor, keys[offset + 1]);
+        }
+        if (result == 0) {
+            result = Integer.compare(patch, keys[offset + 2]);
+        }
+        if (result == 0) {
+            result = Integer.compare(preReleaseKey, keys[offset + 3]);
+        }
+        return result > 0 || (result == 0 && orEqual);
+    }
+
+    /**
+     * The intervals to find rows in, each of them applying to the release rows or to the {@code pre-release} rows.
+     *
+     * <p>A bound is the key of a version, its {@code major}, {@code minor}, {@code patch} and {@code pre-release} keys
+     * in the encoding of the column. The keys of the bounds are stored one after the other in {@code int} arrays.
+     */
+    static final class Bounds {
+        /** The number of {@code int}s of a key. */
+        static final int KEY_SIZE = 4;
+        /** The lowest key, below every row. */
+        static final int[] LOWEST = {Integer.MIN_VALUE, Integer.MIN_VALUE, Integer.MIN_VALUE, Integer.MIN_VALUE};
+        /** The highest key, above or equal to every row. */
+        static final int[] HIGHEST = {Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE};
+
+        int count;
+        final int[] lowers;
+        final boolean[] lowerInclusive;
+        final int[] uppers;
+        final boolean[] upperInclusive;
+        /** Whether each interval applies to the {@code pre-release} rows, rather than to the release rows. */
+        final boolean[] preRelease;
+
+        Bounds(int capacity) {
+            lowers = new int[capacity * KEY_SIZE];
+            lowerInclusive = new boolean[capacity];
+            uppers = new int[capacity * KEY_SIZE];
+            upperInclusive = new boolean[capacity];
+            preRelease = new boolean[capacity];
+        }
+
+        void add(int[] lower, boolean lowerInclusive, int[] upper, boolean upperInclusive, boolean preRelease) {
+            System.arraycopy(lower, 0, lowers, count * KEY_SIZE, KEY_SIZE);
+            this.lowerInclusive[count] = lowerInclusive;
+            System.arraycopy(upper, 0, uppers, count * KEY_SIZE, KEY_SIZE);
+            this.upperInclusive[count] = upperInclusive;
+            this.preRelease[count] = preRelease;
+            count++;
+        }
+    }
+}
@@ -0,0 +1,336 @@
+package org.semver4j.range;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import org.jspecify.annotations.Nullable;
+import org.semver4j.Semver;
+
+/**
+ * The compiled, immutable form of a {@link RangeList}, which checks a version with binary searches instead of comparing
+ * it to every range.
+ *
+ * <p>Each set of ranges becomes the {@link Interval} of the versions satisfying all of them, and the intervals of all
+ * the sets are merged into sorted disjoint intervals. A {@code pre-release} version which is only allowed when a range
+ * of its set has a {@code pre-release} with the same {@code major}, {@code minor} and {@code patch} is checked against
+ * the merged intervals of the sets having such a range, found by looking up these numbers in a sorted table.
+ *
+ * <p>A compiled range is built once with {@link RangeList#compile()} and never changes afterwards: it can be shared
+ * between threads without synchronization and used as a cache value. Checking a version does not allocate.
+ *
+ * <pre>{@code
+ * CompiledRange range = RangeListFactory.create(">=1.0.0 <2.0.0 || ^3.1.0").compile();
+ * boolean satisfies = semver.satisfies(range);
+ * }</pre>
+ *
+ * @see RangeList#compile()
+ * @see Semver#satisfies(CompiledRange)
+ * @since 6.1.0
+ */
+public final class CompiledRange {
+    private static final Interval[] NO_INTERVALS = new Interval[0];
+
+    private final List<List<Range>> rangesList;
+    private final boolean includePreRelease;
+    /** The sorted disjoint intervals of all the sets of ranges. */
+    private final Interval[] intervals;
+    /** The sorted {@code major}, {@code minor} and {@code patch} of the ranges allowing {@code pre-release}s. */
+    private final int[] preReleaseTuples;
+    /** The sorted disjoint intervals of the sets of ranges allowing each of the {@link #preReleaseTuples}. */
+    private final Interval[][] preReleaseIntervals;
+
+    private CompiledRange(
+            List<List<Range>> rangesList,
+            boolean includePreRelease,
+            Interval[] intervals,
+            int[] preReleaseTuples,
+            Interval[][] preReleaseIntervals) {
+        this.rangesList = rangesList;
+        this.includePreRelease = includePreRelease;
+        this.intervals = intervals;
+        this.preReleaseTuples = preReleaseTuples;
+        this.preReleaseIntervals = preReleaseIntervals;
+    }
+
+    /**
+     * Compiles the sets of ranges of a range list, which are copied.
+     *
+     * @param rangesList the sets of ranges, one of which must be satisfied
+     * @param includePreRelease whether {@code pre-release} versions are allowed without a matching range
+     * @return the compiled range
+     */
+    static CompiledRange of(List<List<Range>> rangesList, boolean includePreRelease) {
+        List<List<Range>> copy = new ArrayList<>(rangesList.size());
+        for (List<Range> ranges : rangesList) {
+            copy.add(List.copyOf(ranges));
+        }
+        rangesList = List.copyOf(copy);
+
+        List<Interval> intervals = new ArrayList<>(rangesList.size());
+        Map<Tuple, List<Interval>> preReleaseIntervals = new TreeMap<>();
+        for (List<Range> ranges : rangesList) {
+            Interval interval = Interval.of(ranges);
+            if (interval == null) {
+                continue;
+            }
+            intervals.add(interval);
+            if (!includePreRelease) {
+                for (Range range : ranges) {
+                    Semver version = range.getRangeVersion();
+                    if (!version.getPreRelease().isEmpty()) {
+                        List<Interval> tupleIntervals = preReleaseIntervals.computeIfAbsent(
+                                new Tuple(version.getMajor(), version.getMinor(), version.getPatch()),
+                                tuple -> new ArrayList<>());
+                        if (tupleIntervals.isEmpty() || tupleIntervals.get(tupleIntervals.size() - 1) != interval) {
+                            tupleIntervals.add(interval);
+                        }
+                    }
+                }
+            }
+        }
+
+        int[] tuples = new int[preReleaseIntervals.size() * 3];
+        Interval[][] tupleIntervals = new Interval[preReleaseIntervals.size()][];
+        int index = 0;
+        for (Map.Entry<Tuple, List<Interval>> entry : preReleaseIntervals.entrySet()) {
+            Tuple tuple = entry.getKey();
+            tuples[index * 3] = tuple.major();
+            tuples[index * 3 + 1] = tuple.minor();
+            tuples[index * 3 + 2] = tuple.patch();
+            tupleIntervals[index] = merge(entry.getValue());
+            index++;
+        }
+
+        return new CompiledRange(rangesList, includePreRelease, merge(intervals), tuples, tupleIntervals);
+    }
+
+    /** Sorts the intervals and merges the contiguous ones. */
+    private static Interval[] merge(List<Interval> intervals) {
+        if (intervals.isEmpty()) {
+            return NO_INTERVALS;
+        }
+        Interval[] sorted = intervals.toArray(NO_INTERVALS);
+        Arrays.sort(sorted, Interval::compareLowers);
+
+        List<Interval> merged = new ArrayList<>(sorted.length);
+        Interval current = sorted[0];
+        for (int i = 1; i < sorted.length; i++) {
+            if (current.isContiguousWith(sorted[i])) {
+                current = current.span(sorted[i]);
+            } else {
+                merged.add(current);
+                current = sorted[i];
+            }
+        }
+        merged.add(current);
+        return merged.toArray(NO_INTERVALS);
+    }
+
+    /**
+     * Returns the sets of ranges this range was compiled from.
+     *
+     * @return the unmodifiable sets of ranges, one of which must be satisfied
+     */
+    public List<List<Range>> get() {
+        return rangesList;
+    }
+
+    /**
+     * Returns whether {@code pre-release} versions are included in range matching.
+     *
+     * @return {@code true} if {@code pre-release} versions are matched like other versions, {@code false} if they only
+     *     match when a range of the same set has a {@code pre-release} with the same {@code major}, {@code minor} and
+     *     {@code patch}
+     */
+    public boolean isIncludePreRelease() {
+        return includePreRelease;
+    }
+
+    /**
+     * Checks if the specified version satisfies this range, exactly as {@link RangeList#isSatisfiedBy(Semver)} does for
+     * the range list it was compiled from.
+     *
+     * @param version the semantic version to check
+     * @return {@code true} if the version satisfies at least one set of ranges, {@code false} otherwise
+     */
+    public boolean isSatisfiedBy(Semver version) {
+        if (includePreRelease || version.getPreRelease().isEmpty()) {
+            return contains(intervals, version);
+        }
+        int tuple = findTuple(version.getMajor(), version.getMinor(), version.getPatch());
+        return tuple >= 0 && contains(preReleaseIntervals[tuple], version);
+    }
+
+    /**
+     * Returns the highest or lowest satisfying version of a list sorted in ascending order, checking only the versions
+     * within the intervals, from the highest or lowest one.
+     */
+    @Nullable
+    Semver findSatisfying(List<? extends Semver> versions, boolean highest) {
+        for (int i = 0; i < intervals.length; i++) {
+            Interval interval = intervals[highest ? intervals.length - 1 - i : i];
+            int from = lowerIndex(versions, interval);
+            int to = upperIndex(versions, interval);
+            if (highest) {
+                for (int j = to - 1; j >= from; j--) {
+                    if (isSatisfiedBy(versions.get(j))) {
+                        return versions.get(j);
+                    }
+                }
+            } else {
+                for (int j = from; j < to; j++) {
+                    if (isSatisfiedBy(versions.get(j))) {
+                        return versions.get(j);
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the highest or lowest satisfying version of a set in natural order, checking only the versions within the
+     * intervals, from the highest or lowest one.
+     */
+    @Nullable
+    Semver findSatisfying(NavigableSet<Semver> versions, boolean highest) {
+        for (int i = 0; i < intervals.length; i++) {
+            Interval interval = intervals[highest ? intervals.length - 1 - i : i];
+            NavigableSet<Semver> subSet = versions;
+            if (interval.lower != null) {
+                subSet = subSet.tailSet(interval.lower, interval.lowerInclusive);
+            }
+            if (interval.upper != null) {
+                subSet = subSet.headSet(interval.upper, interval.upperInclusive);
+            }
+            for (Semver version : highest ? subSet.descendingSet() : subSet) {
+                if (isSatisfiedBy(version)) {
+                    return version;
+                }
+            }
+        }
+        return null;
+    }
+
+    /** Returns the index of the first version of a sorted list which is not below the interval. */
+    private static int lowerIndex(List<? extends Semver> versions, Interval interval) {
+        int low = 0;
+        int high = versions.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (interval.isAboveLower(versions.get(middle))) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    /** Returns the index of the first version of a sorted list which is above the interval. */
+    private static int upperIndex(List<? extends Semver> versions, Interval interval) {
+        int low = 0;
+        int high = versions.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (interval.isBelowUpper(versions.get(middle))) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /** Whether one of the sorted disjoint intervals contains the version. */
+    private static boolean contains(Interval[] intervals, Semver version) {
+        // Find the last interval starting at or below the version
+        int low = 0;
+        int high = intervals.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (intervals[middle].isAboveLower(version)) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return high >= 0 && intervals[high].isBelowUpper(version);
+    }
+
+    private int findTuple(int major, int minor, int patch) {
+        int low = 0;
+        int high = preReleaseTuples.length / 3 - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = compareTuple(middle, major, minor, patch);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    private int compareTuple(int index, int major, int minor, int patch) {
+        int comparison = Integer.compare(preReleaseTuples[index * 3], major);
+        if (comparison == 0) {
+            comparison = Integer.compare(preReleaseTuples[index * 3 + 1], minor);
+            if (comparison == 0) {
+                comparison = Integer.compare(preReleaseTuples[index * 3 + 2], patch);
+            }
+        }
+        return comparison;
+    }
+
+    /** Returns the sorted disjoint intervals of all the sets of ranges. */
+    Interval[] intervals() {
+        return intervals;
+    }
+
+    /** Returns the number of {@code major}, {@code minor} and {@code patch} tuples allowing {@code pre-release}s. */
+    int preReleaseTupleCount() {
+        return preReleaseIntervals.length;
+    }
+
+    /** Returns the version with the {@code major}, {@code minor} and {@code patch} of a tuple. */
+    Semver preReleaseTuple(int index) {
+        return Semver.create(
+                preReleaseTuples[index * 3], preReleaseTuples[index * 3 + 1], preReleaseTuples[index * 3 + 2]);
+    }
+
+    /** Returns the sorted disjoint intervals of the sets of ranges allowing the {@code pre-release}s of a tuple. */
+    Interval[] preReleaseIntervals(int index) {
+        return preReleaseIntervals[index];
+    }
+
+    /**
+     * Returns a string representation of this range, in the format of {@link RangeList#toString()}.
+     *
+     * @return a string representation of this range
+     */
+    @Override
+    public String toString() {
+        return RangeList.format(rangesList);
+    }
+
+    private record Tuple(int major, int minor, int patch) implements Comparable<Tuple> {
+        @Override
+        public int compareTo(Tuple other) {
+            int comparison = Integer.compare(major, other.major);
+            if (comparison == 0) {
+                comparison = Integer.compare(minor, other.minor);
+                if (comparison == 0) {
+                    comparison = Integer.compare(patch, other.patch);
+                }
+            }
+            return comparison;
+        }
+    }
+}
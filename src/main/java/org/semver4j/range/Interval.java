@@ -0,0 +1,181 @@
+package org.semver4j.range;
+
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+import org.semver4j.Semver;
+
+/**
+ * An interval of versions, ordered by {@link Semver#compareTo(Semver)}: the versions satisfying a set of {@link Range}s
+ * which must all be satisfied.
+ *
+ * <p>A {@code null} bound means the interval is unbounded on that side.
+ */
+final class Interval {
+    /** The interval containing every version. */
+    static final Interval ALL = new Interval(null, false, null, false);
+
+    final @Nullable Semver lower;
+    final boolean lowerInclusive;
+    final @Nullable Semver upper;
+    final boolean upperInclusive;
+
+    Interval(@Nullable Semver lower, boolean lowerInclusive, @Nullable Semver upper, boolean upperInclusive) {
+        this.lower = lower;
+        this.lowerInclusive = lowerInclusive;
+        this.upper = upper;
+        this.upperInclusive = upperInclusive;
+    }
+
+    /**
+     * Returns the intersection of the ranges, the versions satisfying all of them.
+     *
+     * @param ranges the ranges to intersect
+     * @return the interval of the versions satisfying all the ranges, or {@code null} if none does
+     */
+    static @Nullable Interval of(List<Range> ranges) {
+        Interval interval = ALL;
+        for (Range range : ranges) {
+            Semver version = range.getRangeVersion();
+            interval = switch (range.getRangeOperator()) {
+                case EQ -> interval.withLower(version, true).withUpper(version, true);
+                case LT -> interval.withUpper(version, false);
+                case LTE -> interval.withUpper(version, true);
+                case GT -> interval.withLower(version, false);
+                case GTE -> interval.withLower(version, true);
+            };
+        }
+        return interval.isEmpty() ? null : interval;
+    }
+
+    /** Returns this interval restricted to the versions above, or at if inclusive, the given version. */
+    Interval withLower(Semver version, boolean inclusive) {
+        if (lower != null) {
+            int comparison = version.compareTo(lower);
+            if (comparison < 0 || (comparison == 0 && (inclusive || !lowerInclusive))) {
+                return this;
+            }
+        }
+        return new Interval(version, inclusive, upper, upperInclusive);
+    }
+
+    /** Returns this interval restricted to the versions below, or at if inclusive, the given version. */
+    Interval withUpper(Semver version, boolean inclusive) {
+        if (upper != null) {
+            int comparison = version.compareTo(upper);
+            if (comparison > 0 || (comparison == 0 && (inclusive || !upperInclusive))) {
+                return this;
+            }
+        }
+        return new Interval(lower, lowerInclusive, version, inclusive);
+    }
+
+    /**
+     * Returns the versions in both this interval and the other one.
+     *
+     * @param other the other interval
+     * @return the intersection, or {@code null} if it is empty
+     */
+    @Nullable
+    Interval intersection(Interval other) {
+        Interval interval = this;
+        if (other.lower != null) {
+            interval = interval.withLower(other.lower, other.lowerInclusive);
+        }
+        if (other.upper != null) {
+            interval = interval.withUpper(other.upper, other.upperInclusive);
+        }
+        return interval.isEmpty() ? null : interval;
+    }
+
+    boolean isEmpty() {
+        if (lower == null || upper == null) {
+            return false;
+        }
+        int comparison = lower.compareTo(upper);
+        return comparison > 0 || (comparison == 0 && !(lowerInclusive && upperInclusive));
+    }
+
+    boolean contains(Semver version) {
+        return isAboveLower(version) && isBelowUpper(version);
+    }
+
+    /** Whether the version is not below this interval. */
+    boolean isAboveLower(Semver version) {
+        if (lower == null) {
+            return true;
+        }
+        int comparison = version.compareTo(lower);
+        return comparison > 0 || (comparison == 0 && lowerInclusive);
+    }
+
+    /** Whether the version is not above this interval. */
+    boolean isBelowUpper(Semver version) {
+        if (upper == null) {
+            return true;
+        }
+        int comparison = version.compareTo(upper);
+        return comparison < 0 || (comparison == 0 && upperInclusive);
+    }
+
+    /** Orders intervals by their lower bound, an inclusive bound coming before an exclusive one on the same version. */
+    static int compareLowers(Interval interval, Interval other) {
+        if (interval.lower == null || other.lower == null) {
+            return Boolean.compare(interval.lower != null, other.lower != null);
+        }
+        int comparison = interval.lower.compareTo(other.lower);
+        if (comparison != 0) {
+            return comparison;
+        }
+        return Boolean.compare(other.lowerInclusive, interval.lowerInclusive);
+    }
+
+    /** Orders intervals by their upper bound, an exclusive bound coming before an inclusive one on the same version. */
+    static int compareUppers(Interval interval, Interval other) {
+        if (interval.upper == null || other.upper == null) {
+            return Boolean.compare(interval.upper == null, other.upper == null);
+        }
+        int comparison = interval.upper.compareTo(other.upper);
+        if (comparison != 0) {
+            return comparison;
+        }
+        return Boolean.compare(interval.upperInclusive, other.upperInclusive);
+    }
+
+    /** Whether both intervals have the same bounds, versions being compared by precedence. */
+    boolean hasSameBounds(Interval other) {
+        return compareLowers(this, other) == 0 && compareUppers(this, other) == 0;
+    }
+
+    /**
+     * Whether the union of this interval and the next one, whose lower bound is not below the lower bound of this
+     * interval, is an interval.
+     */
+    boolean isContiguousWith(Interval next) {
+        if (upper == null || next.lower == null) {
+            return true;
+        }
+        int comparison = next.lower.compareTo(upper);
+        return comparison < 0 || (comparison == 0 && (next.lowerInclusive || upperInclusive));
+    }
+
+    /** Returns the union of this interval and the next one, when {@link #isContiguousWith(Interval) contiguous}. */
+    Interval span(Interval next) {
+        if (upper == null) {
+            return this;
+        }
+        if (next.upper != null) {
+            int comparison = next.upper.compareTo(upper);
+            if (comparison < 0 || (comparison == 0 && (upperInclusive || !next.upperInclusive))) {
+                return this;
+            }
+        }
+        return new Interval(lower, lowerInclusive, next.upper, next.upperInclusive);
+    }
+
+    @Override
+    public String toString() {
+        return (lower == null ? "(-inf" : (lowerInclusive ? "[" : "(") + lower)
+                + ", "
+                + (upper == null ? "+inf)" : upper + (upperInclusive ? "]" : ")"));
+    }
+}
@@ -0,0 +1,217 @@
+package org.semver4j.range;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+import org.semver4j.Semver;
+import org.semver4j.internal.SortKeys;
+
+/**
+ * A range {@code [lowKey, highKey)} of {@linkplain Semver#toSortKey() sort keys} of versions, to find the versions
+ * satisfying a {@link RangeList} with range scans of a sorted store.
+ *
+ * <p>Unless {@code pre-release}s are included, a range list is satisfied by the release versions of its intervals, and
+ * only by the {@code pre-release} versions of the {@code major}, {@code minor} and {@code patch} its ranges name:
+ * {@code ^1.2.3} is satisfied by {@code 1.5.0} but not by {@code 1.5.0-beta}, which has a key between theirs. Such
+ * intervals are ranges of {@link #isReleasesOnly() releases only}: the keys scanned in them must also pass a residual
+ * filter, keeping the keys of release versions, which {@link #contains(byte[])} applies. The {@code pre-release}s of a
+ * named release have keys between those of the previous release and its own, with no release among them, so the ranges
+ * of those {@code pre-release}s are exact.
+ *
+ * <pre>{@code
+ * for (KeyRange range : RangeListFactory.create("^1.2.0").toKeyRanges()) {
+ *     for (byte[] key : store.scan(range.getLowKey(), range.getHighKey())) {
+ *         if (!range.isReleasesOnly() || range.contains(key)) {
+ *             found.add(Semver.fromSortKey(key));
+ *         }
+ *     }
+ * }
+ * }</pre>
+ *
+ * @see Semver#toSortKey()
+ * @see RangeList#toKeyRanges()
+ * @since 6.1.0
+ */
+public final class KeyRange {
+    private static final byte[] LOWEST_KEY = new byte[0];
+
+    private final byte[] lowKey;
+    private final byte @Nullable [] highKey;
+    private final boolean releasesOnly;
+
+    private KeyRange(byte[] lowKey, byte @Nullable [] highKey, boolean releasesOnly) {
+        this.lowKey = lowKey;
+        this.highKey = highKey;
+        this.releasesOnly = releasesOnly;
+    }
+
+    /**
+     * Returns the sorted disjoint key ranges of the versions satisfying a compiled range.
+     *
+     * <p>Each interval is a range of releases only unless {@code pre-release}s are included. The {@code pre-release}s
+     * of each named tuple are the exact ranges of its intervals within the keys of the {@code pre-release}s of the
+     * tuple, cut out of the ranges of releases only, which have no release there.
+     */
+    static List<KeyRange> of(CompiledRange range) {
+        boolean releasesOnly = !range.isIncludePreRelease();
+        List<KeyRange> ranges = new ArrayList<>();
+        for (Interval interval : range.intervals()) {
+            add(ranges, of(interval, releasesOnly));
+        }
+        ranges = merge(ranges);
+        if (!releasesOnly) {
+            return Collections.unmodifiableList(ranges);
+        }
+
+        List<KeyRange> preReleases = new ArrayList<>();
+        for (int i = 0; i < range.preReleaseTupleCount(); i++) {
+            byte[] release = SortKeys.encodePrecedence(range.preReleaseTuple(i));
+            // Every pre-release key of the tuple starts with its numbers followed by the pre-release marker
+            byte[] lowestPreRelease = release.clone();
+            lowestPreRelease[lowestPreRelease.length - 1]--;
+            KeyRange slot = new KeyRange(lowestPreRelease, release, false);
+            for (Interval interval : range.preReleaseIntervals(i)) {
+                add(preReleases, slot.intersection(of(interval, false)));
+            }
+        }
+        preReleases = merge(preReleases);
+
+        List<KeyRange> result = new ArrayList<>(preReleases);
+        int first = 0;
+        for (KeyRange releases : ranges) {
+            while (first < preReleases.size() && !isBelow(releases.lowKey, preReleases.get(first).highKey)) {
+                first++;
+            }
+            byte[] low = releases.lowKey;
+            for (int i = first; i < preReleases.size() && isBelow(preReleases.get(i).lowKey, releases.highKey); i++) {
+                add(result, new KeyRange(low, preReleases.get(i).lowKey, true));
+                low = max(low, preReleases.get(i).highKey);
+            }
+            add(result, new KeyRange(low, releases.highKey, true));
+        }
+        return Collections.unmodifiableList(merge(result));
+    }
+
+    private static KeyRange of(Interval interval, boolean releasesOnly) {
+        byte[] lowKey = LOWEST_KEY;
+        if (interval.lower != null) {
+            byte[] lower = SortKeys.encodePrecedence(interval.lower);
+            lowKey = interval.lowerInclusive ? lower : above(lower);
+        }
+        byte[] highKey = null;
+        if (interval.upper != null) {
+            byte[] upper = SortKeys.encodePrecedence(interval.upper);
+            highKey = interval.upperInclusive ? above(upper) : upper;
+        }
+        return new KeyRange(lowKey, highKey, releasesOnly);
+    }
+
+    /**
+     * Returns the lowest key above all the keys starting with the given precedence, which ends with a marker, never
+     * with {@code 0xFF}.
+     */
+    private static byte[] above(byte[] precedence) {
+        byte[] key = precedence.clone();
+        key[key.length - 1]++;
+        return key;
+    }
+
+    private static void add(List<KeyRange> ranges, @Nullable KeyRange range) {
+        if (range != null && isBelow(range.lowKey, range.highKey)) {
+            ranges.add(range);
+        }
+    }
+
+    /** Sorts ranges by low key, merging the overlapping and adjacent ranges of the same kind. */
+    private static List<KeyRange> merge(List<KeyRange> ranges) {
+        ranges.sort((a, b) -> Arrays.compareUnsigned(a.lowKey, b.lowKey));
+        List<KeyRange> merged = new ArrayList<>(ranges.size());
+        for (KeyRange range : ranges) {
+            KeyRange last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+            if (last != null && last.releasesOnly == range.releasesOnly && !isBelow(last.highKey, range.lowKey)) {
+                merged.set(
+                        merged.size() - 1,
+                        new KeyRange(last.lowKey, maxHigh(last.highKey, range.highKey), range.releasesOnly));
+            } else {
+                merged.add(range);
+            }
+        }
+        return merged;
+    }
+
+    private @Nullable KeyRange intersection(KeyRange other) {
+        byte[] low = max(lowKey, other.lowKey);
+        byte[] high =
+                highKey == null || (other.highKey != null && isBelow(other.highKey, highKey)) ? other.highKey : highKey;
+        return isBelow(low, high) ? new KeyRange(low, high, releasesOnly && other.releasesOnly) : null;
+    }
+
+    /** Whether a key is below a high key, {@code null} for no upper bound. */
+    private static boolean isBelow(byte[] key, byte @Nullable [] highKey) {
+        return highKey == null || Arrays.compareUnsigned(key, highKey) < 0;
+    }
+
+    private static byte[] max(byte[] key, byte @Nullable [] other) {
+        return other != null && Arrays.compareUnsigned(other, key) > 0 ? other : key;
+    }
+
+    private static byte @Nullable [] maxHigh(byte @Nullable [] highKey, byte @Nullable [] other) {
+        return highKey == null || other == null ? null : max(highKey, other);
+    }
+
+    /**
+     * Returns the lowest key of this range.
+     *
+     * @return a copy of the inclusive lower bound of the keys, an empty array if the range is unbounded below
+     */
+    public byte[] getLowKey() {
+        return lowKey.clone();
+    }
+
+    /**
+     * Returns the key above this range.
+     *
+     * @return a copy of the exclusive upper bound of the keys, or {@code null} if the range is unbounded above
+     */
+    public byte @Nullable [] getHighKey() {
+        return highKey == null ? null : highKey.clone();
+    }
+
+    /**
+     * Checks whether only the keys of release versions in this range are satisfying: the keys found by a scan must then
+     * be filtered with {@link #contains(byte[])}.
+     *
+     * @return {@code true} if the keys of {@code pre-release} versions in this range must be skipped, {@code false} if
+     *     every key in this range is satisfying
+     */
+    public boolean isReleasesOnly() {
+        return releasesOnly;
+    }
+
+    /**
+     * Checks whether a key is in this range and passes its residual filter.
+     *
+     * @param key the sort key of a version
+     * @return {@code true} if the version of the key is in this range, and is a release version if the range is
+     *     {@linkplain #isReleasesOnly() of releases only}
+     * @throws org.semver4j.SemverException if the key of a version in a range of releases only is not a valid key
+     */
+    public boolean contains(byte[] key) {
+        requireNonNull(key, "key must not be null");
+        return Arrays.compareUnsigned(key, lowKey) >= 0
+                && isBelow(key, highKey)
+                && (!releasesOnly || SortKeys.isRelease(key));
+    }
+
+    @Override
+    public String toString() {
+        HexFormat hex = HexFormat.of();
+        return "[" + hex.formatHex(lowKey) + ", " + (highKey == null ? "" : hex.formatHex(highKey)) + ")"
+                + (releasesOnly ? " releases only" : "");
+    }
+}
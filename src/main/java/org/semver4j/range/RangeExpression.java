@@ -202,15 +202,20 @@ public class RangeExpression {
      * Returns the {@link RangeList} representation of this expression.
      *
      * <p>This method is primarily used internally by the library and by
-     * {@link RangeListFactory#create(RangeExpression)}.
+     * {@link RangeListFactory#create(RangeExpression)}. It does not change this expression and returns a new range list
+     * on every call.
      *
      * @return a {@link RangeList} representing this expression
      */
     RangeList get() {
+        RangeList copy = new RangeList(false);
+        for (List<Range> ranges : rangeList.get()) {
+            copy.add(new ArrayList<>(ranges));
+        }
         if (!andOperationRanges.isEmpty()) {
-            flushAndClearAndOperationRangesToRangesList();
+            copy.add(new ArrayList<>(andOperationRanges));
         }
-        return rangeList;
+        return copy;
     }
 
     private void flushAndClearAndOperationRangesToRangesList() {
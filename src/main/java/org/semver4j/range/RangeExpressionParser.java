@@ -1,15 +1,14 @@
 package org.semver4j.range;
 
 import static java.util.regex.Pattern.compile;
-import static org.semver4j.internal.Tokenizers.COMPARATOR;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import org.semver4j.internal.RangeComparators;
 import org.semver4j.processor.CompositeProcessor;
 import org.semver4j.processor.Processor;
+import org.semver4j.processor.RangeProcessor;
 
 /**
  * Handles semantic version range expressions and converts them into a structured format. This class parses string
@@ -18,9 +17,8 @@ import org.semver4j.processor.Processor;
  */
 class RangeExpressionParser {
     private static final Pattern SPLITTER_PATTERN = compile("(\\s*)([<>]?=?)\\s*");
-    private static final Pattern COMPARATOR_PATTERN = compile(COMPARATOR);
 
-    private final Processor processor;
+    private final RangeProcessor processor;
 
     /** Constructs a new {@code RangeExpressionParser} with all available processors. */
     RangeExpressionParser() {
@@ -33,7 +31,7 @@ class RangeExpressionParser {
      * @param processor the processor to use for range processing
      */
     RangeExpressionParser(Processor processor) {
-        this.processor = processor;
+        this.processor = RangeProcessor.of(processor);
     }
 
     /**
@@ -49,10 +47,7 @@ class RangeExpressionParser {
         String[] rangeSections = range.split("\\|\\|");
         for (String rangeSection : rangeSections) {
             rangeSection = stripWhitespacesBetweenRangeOperator(rangeSection);
-            rangeSection = applyProcessors(rangeSection, includePreRelease);
-
-            List<Range> ranges = addRanges(rangeSection);
-            rangeList.add(ranges);
+            rangeList.add(applyProcessors(rangeSection, includePreRelease));
         }
 
         return rangeList;
@@ -63,24 +58,8 @@ class RangeExpressionParser {
         return matcher.replaceAll("$1$2").trim();
     }
 
-    private String applyProcessors(String range, boolean includePreRelease) {
-        return Optional.ofNullable(processor.process(range, includePreRelease)).orElse(range);
-    }
-
-    private static List<Range> addRanges(String range) {
-        List<Range> ranges = new ArrayList<>();
-
-        String[] parsedRanges = range.split("\\s+");
-        for (String parsedRange : parsedRanges) {
-            Matcher matcher = COMPARATOR_PATTERN.matcher(parsedRange);
-            if (matcher.matches()) {
-                String rangeOperator = matcher.group(1);
-                String version = matcher.group(2);
-
-                ranges.add(new Range(version, Range.RangeOperator.value(rangeOperator)));
-            }
-        }
-
-        return ranges;
+    private List<Range> applyProcessors(String range, boolean includePreRelease) {
+        List<Range> ranges = processor.processRanges(range, includePreRelease);
+        return ranges == null ? RangeComparators.parse(range) : ranges;
     }
 }
@@ -0,0 +1,335 @@
+package org.semver4j.range;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+import org.semver4j.Semver;
+
+/**
+ * An immutable index of many {@link RangeList}s with a payload each, finding the range lists satisfied by a version
+ * without checking each of them.
+ *
+ * <p>Each range list is split into the intervals of the release versions and of the {@code pre-release} versions it is
+ * satisfied by, which follow its {@code pre-release} rule. The intervals of each kind are stored in an interval tree
+ * over the distinct bounds of all the intervals, so that {@link #lookup(Semver)} finds the payloads of the range lists
+ * satisfied by a version in {@code O(log n + k)} time for {@code k} satisfied range lists.
+ *
+ * <pre>{@code
+ * RangeIndex<String> dependents = RangeIndex.<String>builder()
+ *         .add(RangeListFactory.create("^1.2.0"), "app")
+ *         .add(RangeListFactory.create(">=1.5.0 <3.0.0"), "service")
+ *         .build();
+ * List<String> toRebuild = dependents.lookup(new Semver("2.0.0"));
+ * }</pre>
+ *
+ * <p>An index never changes once built: it can be shared between threads without synchronization.
+ *
+ * @param <T> the type of the payloads
+ * @since 6.1.0
+ */
+public final class RangeIndex<T> {
+    private final Object[] payloads;
+    private final Tree releases;
+    private final Tree preReleases;
+
+    private RangeIndex(Object[] payloads, Tree releases, Tree preReleases) {
+        this.payloads = payloads;
+        this.releases = releases;
+        this.preReleases = preReleases;
+    }
+
+    /**
+     * Creates a builder of an index.
+     *
+     * @param <T> the type of the payloads
+     * @return a new builder, without range lists
+     */
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Returns the number of range lists in this index.
+     *
+     * @return the number of range lists added to the builder
+     */
+    public int size() {
+        return payloads.length;
+    }
+
+    /**
+     * Returns the payloads of the range lists satisfied by a version.
+     *
+     * @param version the version to look up
+     * @return the unmodifiable list of the payloads, in no particular order; a payload added with several range lists
+     *     is listed once for each of them which is satisfied
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> lookup(Semver version) {
+        requireNonNull(version, "version must not be null");
+        List<T> found = new ArrayList<>();
+        Tree tree = version.getPreRelease().isEmpty() ? releases : preReleases;
+        tree.stab(version, entry -> found.add((T) payloads[entry]));
+        return Collections.unmodifiableList(found);
+    }
+
+    /**
+     * A builder of {@link RangeIndex}.
+     *
+     * @param <T> the type of the payloads
+     */
+    public static final class Builder<T> {
+        private final List<Object> payloads = new ArrayList<>();
+        private final List<Interval> releaseIntervals = new ArrayList<>();
+        private final List<Integer> releaseEntries = new ArrayList<>();
+        private final List<Interval> preReleaseIntervals = new ArrayList<>();
+        private final List<Integer> preReleaseEntries = new ArrayList<>();
+
+        private Builder() {}
+
+        /**
+         * Adds a range list with its payload.
+         *
+         * <p>The range list is compiled when added: changing it afterwards does not change the index.
+         *
+         * @param rangeList the range list
+         * @param payload the payload returned by {@link RangeIndex#lookup(Semver)} for the versions satisfying the
+         *     range list
+         * @return this builder
+         * @throws NullPointerException if the range list or the payload is {@code null}
+         */
+        public Builder<T> add(RangeList rangeList, T payload) {
+            requireNonNull(rangeList, "rangeList must not be null");
+            requireNonNull(payload, "payload must not be null");
+            VersionSet set = VersionSet.of(rangeList.compile());
+            int entry = payloads.size();
+            payloads.add(payload);
+            for (Interval interval : set.releases()) {
+                releaseIntervals.add(interval);
+                releaseEntries.add(entry);
+            }
+            for (Interval interval : set.preReleases()) {
+                preReleaseIntervals.add(interval);
+                preReleaseEntries.add(entry);
+            }
+            return this;
+        }
+
+        /**
+         * Builds the index of the range lists added so far.
+         *
+         * @return the index
+         */
+        public RangeIndex<T> build() {
+            return new RangeIndex<>(
+                    payloads.toArray(),
+                    Tree.of(releaseIntervals, releaseEntries),
+                    Tree.of(preReleaseIntervals, preReleaseEntries));
+        }
+    }
+
+    /** Receives the entries of the intervals containing a version. */
+    private interface EntryConsumer {
+        void accept(int entry);
+    }
+
+    /**
+     * A centered interval tree of intervals of slots.
+     *
+     * <p>The distinct bounds of the intervals cut the versions into slots: slot {@code 2i + 1} is the {@code i}th
+     * bound, and slot {@code 2i} the versions between bounds {@code i - 1} and {@code i}. An interval is then the
+     * closed range of the slots it covers, and finding the intervals containing a version only takes a binary search of
+     * its slot and a walk down the tree.
+     */
+    private static final class Tree {
+        private static final Semver[] NO_BOUNDS = new Semver[0];
+
+        private final Semver[] bounds;
+        private final @Nullable Node root;
+
+        private Tree(Semver[] bounds, @Nullable Node root) {
+            this.bounds = bounds;
+            this.root = root;
+        }
+
+        static Tree of(List<Interval> intervals, List<Integer> entries) {
+            List<Semver> allBounds = new ArrayList<>(intervals.size() * 2);
+            for (Interval interval : intervals) {
+                if (interval.lower != null) {
+                    allBounds.add(interval.lower);
+                }
+                if (interval.upper != null) {
+                    allBounds.add(interval.upper);
+                }
+            }
+            Semver[] bounds = distinct(allBounds);
+
+            int[] lows = new int[intervals.size()];
+            int[] highs = new int[intervals.size()];
+            int[] ids = new int[intervals.size()];
+            int count = 0;
+            for (int i = 0; i < intervals.size(); i++) {
+                Interval interval = intervals.get(i);
+                int low = interval.lower == null
+                        ? 0
+                        : 2 * Arrays.binarySearch(bounds, interval.lower) + (interval.lowerInclusive ? 1 : 2);
+                int high = interval.upper == null
+                        ? 2 * bounds.length
+                        : 2 * Arrays.binarySearch(bounds, interval.upper) + (interval.upperInclusive ? 1 : 0);
+                if (low <= high) {
+                    lows[count] = low;
+                    highs[count] = high;
+                    ids[count] = entries.get(i);
+                    count++;
+                }
+            }
+            int[] indexes = new int[count];
+            Arrays.setAll(indexes, i -> i);
+            return new Tree(bounds, Node.of(indexes, lows, highs, ids));
+        }
+
+        private static Semver[] distinct(List<Semver> versions) {
+            Semver[] sorted = versions.toArray(NO_BOUNDS);
+            Arrays.sort(sorted);
+            int size = 0;
+            for (Semver version : sorted) {
+                if (size == 0 || version.compareTo(sorted[size - 1]) != 0) {
+                    sorted[size++] = version;
+                }
+            }
+            return Arrays.copyOf(sorted, size);
+        }
+
+        void stab(Semver version, EntryConsumer consumer) {
+            int index = Arrays.binarySearch(bounds, version);
+            int slot = index >= 0 ? 2 * index + 1 : 2 * (-index - 1);
+            Node node = root;
+            while (node != null) {
+                node = node.stab(slot, consumer);
+            }
+        }
+    }
+
+    /** A node of a centered interval tree, holding the intervals containing its center slot. */
+    private static final class Node {
+        private final int center;
+        /** The low slots of the intervals containing the center, in ascending order. */
+        private final int[] lowsAscending;
+        /** The entries of the intervals, in the order of {@link #lowsAscending}. */
+        private final int[] entriesByLow;
+        /** The high slots of the intervals containing the center, in descending order. */
+        private final int[] highsDescending;
+        /** The entries of the intervals, in the order of {@link #highsDescending}. */
+        private final int[] entriesByHigh;
+
+        private final @Nullable Node below;
+        private final @Nullable Node above;
+
+        private Node(
+                int center,
+                int[] lowsAscending,
+                int[] entriesByLow,
+                int[] highsDescending,
+                int[] entriesByHigh,
+                @Nullable Node below,
+                @Nullable Node above) {
+            this.center = center;
+            this.lowsAscending = lowsAscending;
+            this.entriesByLow = entriesByLow;
+            this.highsDescending = highsDescending;
+            this.entriesByHigh = entriesByHigh;
+            this.below = below;
+            this.above = above;
+        }
+
+        /** Builds the tree of the intervals at the given indexes of the slot and entry arrays. */
+        static @Nullable Node of(int[] indexes, int[] lows, int[] highs, int[] entries) {
+            if (indexes.length == 0) {
+                return null;
+            }
+            // The median of the bounds is a bound of an interval, which contains it: each node holds an interval
+            int[] slots = new int[indexes.length * 2];
+            for (int i = 0; i < indexes.length; i++) {
+                slots[i * 2] = lows[indexes[i]];
+                slots[i * 2 + 1] = highs[indexes[i]];
+            }
+            Arrays.sort(slots);
+            int center = slots[indexes.length];
+
+            int belowCount = 0;
+            int aboveCount = 0;
+            for (int index : indexes) {
+                if (highs[index] < center) {
+                    belowCount++;
+                } else if (lows[index] > center) {
+                    aboveCount++;
+                }
+            }
+            int[] below = new int[belowCount];
+            int[] above = new int[aboveCount];
+            long[] byLow = new long[indexes.length - belowCount - aboveCount];
+            long[] byHigh = new long[byLow.length];
+            belowCount = 0;
+            aboveCount = 0;
+            int containing = 0;
+            for (int index : indexes) {
+                if (highs[index] < center) {
+                    below[belowCount++] = index;
+                } else if (lows[index] > center) {
+                    above[aboveCount++] = index;
+                } else {
+                    // Sort the slots along with the entries by packing both into longs
+                    byLow[containing] = ((long) lows[index] << 32) | entries[index];
+                    byHigh[containing] = ((long) -highs[index] << 32) | entries[index];
+                    containing++;
+                }
+            }
+            Arrays.sort(byLow);
+            Arrays.sort(byHigh);
+
+            int[] lowsAscending = new int[containing];
+            int[] entriesByLow = new int[containing];
+            int[] highsDescending = new int[containing];
+            int[] entriesByHigh = new int[containing];
+            for (int i = 0; i < containing; i++) {
+                lowsAscending[i] = (int) (byLow[i] >> 32);
+                entriesByLow[i] = (int) byLow[i];
+                highsDescending[i] = (int) -(byHigh[i] >> 32);
+                entriesByHigh[i] = (int) byHigh[i];
+            }
+            return new Node(
+                    center,
+                    lowsAscending,
+                    entriesByLow,
+                    highsDescending,
+                    entriesByHigh,
+                    of(below, lows, highs, entries),
+                    of(above, lows, highs, entries));
+        }
+
+        /** Reports the intervals of this node containing the slot, and returns the next node to visit. */
+        @Nullable
+        Node stab(int slot, EntryConsumer consumer) {
+            if (slot < center) {
+                for (int i = 0; i < lowsAscending.length && lowsAscending[i] <= slot; i++) {
+                    consumer.accept(entriesByLow[i]);
+                }
+                return below;
+            }
+            if (slot > center) {
+                for (int i = 0; i < highsDescending.length && highsDescending[i] >= slot; i++) {
+                    consumer.accept(entriesByHigh[i]);
+                }
+                return above;
+            }
+            for (int entry : entriesByLow) {
+                consumer.accept(entry);
+            }
+            return null;
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package org.semver4j.range;
 
-import static java.lang.String.format;
-import static java.util.stream.Collectors.joining;
+import static java.util.Collections.unmodifiableList;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
-import java.util.Locale;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.RandomAccess;
+import org.jspecify.annotations.Nullable;
 import org.semver4j.Semver;
 
 /**
@@ -61,6 +64,12 @@ public class RangeList {
 
     private final boolean includePreRelease;
 
+    /** Set for the instances shared by {@link RangeListCache}. */
+    private boolean unmodifiable;
+
+    /** The compiled form of the ranges, once they cannot be modified anymore. */
+    private @Nullable CompiledRange compiledRange;
+
     /**
      * Constructs a new {@code RangeList} with the specified {@code pre-release} inclusion behavior.
      *
@@ -79,8 +88,12 @@ public class RangeList {
      *
      * @param ranges the set of ranges to add (connected with logical {@code AND})
      * @return this {@code RangeList} instance for method chaining
+     * @throws UnsupportedOperationException if this range list is shared by a {@link RangeListCache}
      */
     public RangeList add(final List<Range> ranges) {
+        if (unmodifiable) {
+            throw new UnsupportedOperationException("RangeList is shared by a RangeListCache and cannot be modified");
+        }
         if (!ranges.isEmpty()) {
             rangesList.add(ranges);
         }
@@ -90,10 +103,49 @@ public class RangeList {
     /**
      * Returns the list of range sets contained in this range list.
      *
-     * @return the internal list of range sets
+     * @return the internal list of range sets, or an unmodifiable view of it if this range list is shared by a
+     *     {@link RangeListCache}
      */
     public List<List<Range>> get() {
-        return rangesList;
+        return unmodifiable ? unmodifiableList(rangesList) : rangesList;
+    }
+
+    /**
+     * Returns whether {@code pre-release} versions are included in range matching.
+     *
+     * @return {@code true} if {@code pre-release} versions are matched like other versions, {@code false} if they only
+     *     match when a range of the same set has a {@code pre-release} with the same {@code major}, {@code minor} and
+     *     {@code patch}
+     * @since 6.1.0
+     */
+    public boolean isIncludePreRelease() {
+        return includePreRelease;
+    }
+
+    /** Whether this range list is shared by a {@link RangeListCache}, and cannot change anymore. */
+    boolean isUnmodifiable() {
+        return unmodifiable;
+    }
+
+    /** Prevents any further modification, before the instance is shared. */
+    void makeUnmodifiable() {
+        rangesList.replaceAll(List::copyOf);
+        unmodifiable = true;
+        compiledRange = compile();
+    }
+
+    /**
+     * Compiles this range list into an immutable {@link CompiledRange}.
+     *
+     * <p>The compiled range is a snapshot: changing this range list afterwards does not change it. It can be shared
+     * between threads and checks versions faster than this range list, without allocating.
+     *
+     * @return the compiled form of this range list
+     * @since 6.1.0
+     */
+    public CompiledRange compile() {
+        CompiledRange compiled = compiledRange;
+        return compiled != null ? compiled : CompiledRange.of(rangesList, includePreRelease);
     }
 
     /**
@@ -101,6 +153,10 @@ public class RangeList {
      *
      * <p>A range list is satisfiable if all individual ranges in all sets can be satisfied by at least one version.
      *
+     * <p>Like {@link Range#isSatisfiedByAny()}, this only recognizes ranges which are {@code >=0.0.0}, so that an empty
+     * range list is reported as satisfied by any version. Use {@link #isSatisfiable()} to check whether at least one
+     * version satisfies this range list.
+     *
      * @return {@code true} if at least one version could potentially satisfy this range list, {@code false} if no
      *     version can satisfy it
      */
@@ -108,18 +164,235 @@ public class RangeList {
         return rangesList.stream().flatMap(List::stream).allMatch(Range::isSatisfiedByAny);
     }
 
+    /**
+     * Checks if at least one version satisfies this range list.
+     *
+     * <p>A range list is satisfiable if the ranges of at least one of its sets are satisfied by a common version,
+     * following the {@code pre-release} rule of this range list: only {@code pre-release} versions of {@code 1.2.4} are
+     * between {@code 1.2.3} and {@code 1.2.4}, so that no version satisfies {@code >1.2.3 <1.2.4} unless
+     * {@code pre-release}s are included. An empty range list is not satisfiable.
+     *
+     * @return {@code true} if at least one version satisfies this range list, {@code false} if no version can satisfy
+     *     it
+     * @since 6.1.0
+     */
+    public boolean isSatisfiable() {
+        return !toVersionSet().isEmpty();
+    }
+
     /**
      * Checks if the specified version satisfies this range list.
      *
      * <p>A version satisfies the range list if it satisfies at least one complete set of ranges.
      *
+     * <p>The range lists shared by {@link RangeListCache} are compiled into sorted intervals, so that a version is
+     * checked with a binary search whatever the number of sets of ranges.
+     *
      * @param version the semantic version to check
      * @return {@code true} if the version satisfies at least one set of ranges in this list, {@code false} otherwise
      */
     public boolean isSatisfiedBy(Semver version) {
+        CompiledRange compiled = compiledRange;
+        if (compiled != null) {
+            return compiled.isSatisfiedBy(version);
+        }
         return rangesList.stream().anyMatch(ranges -> isSingleSetOfRangesIsSatisfied(ranges, version));
     }
 
+    /**
+     * Returns the highest of the versions satisfying this range list.
+     *
+     * <p>If the versions are a {@link NavigableSet} in their natural order, such as a {@link java.util.TreeSet}, only
+     * the versions from the upper bound of each interval of this range list down to the first satisfying one are
+     * checked. Any other collection is scanned entirely.
+     *
+     * @param versions the versions to choose from
+     * @return the highest satisfying version, or {@code null} if none satisfies this range list
+     * @since 6.1.0
+     */
+    public @Nullable Semver maxSatisfying(Collection<? extends Semver> versions) {
+        return findSatisfying(versions, false, true);
+    }
+
+    /**
+     * Returns the highest of the versions satisfying this range list.
+     *
+     * <p>If the versions are sorted in ascending order and the list supports fast random access, the bounds of each
+     * interval of this range list are found with binary searches and only the versions from the upper bound down to the
+     * first satisfying one are checked.
+     *
+     * @param versions the versions to choose from
+     * @param sorted whether the versions are sorted in ascending order, as by {@link Semver#compareTo(Semver)}
+     * @return the highest satisfying version, or {@code null} if none satisfies this range list
+     * @since 6.1.0
+     */
+    public @Nullable Semver maxSatisfying(List<? extends Semver> versions, boolean sorted) {
+        return findSatisfying(versions, sorted, true);
+    }
+
+    /**
+     * Returns the lowest of the versions satisfying this range list.
+     *
+     * <p>If the versions are a {@link NavigableSet} in their natural order, such as a {@link java.util.TreeSet}, only
+     * the versions from the lower bound of each interval of this range list up to the first satisfying one are checked.
+     * Any other collection is scanned entirely.
+     *
+     * @param versions the versions to choose from
+     * @return the lowest satisfying version, or {@code null} if none satisfies this range list
+     * @since 6.1.0
+     */
+    public @Nullable Semver minSatisfying(Collection<? extends Semver> versions) {
+        return findSatisfying(versions, false, false);
+    }
+
+    /**
+     * Returns the lowest of the versions satisfying this range list.
+     *
+     * <p>If the versions are sorted in ascending order and the list supports fast random access, the bounds of each
+     * interval of this range list are found with binary searches and only the versions from the lower bound up to the
+     * first satisfying one are checked.
+     *
+     * @param versions the versions to choose from
+     * @param sorted whether the versions are sorted in ascending order, as by {@link Semver#compareTo(Semver)}
+     * @return the lowest satisfying version, or {@code null} if none satisfies this range list
+     * @since 6.1.0
+     */
+    public @Nullable Semver minSatisfying(List<? extends Semver> versions, boolean sorted) {
+        return findSatisfying(versions, sorted, false);
+    }
+
+    @SuppressWarnings("unchecked")
+    private @Nullable Semver findSatisfying(Collection<? extends Semver> versions, boolean sorted, boolean highest) {
+        CompiledRange compiled = compile();
+        if (sorted && versions instanceof RandomAccess) {
+            return compiled.findSatisfying((List<? extends Semver>) versions, highest);
+        }
+        if (versions instanceof NavigableSet<?> && ((NavigableSet<?>) versions).comparator() == null) {
+            // The set is only read, through views of it
+            return compiled.findSatisfying((NavigableSet<Semver>) versions, highest);
+        }
+
+        Semver found = null;
+        for (Semver version : versions) {
+            if ((found == null || (highest ? version.compareTo(found) > 0 : version.compareTo(found) < 0))
+                    && compiled.isSatisfiedBy(version)) {
+                found = version;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Returns a range list satisfied by the versions satisfying both this range list and the other one.
+     *
+     * <p>The result is computed from the intervals of the two range lists, in time proportional to their number of sets
+     * of ranges, and follows the {@code pre-release} rules of both: a {@code pre-release} version satisfies it only if
+     * it satisfies both range lists. It includes {@code pre-release}s if both range lists do.
+     *
+     * @param other the other range list
+     * @return the intersection of both range lists
+     * @since 6.1.0
+     */
+    public RangeList intersect(RangeList other) {
+        return toVersionSet().intersect(other.toVersionSet()).toRangeList(includePreRelease && other.includePreRelease);
+    }
+
+    /**
+     * Returns a range list satisfied by the versions satisfying this range list or the other one.
+     *
+     * <p>The result is computed from the intervals of the two range lists, in time proportional to their number of sets
+     * of ranges, and follows the {@code pre-release} rules of both.
+     *
+     * @param other the other range list
+     * @return the union of both range lists
+     * @throws IllegalArgumentException if no range list can hold the union, which happens when only one of the range
+     *     lists includes {@code pre-release}s and some of them would be satisfied for some releases only
+     * @since 6.1.0
+     */
+    public RangeList union(RangeList other) {
+        return toVersionSet().union(other.toVersionSet()).toRangeList(includePreRelease && other.includePreRelease);
+    }
+
+    /**
+     * Returns a range list satisfied by the versions not satisfying this range list.
+     *
+     * <p>If this range list includes {@code pre-release}s, the complement is exact. Otherwise, like this range list, it
+     * only contains the {@code pre-release} versions with the {@code major}, {@code minor} and {@code patch} of a
+     * {@code pre-release} named by its satisfiable sets of ranges: for {@code >=1.0.0-beta <2.0.0}, the complement is
+     * {@code <1.0.0} or {@code >=2.0.0}, and the {@code 1.0.0} {@code pre-release}s below {@code 1.0.0-beta}.
+     *
+     * @return the complement of this range list
+     * @since 6.1.0
+     */
+    public RangeList complement() {
+        return toVersionSet().complement().toRangeList(includePreRelease);
+    }
+
+    /**
+     * Returns the canonical form of this range list: a range list satisfied by the same versions, with overlapping and
+     * adjacent sets of ranges merged and redundant bounds removed.
+     *
+     * <p>Range lists satisfied by the same versions have {@link #equals(Object) equal} canonical forms, whichever way
+     * they are written: {@code ^1.2.0}, {@code >=1.2.0 <1.5.0 || >=1.5.0 <2.0.0} and {@code 1.2 - 1.x} all simplify to
+     * {@code >=1.2.0 <2.0.0}. Equivalent range lists can then be deduplicated, e.g. to share a single
+     * {@link CompiledRange}. {@code pre-release} bounds with no version between them, such as {@code 1.0.0-a} and
+     * {@code 1.0.0-a.0}, are still considered different.
+     *
+     * @return a new range list in canonical form, with the same {@code pre-release} inclusion as this range list
+     * @since 6.1.0
+     */
+    public RangeList simplify() {
+        return toVersionSet().toRangeList(includePreRelease);
+    }
+
+    /**
+     * Checks if every version satisfying this range list also satisfies the other one.
+     *
+     * <p>The check is done on the intervals of the two range lists, following the {@code pre-release} rules of both,
+     * without enumerating versions.
+     *
+     * @param other the other range list
+     * @return {@code true} if this range list implies the other one, {@code false} otherwise
+     * @since 6.1.0
+     */
+    public boolean isSubsetOf(RangeList other) {
+        return toVersionSet().isSubsetOf(other.toVersionSet());
+    }
+
+    /**
+     * Checks if at least one version satisfies both this range list and the other one.
+     *
+     * <p>The check is done on the intervals of the two range lists, following the {@code pre-release} rules of both,
+     * without enumerating versions.
+     *
+     * @param other the other range list
+     * @return {@code true} if both range lists can be satisfied by the same version, {@code false} otherwise
+     * @since 6.1.0
+     */
+    public boolean intersects(RangeList other) {
+        return toVersionSet().intersects(other.toVersionSet());
+    }
+
+    /**
+     * Translates this range list into ranges of {@linkplain Semver#toSortKey() sort keys}, to find the satisfying
+     * versions of a store sorted by key with range scans.
+     *
+     * <p>Unless {@code pre-release}s are included, the ranges {@linkplain KeyRange#isReleasesOnly() of releases only}
+     * also hold the keys of {@code pre-release} versions which do not satisfy this range list: the keys scanned in them
+     * must be filtered with {@link KeyRange#contains(byte[])}. The other ranges hold satisfying keys only.
+     *
+     * @return the sorted disjoint key ranges of the versions satisfying this range list, empty if none does
+     * @see KeyRange
+     * @since 6.1.0
+     */
+    public List<KeyRange> toKeyRanges() {
+        return KeyRange.of(compile());
+    }
+
+    private VersionSet toVersionSet() {
+        return VersionSet.of(compile());
+    }
+
     /**
      * Returns a string representation of this range list.
      *
@@ -130,20 +403,66 @@ public class RangeList {
      */
     @Override
     public String toString() {
-        return rangesList.stream()
-                .map(RangeList::formatRanges)
-                .collect(joining(OR_JOINER))
-                .replaceAll("^\\(([^()]+)\\)$", "$1");
+        return format(rangesList);
     }
 
-    private static String formatRanges(List<Range> ranges) {
-        String representation = ranges.stream().map(Range::toString).collect(joining(AND_JOINER));
+    static String format(List<List<Range>> rangesList) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < rangesList.size(); i++) {
+            if (i > 0) {
+                builder.append(OR_JOINER);
+            }
+            List<Range> ranges = rangesList.get(i);
+            // The parentheses of a single set of ranges are omitted
+            boolean parenthesized = ranges.size() > 1 && rangesList.size() > 1;
+            if (parenthesized) {
+                builder.append('(');
+            }
+            for (int j = 0; j < ranges.size(); j++) {
+                if (j > 0) {
+                    builder.append(AND_JOINER);
+                }
+                builder.append(ranges.get(j));
+            }
+            if (parenthesized) {
+                builder.append(')');
+            }
+        }
+        return builder.toString();
+    }
 
-        if (ranges.size() < 2) {
-            return representation;
+    /**
+     * Compares this range list to another object.
+     *
+     * <p>Range lists are equal when they have the same {@code pre-release} inclusion and equal sets of ranges, in the
+     * same order. Range lists satisfied by the same versions but written differently are not equal, while their
+     * {@link #simplify() canonical forms} are.
+     *
+     * @param o the object to compare to
+     * @return {@code true} if the object is a range list with the same sets of ranges, {@code false} otherwise
+     * @since 6.1.0
+     */
+    @Override
+    public boolean equals(@Nullable Object o) {
+        if (this == o) {
+            return true;
         }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        RangeList rangeList = (RangeList) o;
+        return includePreRelease == rangeList.includePreRelease && rangesList.equals(rangeList.rangesList);
+    }
 
-        return format(Locale.ROOT, "(%s)", representation);
+    /**
+     * Returns a hash code consistent with {@link #equals(Object)}, which changes when sets of ranges are added.
+     *
+     * @return the hash code of this range list
+     * @since 6.1.0
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(rangesList, includePreRelease);
     }
 
     private boolean isSingleSetOfRangesIsSatisfied(List<Range> ranges, Semver version) {
@@ -0,0 +1,209 @@
+package org.semver4j.range;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import org.semver4j.Semver;
+import org.semver4j.processor.Processor;
+import org.semver4j.processor.Processors;
+
+/**
+ * A bounded cache of parsed {@link RangeList}s, keyed by the range string, the {@code pre-release} inclusion flag and
+ * the processors used to parse the range.
+ *
+ * <p>Parsing a range runs the whole processor chain and parses every bound, which is much more expensive than checking
+ * whether a version satisfies it. Applications checking the same ranges over and over can parse each of them once with
+ * {@link #get(String, boolean)}; {@link Semver#satisfies(String, boolean)} does so with the {@linkplain #getDefault()
+ * default cache}.
+ *
+ * <p>The cached {@link RangeList}s are shared, so they cannot be modified: {@link RangeList#add(List)} throws an
+ * {@link UnsupportedOperationException} and {@link RangeList#get()} returns unmodifiable lists. Use the methods of
+ * {@link RangeListFactory} to get a modifiable instance.
+ *
+ * <p>The cache is safe for concurrent use and does not lock. When it holds more than its maximum size, entries are
+ * evicted in insertion order, except that entries read since they were last considered get a second chance (the "CLOCK"
+ * approximation of least recently used eviction). The bound may be exceeded briefly while threads add entries
+ * concurrently.
+ *
+ * @since 6.1.0
+ */
+public final class RangeListCache {
+    /** Maximum size of the {@linkplain #getDefault() default cache}. */
+    public static final int DEFAULT_MAXIMUM_SIZE = 4096;
+
+    private static final RangeListCache DEFAULT = new RangeListCache(DEFAULT_MAXIMUM_SIZE);
+
+    private final int maximumSize;
+    private final ConcurrentHashMap<Key, Entry> entries = new ConcurrentHashMap<>();
+    /** The entries in insertion order, the head being the next candidate for eviction. */
+    private final ConcurrentLinkedQueue<Entry> clock = new ConcurrentLinkedQueue<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param maximumSize the number of range lists above which entries are evicted
+     * @throws IllegalArgumentException if the maximum size is not positive
+     */
+    public RangeListCache(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be positive");
+        }
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Returns the cache used by {@link Semver#satisfies(String)} and {@link Semver#satisfies(String, boolean)}.
+     *
+     * @return the default cache, holding up to {@link #DEFAULT_MAXIMUM_SIZE} range lists
+     */
+    public static RangeListCache getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Returns the {@link RangeList} of a range string, parsing it as {@link RangeListFactory#create(String, boolean)}
+     * does if it is not cached.
+     *
+     * @param range the string representation of version ranges (e.g., {@code ">=1.0.0 <2.0.0"})
+     * @param includePreRelease whether to include {@code pre-release} versions in range matching
+     * @return the shared, unmodifiable {@link RangeList}
+     * @throws NullPointerException if the range is {@code null}
+     */
+    public RangeList get(String range, boolean includePreRelease) {
+        requireNonNull(range, "range must not be null");
+        return get(new Key(range, includePreRelease, Processors.ALL_PROCESSORS));
+    }
+
+    /**
+     * Returns the {@link RangeList} of a range string, parsing it as {@link RangeListFactory#create(String, boolean,
+     * Processor...)} does if it is not cached.
+     *
+     * <p>Processors are compared with {@link Object#equals(Object)}, so reusing the same processor instances is needed
+     * to find cached entries.
+     *
+     * @param range the string representation of version ranges
+     * @param includePreRelease whether to include {@code pre-release} versions in range matching
+     * @param processors the processors to use in sequence
+     * @return the shared, unmodifiable {@link RangeList}
+     * @throws NullPointerException if the range or a processor is {@code null}
+     */
+    public RangeList get(String range, boolean includePreRelease, Processor... processors) {
+        requireNonNull(range, "range must not be null");
+        return get(new Key(range, includePreRelease, List.of(processors)));
+    }
+
+    /**
+     * Returns the number of cached range lists.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns how many times a range list was found in the cache.
+     *
+     * @return the number of hits
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns how many times a range list was not found in the cache, and was parsed.
+     *
+     * @return the number of misses
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns how many range lists were evicted to keep the cache within its maximum size.
+     *
+     * @return the number of evictions
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /** Removes all the range lists from the cache and resets its statistics. */
+    public void clear() {
+        entries.clear();
+        clock.clear();
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+
+    private RangeList get(Key key) {
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            hits.increment();
+            if (!entry.referenced) {
+                // Only write when needed, so that hits on popular entries do not contend
+                entry.referenced = true;
+            }
+            return entry.rangeList;
+        }
+
+        misses.increment();
+        RangeList rangeList = parse(key);
+        rangeList.makeUnmodifiable();
+
+        Entry newEntry = new Entry(key, rangeList);
+        Entry existing = entries.putIfAbsent(key, newEntry);
+        if (existing != null) {
+            // Parsed concurrently by another thread
+            return existing.rangeList;
+        }
+        clock.offer(newEntry);
+        evictIfNeeded();
+        return rangeList;
+    }
+
+    private static RangeList parse(Key key) {
+        if (key.processors == Processors.ALL_PROCESSORS) {
+            return RangeListFactory.create(key.range, key.includePreRelease);
+        }
+        return RangeListFactory.create(key.range, key.includePreRelease, key.processors.toArray(new Processor[0]));
+    }
+
+    private void evictIfNeeded() {
+        while (entries.size() > maximumSize) {
+            Entry candidate = clock.poll();
+            if (candidate == null) {
+                return;
+            }
+            if (candidate.referenced) {
+                candidate.referenced = false;
+                clock.offer(candidate);
+            } else if (entries.remove(candidate.key, candidate)) {
+                evictions.increment();
+            }
+        }
+    }
+
+    private record Key(String range, boolean includePreRelease, List<Processor> processors) {}
+
+    private static final class Entry {
+        private final Key key;
+        private final RangeList rangeList;
+
+        /** Set when the entry is read, cleared when the clock hand passes over it. */
+        private volatile boolean referenced;
+
+        private Entry(Key key, RangeList rangeList) {
+            this.key = key;
+            this.rangeList = rangeList;
+        }
+    }
+}
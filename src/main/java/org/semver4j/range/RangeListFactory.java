@@ -15,6 +15,9 @@ import org.semver4j.processor.Processor;
  * RangesList rangesList = RangesListFactory.create(">=1.0.0 <2.0.0");
  * boolean satisfies = semver.satisfies(rangesList);
  * }</pre>
+ *
+ * <p>Every call parses the range again and returns a new, modifiable instance. {@link RangeListCache} parses each range
+ * once and shares the result.
  */
 public class RangeListFactory {
     /** Private constructor to prevent instantiation. */
@@ -0,0 +1,391 @@
+package org.semver4j.range;
+
+import static java.util.Objects.checkIndex;
+import static java.util.Objects.requireNonNull;
+import static org.semver4j.internal.VersionStrings.skipPrefix;
+import static org.semver4j.internal.VersionStrings.trimEnd;
+import static org.semver4j.internal.VersionStrings.trimStart;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import org.jspecify.annotations.Nullable;
+import org.semver4j.Semver;
+import org.semver4j.internal.VersionParser;
+
+/**
+ * An immutable column of versions stored as primitive arrays, for bulk operations over many rows without creating a
+ * {@link Semver} for each of them.
+ *
+ * <p>The {@code major}, {@code minor} and {@code patch} numbers are stored in three {@code int} arrays. The distinct
+ * {@code pre-release} strings are stored once, in a dictionary sorted by precedence, and each row keeps the ordinal of
+ * its {@code pre-release} in the dictionary, {@code 0} for a release version. The {@code build} strings are only stored
+ * if a row has one. Comparing two rows, or a row and a bound of a {@link RangeList}, then only compares {@code int}s:
+ * the bounds are translated to the same encoding before scanning the rows.
+ *
+ * <p>The rows are scanned with the SIMD kernel of the {@code vector} build profile when the
+ * {@code jdk.incubator.vector} module is available, with {@code --add-modules jdk.incubator.vector}, and with a scalar
+ * loop otherwise.
+ *
+ * <pre>{@code
+ * SemverColumn column = SemverColumn.parse(versionStrings);
+ * BitSet matching = column.filter(RangeListFactory.create("^1.2.0"));
+ * int latest = column.argMax(RangeListFactory.create(">=2.0.0"));
+ * }</pre>
+ *
+ * <p>A column never changes once built: it can be shared between threads without synchronization.
+ *
+ * @since 6.1.0
+ */
+public final class SemverColumn {
+    /** The precedence key of the rows without a {@code pre-release}, above the keys of every {@code pre-release}. */
+    private static final int RELEASE_KEY = Integer.MAX_VALUE;
+
+    private final int[] majors;
+    private final int[] minors;
+    private final int[] patches;
+    /** The ordinals of the {@code pre-release} of each row in {@link #preReleaseDictionary}, plus one. */
+    private final int[] preReleases;
+    /** The distinct {@code pre-release} strings, sorted by precedence. */
+    private final String[] preReleaseDictionary;
+    /** The {@code pre-release} strings as versions {@code 0.0.0-<pre-release>}, to compare them with bounds. */
+    private final Semver[] preReleaseVersions;
+    /**
+     * The precedence key of each {@code pre-release} of the dictionary: {@code 2r + 1} for the {@code r}th distinct
+     * precedence, leaving even keys for the {@code pre-release}s of the bounds which are not in the dictionary.
+     */
+    private final int[] dictionaryKeys;
+    /** The precedence key of the {@code pre-release} of each row, {@link #RELEASE_KEY} for a release version. */
+    private final int[] preReleaseKeys;
+    /** The {@code build} of each row, or {@code null} if no row has one. */
+    private final @Nullable String @Nullable [] builds;
+
+    private SemverColumn(
+            int[] majors,
+            int[] minors,
+            int[] patches,
+            int[] preReleases,
+            String[] preReleaseDictionary,
+            @Nullable String @Nullable [] builds) {
+        this.majors = majors;
+        this.minors = minors;
+        this.patches = patches;
+        this.preReleases = preReleases;
+        this.preReleaseDictionary = preReleaseDictionary;
+        this.builds = builds;
+
+        preReleaseVersions = new Semver[preReleaseDictionary.length];
+        dictionaryKeys = new int[preReleaseDictionary.length];
+        for (int i = 0; i < preReleaseDictionary.length; i++) {
+            preReleaseVersions[i] = new Semver("0.0.0-" + preReleaseDictionary[i]);
+            boolean samePrecedence = i > 0 && preReleaseVersions[i].compareTo(preReleaseVersions[i - 1]) == 0;
+            dictionaryKeys[i] = samePrecedence ? dictionaryKeys[i - 1] : (i == 0 ? 1 : dictionaryKeys[i - 1] + 2);
+        }
+        preReleaseKeys = new int[preReleases.length];
+        for (int row = 0; row < preReleases.length; row++) {
+            preReleaseKeys[row] = preReleases[row] == 0 ? RELEASE_KEY : dictionaryKeys[preReleases[row] - 1];
+        }
+    }
+
+    /**
+     * Parses a column of versions.
+     *
+     * <p>Each version is parsed the same way as {@link Semver#Semver(String)} does, ignoring leading and trailing
+     * whitespace and an optional {@code v} prefix, but without creating a {@link Semver}.
+     *
+     * @param versions the versions to parse, one for each row
+     * @return the column of the versions, in the given order
+     * @throws NullPointerException if the collection or one of its versions is {@code null}
+     * @throws org.semver4j.SemverException if a version is not valid
+     */
+    public static SemverColumn parse(Collection<? extends CharSequence> versions) {
+        requireNonNull(versions, "versions must not be null");
+        int size = versions.size();
+        int[] majors = new int[size];
+        int[] minors = new int[size];
+        int[] patches = new int[size];
+        int[] preReleases = new int[size];
+        @Nullable String[] builds = null;
+        Map<String, Integer> dictionary = new HashMap<>();
+
+        int row = 0;
+        for (CharSequence version : versions) {
+            requireNonNull(version, "versions must not contain null");
+            int start = trimStart(version, 0, version.length());
+            int end = trimEnd(version, start, version.length());
+            int trimmedStart = start;
+            start = skipPrefix(version, start, end);
+            if (!VersionParser.isValid(version, start, end - start)) {
+                // Parse the version as given, so that the error reports it
+                VersionParser.parse(version, trimmedStart, end - trimmedStart);
+            }
+
+            int position = start;
+            int number = 0;
+            int component = 0;
+            while (component < 3) {
+                char c = position < end ? version.charAt(position) : '.';
+                if (c >= '0' && c <= '9') {
+                    number = number * 10 + (c - '0');
+                    position++;
+                    continue;
+                }
+                if (component == 0) {
+                    majors[row] = number;
+                } else if (component == 1) {
+                    minors[row] = number;
+                } else {
+                    patches[row] = number;
+                }
+                component++;
+                number = 0;
+                if (component < 3) {
+                    position++;
+                }
+            }
+
+            int buildStart = end;
+            for (int i = position; i < end; i++) {
+                if (version.charAt(i) == '+') {
+                    buildStart = i;
+                    break;
+                }
+            }
+            if (position < buildStart) {
+                // The pre-release starts after the dash following the patch number
+                String preRelease =
+                        version.subSequence(position + 1, buildStart).toString();
+                Integer ordinal = dictionary.putIfAbsent(preRelease, dictionary.size() + 1);
+                preReleases[row] = ordinal == null ? dictionary.size() : ordinal;
+            }
+            if (buildStart < end) {
+                if (builds == null) {
+                    builds = new String[size];
+                }
+                builds[row] = version.subSequence(buildStart + 1, end).toString();
+            }
+            row++;
+        }
+        return new SemverColumn(majors, minors, patches, preReleases, sortDictionary(dictionary, preReleases), builds);
+    }
+
+    /** Sorts the dictionary by precedence, and renumbers the ordinals of the rows accordingly. */
+    private static String[] sortDictionary(Map<String, Integer> dictionary, int[] preReleases) {
+        String[] sorted = new String[dictionary.size()];
+        int[] ordinals = new int[sorted.length];
+        Semver[] versions = new Semver[sorted.length];
+        int index = 0;
+        for (Map.Entry<String, Integer> entry : dictionary.entrySet()) {
+            sorted[index] = entry.getKey();
+            ordinals[index] = entry.getValue();
+            versions[index] = new Semver("0.0.0-" + entry.getKey());
+            index++;
+        }
+        Integer[] order = new Integer[sorted.length];
+        Arrays.setAll(order, i -> i);
+        Arrays.sort(order, (a, b) -> versions[a].compareTo(versions[b]));
+
+        int[] renumbered = new int[sorted.length + 1];
+        String[] result = new String[sorted.length];
+        for (int i = 0; i < order.length; i++) {
+            result[i] = sorted[order[i]];
+            renumbered[ordinals[order[i]]] = i + 1;
+        }
+        for (int row = 0; row < preReleases.length; row++) {
+            preReleases[row] = renumbered[preReleases[row]];
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of rows of this column.
+     *
+     * @return the number of versions parsed
+     */
+    public int size() {
+        return majors.length;
+    }
+
+    /**
+     * Returns the {@code major} number of a row.
+     *
+     * @param row the index of the row
+     * @return the {@code major} number of the version of the row
+     * @throws IndexOutOfBoundsException if the row is not in this column
+     */
+    public int getMajor(int row) {
+        return majors[checkIndex(row, majors.length)];
+    }
+
+    /**
+     * Returns the {@code minor} number of a row.
+     *
+     * @param row the index of the row
+     * @return the {@code minor} number of the version of the row
+     * @throws IndexOutOfBoundsException if the row is not in this column
+     */
+    public int getMinor(int row) {
+        return minors[checkIndex(row, minors.length)];
+    }
+
+    /**
+     * Returns the {@code patch} number of a row.
+     *
+     * @param row the index of the row
+     * @return the {@code patch} number of the version of the row
+     * @throws IndexOutOfBoundsException if the row is not in this column
+     */
+    public int getPatch(int row) {
+        return patches[checkIndex(row, patches.length)];
+    }
+
+    /**
+     * Returns the version of a row.
+     *
+     * @param row the index of the row
+     * @return a new {@link Semver} of the version of the row, in its canonical form
+     * @throws IndexOutOfBoundsException if the row is not in this column
+     */
+    public Semver get(int row) {
+        checkIndex(row, majors.length);
+        StringBuilder version = new StringBuilder()
+                .append(majors[row])
+                .append('.')
+                .append(minors[row])
+                .append('.')
+                .append(patches[row]);
+        if (preReleases[row] != 0) {
+            version.append('-').append(preReleaseDictionary[preReleases[row] - 1]);
+        }
+        String build = builds == null ? null : builds[row];
+        if (build != null) {
+            version.append('+').append(build);
+        }
+        return new Semver(version.toString());
+    }
+
+    /**
+     * Returns the rows whose version satisfies a range list, following its {@code pre-release} rule.
+     *
+     * @param rangeList the range list to satisfy
+     * @return a new bit set with the indexes of the satisfying rows
+     */
+    public BitSet filter(RangeList rangeList) {
+        return filter(rangeList, ColumnKernel.get());
+    }
+
+    /** Returns the rows whose version satisfies a range list, as found by the given kernel. */
+    BitSet filter(RangeList rangeList, ColumnKernel kernel) {
+        return BitSet.valueOf(kernel.filter(majors, minors, patches, preReleaseKeys, bounds(rangeList)));
+    }
+
+    /**
+     * Returns the row with the highest version satisfying a range list.
+     *
+     * @param rangeList the range list to satisfy
+     * @return the index of the row, the first one of the rows with the same precedence, or {@code -1} if no row
+     *     satisfies the range list
+     */
+    public int argMax(RangeList rangeList) {
+        BitSet rows = filter(rangeList);
+        int max = rows.nextSetBit(0);
+        for (int row = rows.nextSetBit(max + 1); row >= 0; row = rows.nextSetBit(row + 1)) {
+            if (compareRows(row, max) > 0) {
+                max = row;
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Returns the rows sorted by the precedence of their versions, as {@link Semver#compareTo(Semver)} sorts them.
+     *
+     * <p>The sort is stable: the rows with the same precedence, which only differ by their {@code build}, stay in the
+     * order of the column.
+     *
+     * @return a new array with the index of each row, in ascending order of the versions
+     */
+    public int[] sortIndices() {
+        int[] indices = new int[majors.length];
+        Arrays.setAll(indices, i -> i);
+        int[] buffer = new int[indices.length];
+        // Bottom-up merge sort, which is stable and does not box the indices
+        for (int width = 1; width < indices.length; width *= 2) {
+            for (int from = 0; from < indices.length - width; from += 2 * width) {
+                merge(indices, buffer, from, from + width, Math.min(from + 2 * width, indices.length));
+            }
+        }
+        return indices;
+    }
+
+    private void merge(int[] indices, int[] buffer, int from, int middle, int to) {
+        if (compareRows(indices[middle - 1], indices[middle]) <= 0) {
+            return;
+        }
+        System.arraycopy(indices, from, buffer, from, to - from);
+        int left = from;
+        int right = middle;
+        for (int i = from; i < to; i++) {
+            if (right >= to || (left < middle && compareRows(buffer[left], buffer[right]) <= 0)) {
+                indices[i] = buffer[left++];
+            } else {
+                indices[i] = buffer[right++];
+            }
+        }
+    }
+
+    private int compareRows(int row, int other) {
+        int result = Integer.compare(majors[row], majors[other]);
+        if (result == 0) {
+            result = Integer.compare(minors[row], minors[other]);
+        }
+        if (result == 0) {
+            result = Integer.compare(patches[row], patches[other]);
+        }
+        return result != 0 ? result : Integer.compare(preReleaseKeys[row], preReleaseKeys[other]);
+    }
+
+    /** Returns the bounds of the intervals of a range list, in the encoding of this column. */
+    private ColumnKernel.Bounds bounds(RangeList rangeList) {
+        VersionSet set = VersionSet.of(rangeList.compile());
+        Interval[] releases = set.releases();
+        Interval[] preReleases = set.preReleases();
+        ColumnKernel.Bounds bounds = new ColumnKernel.Bounds(releases.length + preReleases.length);
+        for (Interval interval : releases) {
+            add(bounds, interval, false);
+        }
+        for (Interval interval : preReleases) {
+            add(bounds, interval, true);
+        }
+        return bounds;
+    }
+
+    private void add(ColumnKernel.Bounds bounds, Interval interval, boolean preRelease) {
+        // The missing bounds are the lowest and highest keys, which every row is between
+        bounds.add(
+                interval.lower == null ? ColumnKernel.Bounds.LOWEST : key(interval.lower),
+                interval.lower == null || interval.lowerInclusive,
+                interval.upper == null ? ColumnKernel.Bounds.HIGHEST : key(interval.upper),
+                interval.upper == null || interval.upperInclusive,
+                preRelease);
+    }
+
+    /** Returns the {@code major}, {@code minor}, {@code patch} and {@code pre-release} keys of a bound. */
+    private int[] key(Semver bound) {
+        int preReleaseKey = RELEASE_KEY;
+        if (!bound.getPreRelease().isEmpty()) {
+            Semver preRelease = new Semver("0.0.0-" + String.join(".", bound.getPreRelease()));
+            int index = Arrays.binarySearch(preReleaseVersions, preRelease);
+            if (index >= 0) {
+                preReleaseKey = dictionaryKeys[index];
+            } else {
+                // Between the keys of the pre-releases of the dictionary below and above it
+                int insertion = -index - 1;
+                preReleaseKey = insertion == 0 ? 0 : dictionaryKeys[insertion - 1] + 1;
+            }
+        }
+        return new int[] {bound.getMajor(), bound.getMinor(), bound.getPatch(), preReleaseKey};
+    }
+}
@@ -0,0 +1,454 @@
+package org.semver4j.range;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jspecify.annotations.Nullable;
+import org.semver4j.Semver;
+
+/**
+ * An immutable sorted set of versions, such as every published version of a package, answering range queries without
+ * checking each version.
+ *
+ * <p>The versions are sorted by {@link Semver#compareTo(Semver)} and deduplicated: of several versions with the same
+ * precedence, which only differ by their {@code build} identifiers, the first one given is kept. The positions of the
+ * release versions and of the {@code pre-release} versions are kept in two {@code int} arrays, so that the versions
+ * satisfying a {@link RangeList} are found with binary searches on each of its intervals, in {@code O(log n + k)} time
+ * for {@code k} satisfying versions, following the {@code pre-release} rule of the range list.
+ *
+ * <pre>{@code
+ * SemverIndex index = SemverIndex.of(publishedVersions);
+ * Semver latest = index.maxSatisfying(RangeListFactory.create("^1.2.0"));
+ * }</pre>
+ *
+ * <p>The position of a version in the index is its ordinal: {@link #toBitSet(RangeList)} returns the ordinals of the
+ * versions satisfying a range list as a {@link BitSet}, so that the constraints of many dependents on the same package
+ * can be combined with {@link BitSet#and(BitSet)} and {@link BitSet#or(BitSet)}.
+ *
+ * <p>An index never changes once built: it can be shared between threads without synchronization.
+ *
+ * @since 6.1.0
+ */
+public final class SemverIndex implements Iterable<Semver> {
+    private static final Semver[] NO_VERSIONS = new Semver[0];
+    /** The number of bit sets of shared range lists kept by an index. */
+    private static final int MAXIMUM_CACHED_BIT_SETS = 1024;
+
+    /** The versions, in ascending order. */
+    private final Semver[] versions;
+    /** The positions of the release versions in {@link #versions}, in ascending order. */
+    private final int[] releases;
+    /** The positions of the {@code pre-release} versions in {@link #versions}, in ascending order. */
+    private final int[] preReleases;
+    /** The ordinals of the release versions. */
+    private final BitSet releaseBits = new BitSet();
+    /** The ordinals of the {@code pre-release} versions. */
+    private final BitSet preReleaseBits = new BitSet();
+    /** The bit sets of the range lists shared by a {@link RangeListCache}, which cannot change. */
+    private final ConcurrentHashMap<RangeList, BitSet> bitSets = new ConcurrentHashMap<>();
+
+    private SemverIndex(Semver[] versions, int[] releases, int[] preReleases) {
+        this.versions = versions;
+        this.releases = releases;
+        this.preReleases = preReleases;
+        for (int release : releases) {
+            releaseBits.set(release);
+        }
+        for (int preRelease : preReleases) {
+            preReleaseBits.set(preRelease);
+        }
+    }
+
+    /**
+     * Builds an index of the given versions.
+     *
+     * @param versions the versions to index, in any order
+     * @return the index of the versions
+     * @throws NullPointerException if the collection or one of its versions is {@code null}
+     */
+    public static SemverIndex of(Collection<? extends Semver> versions) {
+        requireNonNull(versions, "versions must not be null");
+        Semver[] sorted = versions.toArray(NO_VERSIONS);
+        for (Semver version : sorted) {
+            requireNonNull(version, "versions must not contain null");
+        }
+        // The sort is stable, so the first of equal versions stays first
+        Arrays.sort(sorted);
+
+        int size = 0;
+        int releaseCount = 0;
+        for (Semver version : sorted) {
+            if (size == 0 || version.compareTo(sorted[size - 1]) != 0) {
+                sorted[size++] = version;
+                if (version.getPreRelease().isEmpty()) {
+                    releaseCount++;
+                }
+            }
+        }
+
+        Semver[] distinct = Arrays.copyOf(sorted, size);
+        int[] releases = new int[releaseCount];
+        int[] preReleases = new int[size - releaseCount];
+        int release = 0;
+        int preRelease = 0;
+        for (int i = 0; i < size; i++) {
+            if (distinct[i].getPreRelease().isEmpty()) {
+                releases[release++] = i;
+            } else {
+                preReleases[preRelease++] = i;
+            }
+        }
+        return new SemverIndex(distinct, releases, preReleases);
+    }
+
+    /**
+     * Returns the number of versions in this index.
+     *
+     * @return the number of distinct versions
+     */
+    public int size() {
+        return versions.length;
+    }
+
+    /**
+     * Returns the version at the given position.
+     *
+     * @param index the position of the version, {@code 0} being the lowest version
+     * @return the version
+     * @throws IndexOutOfBoundsException if the position is negative or not below {@link #size()}
+     */
+    public Semver get(int index) {
+        return versions[index];
+    }
+
+    /**
+     * Returns the highest version lower than or equal to the given version.
+     *
+     * @param version the version to look up
+     * @return the highest version not above the given one, or {@code null} if there is none
+     */
+    public @Nullable Semver floor(Semver version) {
+        int index = indexAbove(version, true) - 1;
+        return index >= 0 ? versions[index] : null;
+    }
+
+    /**
+     * Returns the lowest version greater than or equal to the given version.
+     *
+     * @param version the version to look up
+     * @return the lowest version not below the given one, or {@code null} if there is none
+     */
+    public @Nullable Semver ceiling(Semver version) {
+        int index = indexAbove(version, false);
+        return index < versions.length ? versions[index] : null;
+    }
+
+    /**
+     * Returns the highest version of this index.
+     *
+     * @return the highest version, or {@code null} if this index is empty
+     */
+    public @Nullable Semver latest() {
+        return versions.length > 0 ? versions[versions.length - 1] : null;
+    }
+
+    /**
+     * Returns the highest version without {@code pre-release} identifiers.
+     *
+     * @return the highest stable version, or {@code null} if there is none
+     */
+    public @Nullable Semver latestStable() {
+        return releases.length > 0 ? versions[releases[releases.length - 1]] : null;
+    }
+
+    /**
+     * Returns the versions satisfying a range list, in ascending order.
+     *
+     * @param rangeList the range list to satisfy
+     * @return the unmodifiable list of the satisfying versions
+     */
+    public List<Semver> satisfying(RangeList rangeList) {
+        VersionSet set = VersionSet.of(rangeList.compile());
+        int[] releaseRanges = ranges(releases, set.releases());
+        int[] preReleaseRanges = ranges(preReleases, set.preReleases());
+
+        Semver[] satisfying = new Semver[count(releaseRanges) + count(preReleaseRanges)];
+        Cursor release = new Cursor(releases, releaseRanges, false);
+        Cursor preRelease = new Cursor(preReleases, preReleaseRanges, false);
+        for (int i = 0; i < satisfying.length; i++) {
+            Cursor next = preRelease.position < 0 || (release.position >= 0 && release.position < preRelease.position)
+                    ? release
+                    : preRelease;
+            satisfying[i] = versions[next.position];
+            next.advance();
+        }
+        return Collections.unmodifiableList(Arrays.asList(satisfying));
+    }
+
+    /**
+     * Returns the ordinals of the versions satisfying a range list, their positions in this index.
+     *
+     * <p>The bits are set a whole interval of the range list at a time, then masked with the ordinals of the release or
+     * {@code pre-release} versions, without checking any version. The bit sets of the range lists shared by a
+     * {@link RangeListCache}, which cannot change, are cached by the index, up to a thousand of them.
+     *
+     * @param rangeList the range list to satisfy
+     * @return a new bit set, which the caller may modify, with the ordinals of the satisfying versions
+     */
+    public BitSet toBitSet(RangeList rangeList) {
+        if (!rangeList.isUnmodifiable()) {
+            return bitSetOf(rangeList);
+        }
+        BitSet bitSet = bitSets.get(rangeList);
+        if (bitSet == null) {
+            bitSet = bitSetOf(rangeList);
+            if (bitSets.size() < MAXIMUM_CACHED_BIT_SETS) {
+                bitSets.putIfAbsent(rangeList, bitSet);
+            }
+        }
+        return (BitSet) bitSet.clone();
+    }
+
+    private BitSet bitSetOf(RangeList rangeList) {
+        VersionSet set = VersionSet.of(rangeList.compile());
+        BitSet bitSet = spans(releases, ranges(releases, set.releases()));
+        bitSet.and(releaseBits);
+        BitSet preReleaseBitSet = spans(preReleases, ranges(preReleases, set.preReleases()));
+        preReleaseBitSet.and(preReleaseBits);
+        bitSet.or(preReleaseBitSet);
+        return bitSet;
+    }
+
+    /** Returns the ordinals from the first to the last version of each range of positions. */
+    private BitSet spans(int[] positions, int[] ranges) {
+        BitSet bitSet = new BitSet(versions.length);
+        for (int i = 0; i < ranges.length; i += 2) {
+            if (ranges[i] < ranges[i + 1]) {
+                bitSet.set(positions[ranges[i]], positions[ranges[i + 1] - 1] + 1);
+            }
+        }
+        return bitSet;
+    }
+
+    /**
+     * Returns the highest version satisfying a range list.
+     *
+     * @param rangeList the range list to satisfy
+     * @return the highest satisfying version, or {@code null} if none satisfies the range list
+     */
+    public @Nullable Semver maxSatisfying(RangeList rangeList) {
+        Iterator<Semver> satisfying = descendingIterator(rangeList);
+        return satisfying.hasNext() ? satisfying.next() : null;
+    }
+
+    /**
+     * Returns the lowest version satisfying a range list.
+     *
+     * @param rangeList the range list to satisfy
+     * @return the lowest satisfying version, or {@code null} if none satisfies the range list
+     */
+    public @Nullable Semver minSatisfying(RangeList rangeList) {
+        VersionSet set = VersionSet.of(rangeList.compile());
+        Cursor release = new Cursor(releases, ranges(releases, set.releases()), false);
+        Cursor preRelease = new Cursor(preReleases, ranges(preReleases, set.preReleases()), false);
+        if (release.position < 0 && preRelease.position < 0) {
+            return null;
+        }
+        if (preRelease.position < 0 || (release.position >= 0 && release.position < preRelease.position)) {
+            return versions[release.position];
+        }
+        return versions[preRelease.position];
+    }
+
+    /**
+     * Returns an iterator over the versions, in ascending order.
+     *
+     * @return an iterator which does not support removal
+     */
+    @Override
+    public Iterator<Semver> iterator() {
+        return Collections.unmodifiableList(Arrays.asList(versions)).iterator();
+    }
+
+    /**
+     * Returns an iterator over the versions, in descending order.
+     *
+     * @return an iterator which does not support removal
+     */
+    public Iterator<Semver> descendingIterator() {
+        return new DescendingIterator(
+                new Cursor(releases, new int[] {0, releases.length}, true),
+                new Cursor(preReleases, new int[] {0, preReleases.length}, true));
+    }
+
+    /**
+     * Returns an iterator over the versions satisfying a range list, in descending order.
+     *
+     * <p>The intervals of the range list are looked up when the iterator is created; the versions are then returned one
+     * at a time, so that finding the first few satisfying versions does not cost more than that.
+     *
+     * @param rangeList the range list to satisfy
+     * @return an iterator which does not support removal
+     */
+    public Iterator<Semver> descendingIterator(RangeList rangeList) {
+        VersionSet set = VersionSet.of(rangeList.compile());
+        return new DescendingIterator(
+                new Cursor(releases, ranges(releases, set.releases()), true),
+                new Cursor(preReleases, ranges(preReleases, set.preReleases()), true));
+    }
+
+    /**
+     * Returns a string representation of this index.
+     *
+     * @return the versions, in ascending order
+     */
+    @Override
+    public String toString() {
+        return Arrays.toString(versions);
+    }
+
+    /** Returns the position of the first version above, or at if not inclusive, the given version. */
+    private int indexAbove(Semver version, boolean inclusive) {
+        int low = 0;
+        int high = versions.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            int comparison = versions[middle].compareTo(version);
+            if (comparison < 0 || (comparison == 0 && inclusive)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the bounds of the versions within each interval, as pairs of indexes in the positions: from the first
+     * one, inclusive, to the last one, exclusive.
+     */
+    private int[] ranges(int[] positions, Interval[] intervals) {
+        int[] ranges = new int[intervals.length * 2];
+        for (int i = 0; i < intervals.length; i++) {
+            ranges[i * 2] = lowerIndex(positions, intervals[i]);
+            ranges[i * 2 + 1] = upperIndex(positions, intervals[i]);
+        }
+        return ranges;
+    }
+
+    /** Returns the index of the first position whose version is not below the interval. */
+    private int lowerIndex(int[] positions, Interval interval) {
+        int low = 0;
+        int high = positions.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (interval.isAboveLower(versions[positions[middle]])) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    /** Returns the index of the first position whose version is above the interval. */
+    private int upperIndex(int[] positions, Interval interval) {
+        int low = 0;
+        int high = positions.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (interval.isBelowUpper(versions[positions[middle]])) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static int count(int[] ranges) {
+        int count = 0;
+        for (int i = 0; i < ranges.length; i += 2) {
+            count += ranges[i + 1] - ranges[i];
+        }
+        return count;
+    }
+
+    /** Walks through the positions within ranges of indexes, in ascending or descending order. */
+    private static final class Cursor {
+        private final int[] positions;
+        private final int[] ranges;
+        private final boolean descending;
+        /** The current range, as the index of its first bound in {@link #ranges}. */
+        private int range;
+
+        private int index;
+        /** The current position, or {@code -1} once past the last range. */
+        int position;
+
+        Cursor(int[] positions, int[] ranges, boolean descending) {
+            this.positions = positions;
+            this.ranges = ranges;
+            this.descending = descending;
+            range = descending ? ranges.length - 2 : 0;
+            index = range >= 0 && range < ranges.length ? start() : 0;
+            settle();
+        }
+
+        void advance() {
+            index += descending ? -1 : 1;
+            settle();
+        }
+
+        private int start() {
+            return descending ? ranges[range + 1] - 1 : ranges[range];
+        }
+
+        /** Moves to the next non-empty range if the index is past the current one, and updates the position. */
+        private void settle() {
+            while (range >= 0
+                    && range < ranges.length
+                    && (descending ? index < ranges[range] : index >= ranges[range + 1])) {
+                range += descending ? -2 : 2;
+                if (range >= 0 && range < ranges.length) {
+                    index = start();
+                }
+            }
+            position = range >= 0 && range < ranges.length ? positions[index] : -1;
+        }
+    }
+
+    /** Merges the release and {@code pre-release} versions of descending cursors. */
+    private final class DescendingIterator implements Iterator<Semver> {
+        private final Cursor release;
+        private final Cursor preRelease;
+
+        DescendingIterator(Cursor release, Cursor preRelease) {
+            this.release = release;
+            this.preRelease = preRelease;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return release.position >= 0 || preRelease.position >= 0;
+        }
+
+        @Override
+        public Semver next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Cursor next = release.position > preRelease.position ? release : preRelease;
+            Semver version = versions[next.position];
+            next.advance();
+            return version;
+        }
+    }
+}
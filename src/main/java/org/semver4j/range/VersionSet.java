@@ -0,0 +1,628 @@
+package org.semver4j.range;
+
+import static org.semver4j.range.Range.RangeOperator.EQ;
+import static org.semver4j.range.Range.RangeOperator.GT;
+import static org.semver4j.range.Range.RangeOperator.GTE;
+import static org.semver4j.range.Range.RangeOperator.LT;
+import static org.semver4j.range.Range.RangeOperator.LTE;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+import org.semver4j.Semver;
+
+/**
+ * The set of versions satisfying a {@link RangeList}, as the union of the intervals of its release versions and the
+ * union of the intervals of its {@code pre-release} versions.
+ *
+ * <p>Splitting the set this way makes the {@code pre-release} rule of range lists an interval like any other: a range
+ * list which includes {@code pre-release}s has the same intervals for both kinds of versions, while the
+ * {@code pre-release} intervals of any other range list lie within the {@code pre-release}s of the {@code major},
+ * {@code minor} and {@code patch} its ranges name. Set operations are then done on each kind of versions separately, in
+ * time linear in the number of intervals. The intervals of a range list which includes {@code pre-release}s are also
+ * kept as they are through the operations between such range lists, since both kinds of intervals alone may not tell
+ * them apart from another set.
+ *
+ * <p>Intervals are kept sorted, disjoint and normalized: release intervals are bounded by release versions, inclusive
+ * below and exclusive above, so that they are equal whenever they contain the same releases; {@code pre-release}
+ * intervals start at a {@code pre-release} version, do not end at an inclusive release version nor at an exclusive
+ * lowest {@code pre-release} such as {@code 1.2.4-undef}, ending at the previous release {@code 1.2.3} instead. No
+ * interval starts at the lowest version of its kind, {@code 0.0.0} or {@code 0.0.0-undef}: it is unbounded below
+ * instead. The lowest {@code pre-release} of a release {@code X.Y.Z} is not {@code X.Y.Z-0}, which
+ * {@link Semver#compareTo(Semver)} orders above {@code X.Y.Z--} or {@code X.Y.Z-undef}, but {@code X.Y.Z-undef}, below
+ * or equal to every {@code X.Y.Z-*}: the bottom of the {@code pre-release}s of a release is that bound.
+ * {@code pre-release} versions are considered dense: an interval between two distinct bounds is assumed to contain one,
+ * which only differs from their actual order for bounds such as {@code 1.0.0-a} and {@code 1.0.0-a.0}, with nothing in
+ * between.
+ */
+final class VersionSet {
+    private static final Interval[] NO_INTERVALS = new Interval[0];
+    /** The lowest {@code pre-release} of a release is the one whose first identifier is missing, as {@code undef}. */
+    private static final String LOWEST_IDENTIFIER = "undef";
+
+    private static final Semver LOWEST_VERSION = new Semver("0.0.0-" + LOWEST_IDENTIFIER);
+
+    private final Interval[] releases;
+    private final Interval[] preReleases;
+    /**
+     * The intervals of all the versions of this set, when it is known to be the set of a range list which includes
+     * {@code pre-release}s; {@code null} otherwise.
+     */
+    private final Interval @Nullable [] versions;
+    /**
+     * The {@code pre-release} versions a range list which does not include {@code pre-release}s can match, the ones of
+     * the tuples its ranges name; {@code null} for any {@code pre-release} version.
+     */
+    private final Interval @Nullable [] preReleaseScope;
+
+    private VersionSet(
+            Interval[] releases,
+            Interval[] preReleases,
+            Interval @Nullable [] versions,
+            Interval @Nullable [] preReleaseScope) {
+        this.releases = releases;
+        this.preReleases = preReleases;
+        this.versions = versions;
+        this.preReleaseScope = preReleaseScope;
+    }
+
+    static VersionSet of(CompiledRange range) {
+        Interval[] intervals = range.intervals();
+        Interval[] releases = normalize(intervals, Kind.RELEASES);
+        if (range.isIncludePreRelease()) {
+            return new VersionSet(
+                    releases, normalize(intervals, Kind.PRE_RELEASES), normalize(intervals, Kind.ALL), null);
+        }
+
+        List<Interval> preReleases = new ArrayList<>();
+        Interval[] scope = new Interval[range.preReleaseTupleCount()];
+        for (int i = 0; i < scope.length; i++) {
+            scope[i] = preReleaseSlot(range.preReleaseTuple(i));
+            for (Interval interval : range.preReleaseIntervals(i)) {
+                Interval preRelease = interval.intersection(scope[i]);
+                if (preRelease != null) {
+                    addNormalized(preReleases, preRelease, Kind.PRE_RELEASES);
+                }
+            }
+        }
+        return new VersionSet(releases, preReleases.toArray(NO_INTERVALS), null, scope);
+    }
+
+    /** Returns the interval of the {@code pre-release} versions of a release, from {@code -undef} to the release. */
+    private static Interval preReleaseSlot(Semver release) {
+        return new Interval(lowestPreReleaseOf(release), true, release, false);
+    }
+
+    /**
+     * Returns the version {@code X.Y.Z-undef} of a release {@code X.Y.Z}, the bottom of its {@code pre-release}s:
+     * {@link Semver#compareTo(Semver)} orders it below every other {@code pre-release} of the release, even
+     * {@code X.Y.Z-0} or {@code X.Y.Z--}, since a missing identifier comes first and {@code undef} stands for one.
+     */
+    private static Semver lowestPreReleaseOf(Semver release) {
+        return Semver.of(release.getMajor(), release.getMinor(), release.getPatch())
+                .withPreReleases(LOWEST_IDENTIFIER)
+                .build();
+    }
+
+    /** Returns the sorted disjoint normalized intervals of the release versions of this set. */
+    Interval[] releases() {
+        return releases;
+    }
+
+    /** Returns the sorted disjoint normalized intervals of the {@code pre-release} versions of this set. */
+    Interval[] preReleases() {
+        return preReleases;
+    }
+
+    VersionSet intersect(VersionSet other) {
+        return new VersionSet(
+                intersect(releases, other.releases, Kind.RELEASES),
+                intersect(preReleases, other.preReleases, Kind.PRE_RELEASES),
+                versions == null || other.versions == null ? null : intersect(versions, other.versions, Kind.ALL),
+                null);
+    }
+
+    VersionSet union(VersionSet other) {
+        return new VersionSet(
+                union(releases, other.releases, Kind.RELEASES),
+                union(preReleases, other.preReleases, Kind.PRE_RELEASES),
+                versions == null || other.versions == null ? null : union(versions, other.versions, Kind.ALL),
+                null);
+    }
+
+    /**
+     * Returns the versions not in this set, limited to the {@code pre-release}s of the tuples named by the range list
+     * this set comes from if it does not include {@code pre-release}s.
+     */
+    VersionSet complement() {
+        Interval[] complementPreReleases = complement(preReleases, Kind.PRE_RELEASES);
+        if (preReleaseScope != null) {
+            complementPreReleases = intersect(complementPreReleases, preReleaseScope, Kind.PRE_RELEASES);
+        }
+        return new VersionSet(
+                complement(releases, Kind.RELEASES),
+                complementPreReleases,
+                versions == null ? null : complement(versions, Kind.ALL),
+                null);
+    }
+
+    boolean isEmpty() {
+        return releases.length == 0 && preReleases.length == 0;
+    }
+
+    boolean isSubsetOf(VersionSet other) {
+        return intersect(releases, complement(other.releases, Kind.RELEASES), Kind.RELEASES).length == 0
+                && intersect(preReleases, complement(other.preReleases, Kind.PRE_RELEASES), Kind.PRE_RELEASES).length
+                        == 0;
+    }
+
+    boolean intersects(VersionSet other) {
+        return intersect(releases, other.releases, Kind.RELEASES).length != 0
+                || intersect(preReleases, other.preReleases, Kind.PRE_RELEASES).length != 0;
+    }
+
+    /**
+     * Returns a range list with exactly the versions of this set, in a canonical form: sets with the same versions give
+     * equal range lists, with no more sets of ranges than needed by the intervals.
+     *
+     * @param preferIncludePreRelease whether to build a range list including {@code pre-release}s when both kinds of
+     *     range lists can hold this set
+     * @return the range list
+     * @throws IllegalArgumentException if no range list holds exactly the versions of this set, e.g. some releases with
+     *     all their {@code pre-release}s and others without any
+     */
+    RangeList toRangeList(boolean preferIncludePreRelease) {
+        Interval @Nullable [] includingIntervals = includingPreReleaseIntervals();
+        boolean excludingPossible = preReleasesAreWithinTuples();
+        if (includingIntervals != null && (preferIncludePreRelease || !excludingPossible)) {
+            RangeList rangeList = new RangeList(true);
+            for (Interval interval : includingIntervals) {
+                rangeList.add(includingRanges(interval));
+            }
+            return rangeList;
+        }
+        if (!excludingPossible) {
+            throw new IllegalArgumentException(
+                    "The result cannot be expressed as a range list: it includes pre-release versions for some"
+                            + " releases only");
+        }
+
+        // A pre-release interval joins the release interval starting at its release, or ending at it when its upper
+        // bound is a pre-release, since the bounds of the set of ranges then name its release
+        RangeList rangeList = new RangeList(false);
+        int preRelease = 0;
+        for (Interval release : releases) {
+            @Nullable Interval leading = null;
+            while (preRelease < preReleases.length && isBelow(preReleases[preRelease], release)) {
+                Interval interval = preReleases[preRelease++];
+                if (leads(interval, release)) {
+                    leading = interval;
+                } else {
+                    rangeList.add(ranges(interval, LOWEST_VERSION, true));
+                }
+            }
+
+            @Nullable Interval trailing = null;
+            if (release.upper != null) {
+                Semver lowestPreRelease = lowestPreReleaseOf(release.upper);
+                while (preRelease < preReleases.length && trailing == null) {
+                    Interval interval = preReleases[preRelease];
+                    Semver lower = interval.lower == null ? LOWEST_VERSION : interval.lower;
+                    int comparison = lower.compareTo(lowestPreRelease);
+                    if (comparison > 0) {
+                        break;
+                    }
+                    preRelease++;
+                    if (comparison == 0
+                            && interval.lowerInclusive
+                            && interval.upper != null
+                            && !interval.upper.getPreRelease().isEmpty()) {
+                        trailing = interval;
+                    } else {
+                        rangeList.add(ranges(interval, LOWEST_VERSION, true));
+                    }
+                }
+            }
+
+            if (leading == null && trailing == null) {
+                rangeList.add(releaseRanges(release));
+                continue;
+            }
+            List<Range> ranges = new ArrayList<>(2);
+            if (leading != null) {
+                ranges.add(
+                        leading.lower == null
+                                ? new Range(LOWEST_VERSION, GTE)
+                                : new Range(bound(leading.lower), leading.lowerInclusive ? GTE : GT));
+            } else if (release.lower != null) {
+                ranges.add(new Range(release.lower, GTE));
+            }
+            if (trailing != null && trailing.upper != null) {
+                ranges.add(new Range(bound(trailing.upper), trailing.upperInclusive ? LTE : LT));
+            } else if (release.upper != null) {
+                ranges.add(new Range(release.upper, LT));
+            }
+            rangeList.add(ranges);
+        }
+        while (preRelease < preReleases.length) {
+            // The lower bound names the release whose pre-releases are allowed
+            rangeList.add(ranges(preReleases[preRelease++], LOWEST_VERSION, true));
+        }
+        return rangeList;
+    }
+
+    /** Whether a {@code pre-release} interval starts below a release interval. */
+    private static boolean isBelow(Interval preRelease, Interval release) {
+        Semver lower = preRelease.lower == null ? LOWEST_VERSION : preRelease.lower;
+        return lower.compareTo(release.lower == null ? Semver.ZERO : release.lower) < 0;
+    }
+
+    /** Whether a {@code pre-release} interval ends where a release interval starts. */
+    private static boolean leads(Interval preRelease, Interval release) {
+        return preRelease.upper != null
+                && preRelease.upper.getPreRelease().isEmpty()
+                && preRelease.upper.compareTo(release.lower == null ? Semver.ZERO : release.lower) == 0;
+    }
+
+    /** Returns the ranges of an interval of a range list including {@code pre-release}s. */
+    private static List<Range> includingRanges(Interval interval) {
+        Semver lower = interval.lower;
+        Semver upper = interval.upper;
+        if (lower != null
+                && upper != null
+                && interval.lowerInclusive
+                && interval.upperInclusive
+                && lower.compareTo(upper) == 0) {
+            return List.of(new Range(bound(lower), EQ));
+        }
+        return ranges(interval, LOWEST_VERSION, false);
+    }
+
+    /**
+     * Returns the intervals which contain exactly the versions of this set when {@code pre-release}s are included, or
+     * {@code null} if there are none.
+     */
+    private Interval @Nullable [] includingPreReleaseIntervals() {
+        if (versions != null) {
+            return versions;
+        }
+        // Release intervals end below the pre-releases of their upper bound, so as not to contain them
+        Interval[] releasesOnly = new Interval[releases.length];
+        for (int i = 0; i < releases.length; i++) {
+            Semver upper = releases[i].upper;
+            releasesOnly[i] = upper == null
+                    ? releases[i]
+                    : new Interval(releases[i].lower, true, lowestPreReleaseOf(upper), false);
+        }
+        Interval[] intervals = union(releasesOnly, preReleases, Kind.ALL);
+        if (sameBounds(normalize(intervals, Kind.RELEASES), releases)
+                && sameBounds(normalize(intervals, Kind.PRE_RELEASES), preReleases)) {
+            return intervals;
+        }
+        return null;
+    }
+
+    /** Whether each {@code pre-release} interval only contains the {@code pre-release}s of one release. */
+    private boolean preReleasesAreWithinTuples() {
+        for (Interval interval : preReleases) {
+            Semver lower = interval.lower == null ? LOWEST_VERSION : interval.lower;
+            Semver release = Semver.create(lower.getMajor(), lower.getMinor(), lower.getPatch());
+            if (interval.upper == null || interval.upper.compareTo(release) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Returns the ranges of a release interval, {@code =1.2.3} for the interval of a single release. */
+    private static List<Range> releaseRanges(Interval interval) {
+        if (interval.lower != null && interval.upper != null) {
+            Semver next = nextRelease(interval.lower);
+            if (next != null && next.compareTo(interval.upper) == 0) {
+                return List.of(new Range(interval.lower, EQ));
+            }
+        }
+        return ranges(interval, Semver.ZERO, false);
+    }
+
+    /**
+     * Returns the ranges of an interval.
+     *
+     * @param interval the interval
+     * @param lowest the lowest version of the interval when it is unbounded below
+     * @param lowestRequired whether a lower bound is needed even if the interval is bounded above
+     * @return the ranges satisfied by the versions of the interval
+     */
+    private static List<Range> ranges(Interval interval, Semver lowest, boolean lowestRequired) {
+        List<Range> ranges = new ArrayList<>(2);
+        if (interval.lower != null) {
+            ranges.add(new Range(bound(interval.lower), interval.lowerInclusive ? GTE : GT));
+        } else if (lowestRequired || interval.upper == null) {
+            ranges.add(new Range(lowest, GTE));
+        }
+        if (interval.upper != null) {
+            ranges.add(new Range(bound(interval.upper), interval.upperInclusive ? LTE : LT));
+        }
+        return ranges;
+    }
+
+    /** Returns a version without its {@code build} identifiers, which do not change its precedence. */
+    private static Semver bound(Semver version) {
+        return version.getBuild().isEmpty() ? version : version.withClearedBuild();
+    }
+
+    private static Interval[] intersect(Interval[] intervals, Interval[] others, Kind kind) {
+        List<Interval> result = new ArrayList<>();
+        int i = 0;
+        int j = 0;
+        while (i < intervals.length && j < others.length) {
+            Interval intersection = intervals[i].intersection(others[j]);
+            if (intersection != null) {
+                addNormalized(result, intersection, kind);
+            }
+            if (Interval.compareUppers(intervals[i], others[j]) < 0) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return result.toArray(NO_INTERVALS);
+    }
+
+    private static Interval[] union(Interval[] intervals, Interval[] others, Kind kind) {
+        return normalize(merge(intervals, others), kind);
+    }
+
+    /** Returns the union of sorted disjoint intervals, without normalizing it. */
+    private static Interval[] merge(Interval[] intervals, Interval[] others) {
+        List<Interval> result = new ArrayList<>(intervals.length + others.length);
+        int i = 0;
+        int j = 0;
+        @Nullable Interval current = null;
+        while (i < intervals.length || j < others.length) {
+            Interval next;
+            if (j == others.length || (i < intervals.length && Interval.compareLowers(intervals[i], others[j]) <= 0)) {
+                next = intervals[i++];
+            } else {
+                next = others[j++];
+            }
+            if (current == null) {
+                current = next;
+            } else if (current.isContiguousWith(next)) {
+                current = current.span(next);
+            } else {
+                result.add(current);
+                current = next;
+            }
+        }
+        if (current != null) {
+            result.add(current);
+        }
+        return result.toArray(NO_INTERVALS);
+    }
+
+    private static Interval[] complement(Interval[] intervals, Kind kind) {
+        List<Interval> result = new ArrayList<>(intervals.length + 1);
+        @Nullable Semver lower = null;
+        boolean lowerInclusive = false;
+        boolean unboundedAbove = false;
+        for (Interval interval : intervals) {
+            if (interval.lower != null) {
+                Interval gap = new Interval(lower, lowerInclusive, interval.lower, !interval.lowerInclusive);
+                if (!gap.isEmpty()) {
+                    addNormalized(result, gap, kind);
+                }
+            }
+            if (interval.upper == null) {
+                unboundedAbove = true;
+                break;
+            }
+            lower = interval.upper;
+            lowerInclusive = !interval.upperInclusive;
+        }
+        if (!unboundedAbove) {
+            addNormalized(result, new Interval(lower, lowerInclusive, null, false), kind);
+        }
+        return result.toArray(NO_INTERVALS);
+    }
+
+    private static Interval[] normalize(Interval[] intervals, Kind kind) {
+        List<Interval> result = new ArrayList<>(intervals.length);
+        for (Interval interval : intervals) {
+            addNormalized(result, interval, kind);
+        }
+        return result.toArray(NO_INTERVALS);
+    }
+
+    /**
+     * Adds the normalized interval of the versions of the given kind of an interval, if it has any, merging it with the
+     * last interval when contiguous.
+     */
+    private static void addNormalized(List<Interval> intervals, Interval interval, Kind kind) {
+        Interval normalized =
+                switch (kind) {
+                    case RELEASES -> releasesOf(interval);
+                    case PRE_RELEASES -> preReleasesOf(interval);
+                    case ALL -> versionsOf(interval);
+                };
+        if (normalized == null) {
+            return;
+        }
+        int last = intervals.size() - 1;
+        if (last >= 0 && intervals.get(last).isContiguousWith(normalized)) {
+            intervals.set(last, intervals.get(last).span(normalized));
+        } else {
+            intervals.add(normalized);
+        }
+    }
+
+    /**
+     * Returns the interval with one form for equivalent bounds, or null if it has neither releases nor
+     * {@code pre-release}s, like {@code (1.2.3, 1.2.4-undef)}: {@code >=1.2.4-undef} is written {@code >1.2.3} and
+     * {@code <1.2.4-undef} is written {@code <=1.2.3}, and the lowest version {@code 0.0.0-undef} is no lower bound.
+     */
+    private static @Nullable Interval versionsOf(Interval interval) {
+        if (releasesOf(interval) == null && preReleasesOf(interval) == null) {
+            return null;
+        }
+
+        Semver lower = interval.lower;
+        boolean lowerInclusive = interval.lowerInclusive;
+        if (lower != null) {
+            if (lowerInclusive && isLowestPreRelease(lower) && lower.getPatch() > 0) {
+                lower = Semver.create(lower.getMajor(), lower.getMinor(), lower.getPatch() - 1);
+                lowerInclusive = false;
+            } else if (lowerInclusive && lower.compareTo(LOWEST_VERSION) == 0) {
+                lower = null;
+            } else if (!lowerInclusive && lower.getPreRelease().isEmpty() && lower.getPatch() == Integer.MAX_VALUE) {
+                Semver next = nextRelease(lower);
+                if (next != null) {
+                    lower = lowestPreReleaseOf(next);
+                    lowerInclusive = true;
+                }
+            }
+        }
+
+        Semver upper = interval.upper;
+        boolean upperInclusive = interval.upperInclusive;
+        if (upper != null) {
+            if (!upperInclusive && isLowestPreRelease(upper) && upper.getPatch() > 0) {
+                upper = Semver.create(upper.getMajor(), upper.getMinor(), upper.getPatch() - 1);
+                upperInclusive = true;
+            } else if (upperInclusive && upper.getPreRelease().isEmpty() && upper.getPatch() == Integer.MAX_VALUE) {
+                Semver next = nextRelease(upper);
+                if (next != null) {
+                    upper = lowestPreReleaseOf(next);
+                    upperInclusive = false;
+                }
+            }
+        }
+        return new Interval(lower, lowerInclusive, upper, upperInclusive);
+    }
+
+    /** Returns the interval {@code [lower, upper)} bounded by the releases of an interval, or null if it has none. */
+    private static @Nullable Interval releasesOf(Interval interval) {
+        Semver lower = interval.lower;
+        if (lower != null) {
+            if (!lower.getPreRelease().isEmpty()) {
+                lower = releaseOf(lower);
+            } else if (!interval.lowerInclusive) {
+                lower = nextRelease(lower);
+                if (lower == null) {
+                    return null;
+                }
+            } else {
+                lower = releaseOf(lower);
+            }
+        }
+
+        Semver upper = interval.upper;
+        if (upper != null) {
+            if (upper.getPreRelease().isEmpty() && interval.upperInclusive) {
+                upper = nextRelease(upper);
+            } else {
+                upper = releaseOf(upper);
+            }
+        }
+
+        if (lower != null && lower.compareTo(Semver.ZERO) == 0) {
+            // No release is below 0.0.0
+            lower = null;
+        }
+        Interval releases = new Interval(lower, true, upper, false);
+        if (lower == null && upper != null && upper.compareTo(Semver.ZERO) <= 0) {
+            // No release is below 0.0.0
+            return null;
+        }
+        return releases.isEmpty() ? null : releases;
+    }
+
+    /** Returns the normalized interval of the {@code pre-release}s of an interval, or null if it has none. */
+    private static @Nullable Interval preReleasesOf(Interval interval) {
+        Semver lower = interval.lower;
+        boolean lowerInclusive = interval.lowerInclusive;
+        if (lower != null && lower.getPreRelease().isEmpty()) {
+            // The lowest pre-release above a release is the lowest pre-release of the next one
+            Semver next = nextRelease(lower);
+            if (next == null) {
+                return null;
+            }
+            lower = lowestPreReleaseOf(next);
+            lowerInclusive = true;
+        } else if (lower != null && lowerInclusive && lower.compareTo(LOWEST_VERSION) == 0) {
+            lower = null;
+        }
+
+        Semver upper = interval.upper;
+        boolean upperInclusive = interval.upperInclusive;
+        if (upper != null && upper.getPreRelease().isEmpty()) {
+            upperInclusive = false;
+        } else if (upper != null && !upperInclusive && isLowestPreRelease(upper)) {
+            // The pre-releases below the lowest pre-release of a release are the ones below the previous release
+            upper = previousRelease(upper);
+            if (upper == null) {
+                return null;
+            }
+        }
+
+        Interval preReleases = new Interval(lower, lowerInclusive, upper, upperInclusive);
+        return preReleases.isEmpty() ? null : preReleases;
+    }
+
+    /** Whether a version has the precedence of the {@linkplain #lowestPreReleaseOf(Semver) lowest pre-release}. */
+    private static boolean isLowestPreRelease(Semver version) {
+        List<String> preRelease = version.getPreRelease();
+        return !preRelease.isEmpty() && preRelease.get(0).equals(LOWEST_IDENTIFIER);
+    }
+
+    /** Returns the highest release below the release of a version, or null if there is none. */
+    private static @Nullable Semver previousRelease(Semver version) {
+        if (version.getPatch() > 0) {
+            return Semver.create(version.getMajor(), version.getMinor(), version.getPatch() - 1);
+        } else if (version.getMinor() > 0) {
+            return Semver.create(version.getMajor(), version.getMinor() - 1, Integer.MAX_VALUE);
+        } else if (version.getMajor() > 0) {
+            return Semver.create(version.getMajor() - 1, Integer.MAX_VALUE, Integer.MAX_VALUE);
+        }
+        return null;
+    }
+
+    /** Returns the release without {@code pre-release} or {@code build} identifiers of a version. */
+    private static Semver releaseOf(Semver version) {
+        if (version.getPreRelease().isEmpty() && version.getBuild().isEmpty()) {
+            return version;
+        }
+        return Semver.create(version.getMajor(), version.getMinor(), version.getPatch());
+    }
+
+    /** Returns the lowest release above a version, or null if there is none. */
+    private static @Nullable Semver nextRelease(Semver version) {
+        if (version.getPatch() < Integer.MAX_VALUE) {
+            return Semver.create(version.getMajor(), version.getMinor(), version.getPatch() + 1);
+        } else if (version.getMinor() < Integer.MAX_VALUE) {
+            return Semver.create(version.getMajor(), version.getMinor() + 1, 0);
+        } else if (version.getMajor() < Integer.MAX_VALUE) {
+            return Semver.create(version.getMajor() + 1, 0, 0);
+        }
+        return null;
+    }
+
+    private static boolean sameBounds(Interval[] intervals, Interval[] others) {
+        if (intervals.length != others.length) {
+            return false;
+        }
+        for (int i = 0; i < intervals.length; i++) {
+            if (!intervals[i].hasSameBounds(others[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** The kinds of versions an array of intervals holds. */
+    private enum Kind {
+        RELEASES,
+        PRE_RELEASES,
+        ALL
+    }
+}
@@ -0,0 +1,60 @@
+package org.semver4j;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.openjdk.jol.info.GraphLayout;
+import org.openjdk.jol.vm.VM;
+
+/**
+ * Locks in the heap footprint of {@link Semver} instances, measured with JOL. The shared empty list is not counted.
+ *
+ * <p>The bounds hold for the usual 64-bit layout with compressed references and 8-byte object alignment; the tests are
+ * skipped on other layouts.
+ */
+class SemverFootprintTest {
+    @BeforeAll
+    static void assumeCompressedReferences() {
+        assumeThat(VM.current().sizeOfField("oop")).isEqualTo(4);
+        assumeThat(VM.current().objectAlignment()).isEqualTo(8);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1.2.3, 88", "v1.2.3, 88", "10.20.30, 88", "1.0.0-rc.1, 160", "1.2.3-beta.11+sha.0nsfgkjkjsdf, 240"})
+    void shouldKeepParsedVersionsCompact(String version, long maxBytes) {
+        // given
+        Semver semver = new Semver(version);
+
+        // when
+        long footprint = footprint(semver);
+
+        // then
+        assertThat(footprint).as("footprint of %s", version).isLessThanOrEqualTo(maxBytes);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1.2.3, 88", "1.0.0-rc.1, 160"})
+    void shouldKeepBuiltVersionsAsCompactAsParsedOnes(String version, long maxBytes) {
+        // given
+        Semver parsed = new Semver(version);
+        Semver built = Semver.of(parsed.getMajor(), parsed.getMinor(), parsed.getPatch())
+                .withPreReleases(parsed.getPreRelease())
+                .build();
+
+        // when
+        long footprint = footprint(built);
+
+        // then
+        assertThat(footprint).as("footprint of built %s", version).isLessThanOrEqualTo(maxBytes);
+    }
+
+    private static long footprint(Semver semver) {
+        return GraphLayout.parseInstance(semver)
+                .subtract(GraphLayout.parseInstance(List.of()))
+                .totalSize();
+    }
+}
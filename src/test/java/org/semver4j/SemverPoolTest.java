@@ -0,0 +1,142 @@
+package org.semver4j;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+class SemverPoolTest {
+    @Test
+    void shouldReturnSameInstanceForEqualVersions() {
+        // given
+        SemverPool pool = new SemverPool();
+        Semver first = new Semver("1.2.3-rc.1");
+        Semver second = new Semver("v1.2.3-rc.1");
+
+        // when
+        Semver internedFirst = pool.intern(first);
+        Semver internedSecond = pool.intern(second);
+
+        // then
+        assertThat(internedFirst).isSameAs(first);
+        assertThat(internedSecond).isSameAs(first);
+        assertThat(pool.intern(new Semver("1.2.3"))).isNotSameAs(first);
+        assertThat(pool.size()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldInternVersionStrings() {
+        // given
+        SemverPool pool = new SemverPool();
+        Semver interned = pool.intern("1.2.3");
+
+        // when
+        Semver canonical = pool.intern("1.2.3");
+        Semver prefixed = pool.intern(" v1.2.3 ");
+
+        // then
+        assertThat(canonical).isSameAs(interned);
+        assertThat(prefixed).isSameAs(interned);
+        assertThat(pool.getHitCount()).isEqualTo(2);
+        assertThat(pool.getMissCount()).isEqualTo(1);
+        assertThat(pool.getHitRate()).isEqualTo(2.0 / 3);
+    }
+
+    @Test
+    void shouldRejectInvalidVersionString() {
+        // given
+        SemverPool pool = new SemverPool();
+
+        // when / then
+        assertThatThrownBy(() -> pool.intern("1.2"))
+                .isInstanceOf(SemverException.class)
+                .hasMessage("Version [1.2] is not valid semver.");
+        assertThat(pool.size()).isZero();
+    }
+
+    @Test
+    void shouldClearPoolAndStatistics() {
+        // given
+        SemverPool pool = new SemverPool();
+        pool.intern("1.2.3");
+        pool.intern("1.2.3");
+
+        // when
+        pool.clear();
+
+        // then
+        assertThat(pool.size()).isZero();
+        assertThat(pool.getHitCount()).isZero();
+        assertThat(pool.getMissCount()).isZero();
+        assertThat(pool.getHitRate()).isZero();
+    }
+
+    @Test
+    void shouldDropVersionsWhichAreNotUsedAnymore() throws InterruptedException {
+        // given
+        SemverPool pool = new SemverPool();
+        for (int i = 0; i < 1_000; i++) {
+            pool.intern(Semver.create(1, 0, i));
+        }
+
+        // when
+        for (int i = 0; i < 50 && pool.size() > 0; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        // then
+        assertThat(pool.size()).isZero();
+    }
+
+    @Test
+    void shouldInternConcurrently() throws Exception {
+        // given
+        SemverPool pool = new SemverPool();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<List<Semver>>> futures = new ArrayList<>();
+
+        // when
+        try {
+            for (int thread = 0; thread < 8; thread++) {
+                futures.add(executor.submit(() -> {
+                    List<Semver> interned = new ArrayList<>();
+                    for (int i = 0; i < 1_000; i++) {
+                        interned.add(pool.intern(Semver.create(1, 0, i)));
+                    }
+                    return interned;
+                }));
+            }
+
+            // then
+            List<Semver> expected = futures.get(0).get();
+            for (Future<List<Semver>> future : futures) {
+                List<Semver> interned = future.get();
+                for (int i = 0; i < interned.size(); i++) {
+                    assertThat(interned.get(i)).isSameAs(expected.get(i));
+                }
+            }
+            assertThat(pool.getHitCount() + pool.getMissCount()).isEqualTo(8_000);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void shouldInternInDefaultPool() {
+        // given
+        Semver version = new Semver("7.8.9-intern.test");
+
+        // when
+        Semver interned = version.intern();
+
+        // then
+        assertThat(new Semver("7.8.9-intern.test").intern()).isSameAs(interned);
+        assertThat(SemverPool.getDefault().intern("7.8.9-intern.test")).isSameAs(interned);
+    }
+}
@@ -16,12 +16,19 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
+import java.util.Random;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.semver4j.Semver.VersionDiff;
@@ -460,6 +467,33 @@ class SemverTest {
                         "1.2.3");
     }
 
+    @ParameterizedTest
+    @CsvSource({
+        "1.2.3, 1.2.4",
+        "1.2.3-rc.1, 1.2.3",
+        "1.2.3-rc.1, 1.2.3-rc.2",
+        "1048575.2097151.2097151, 1048576.0.0",
+        "1.2097152.0, 2.0.0",
+        "1.2.2097152, 1.3.0",
+        "1.2.2097152-alpha, 1.2.2097152",
+        "2147483647.0.0-alpha, 2147483647.0.0-beta",
+        "0.0.0-0, 0.0.0"
+    })
+    void shouldCompareVersionsWithAndWithoutPackedKey(String lower, String greater) {
+        // given
+        Semver lowerSemver = new Semver(lower);
+        Semver greaterSemver = new Semver(greater);
+
+        // when
+        int cmp1 = lowerSemver.compareTo(greaterSemver);
+        int cmp2 = greaterSemver.compareTo(lowerSemver);
+
+        // then
+        assertThat(cmp1).isEqualTo(-1);
+        assertThat(cmp2).isEqualTo(1);
+        assertThat(lowerSemver.compareTo(new Semver(lower))).isZero();
+    }
+
     @ParameterizedTest
     @MethodSource("apiCompatible")
     void shouldCheckIsApiCompatible(String version, boolean expected) {
@@ -756,6 +790,191 @@ class SemverTest {
         assertThat(parsed).isEqualTo(parsedWithV);
     }
 
+    @Test
+    void shouldParseVersionFromCharSequenceSlice() {
+        // given
+        StringBuilder line = new StringBuilder("lodash@4.17.21-rc.1+build.5 integrity");
+
+        // when
+        Semver version = Semver.parse(line, 7, 20);
+
+        // then
+        assertThat(version).isEqualTo(new Semver("4.17.21-rc.1+build.5"));
+        assertThat(version.getPreRelease()).containsExactly("rc", "1");
+        assertThat(version.getBuild()).containsExactly("build", "5");
+    }
+
+    @Test
+    void shouldIgnoreWhitespaceAroundSlice() {
+        // given
+        String line = "version:  v1.2.3 \n";
+
+        // when
+        Semver version = Semver.parse(line, 8, line.length() - 8);
+
+        // then
+        assertThat(version).isEqualTo(new Semver("1.2.3"));
+    }
+
+    @Test
+    void shouldReturnNullWhenSliceIsNotValidVersion() {
+        // given
+        String line = "1.2.3.4";
+
+        // when
+        Semver version = Semver.parse(line, 0, line.length());
+
+        // then
+        assertThat(version).isNull();
+    }
+
+    @Test
+    void shouldParseVersionFromAsciiBytes() {
+        // given
+        byte[] bytes = "name,1.0.0-alpha.1,MIT".getBytes(StandardCharsets.US_ASCII);
+
+        // when
+        Semver version = Semver.parse(bytes, 5, 13);
+
+        // then
+        assertThat(version).isEqualTo(new Semver("1.0.0-alpha.1"));
+    }
+
+    @Test
+    void shouldReturnNullWhenBytesAreNotAscii() {
+        // given
+        byte[] bytes = "1.0.0-\u00e9".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        Semver version = Semver.parse(bytes, 0, bytes.length);
+
+        // then
+        assertThat(version).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void shouldParseVersionFromByteBufferWithoutMovingPosition(boolean direct) {
+        // given
+        byte[] content = "{\"version\":\"2.0.0+meta\"}".getBytes(StandardCharsets.US_ASCII);
+        ByteBuffer buffer = direct ? ByteBuffer.allocateDirect(content.length) : ByteBuffer.allocate(content.length);
+        buffer.put(content).flip().position(3);
+
+        // when
+        Semver version = Semver.parse(buffer, 12, 10);
+
+        // then
+        assertThat(version).isEqualTo(new Semver("2.0.0+meta"));
+        assertThat(buffer.position()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldRejectSliceOutOfBounds() {
+        // when
+        ThrowingCallable throwingCallable = () -> Semver.parse("1.2.3", 1, 5);
+
+        // then
+        assertThatThrownBy(throwingCallable).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void shouldTryParseValidVersion() {
+        // when
+        ParseResult result = Semver.tryParse(" 1.2.3-rc.1 ");
+
+        // then
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.getSemver()).isEqualTo(new Semver("1.2.3-rc.1"));
+        assertThat(result.getReason()).isNull();
+        assertThat(result.getErrorIndex()).isEqualTo(-1);
+    }
+
+    @ParameterizedTest
+    @MethodSource("tryParseFailures")
+    void shouldTryParseInvalidVersion(String version, ParseResult.Reason reason, int errorIndex) {
+        // when
+        ParseResult result = Semver.tryParse(version);
+
+        // then
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.getSemver()).isNull();
+        assertThat(result.getReason()).isEqualTo(reason);
+        assertThat(result.getErrorIndex()).isEqualTo(errorIndex);
+    }
+
+    static Stream<Arguments> tryParseFailures() {
+        return Stream.of(
+                arguments("", ParseResult.Reason.UNEXPECTED_END, 0),
+                arguments("  1.2 ", ParseResult.Reason.UNEXPECTED_END, 5),
+                arguments("1.2.3-alpha_1", ParseResult.Reason.UNEXPECTED_CHARACTER, 11),
+                arguments("1.2.3.4", ParseResult.Reason.UNEXPECTED_CHARACTER, 5),
+                arguments("1.2.3-alpha..1", ParseResult.Reason.EMPTY_IDENTIFIER, 12),
+                arguments("1.02.3", ParseResult.Reason.LEADING_ZERO, 2),
+                arguments("v1.2.3-rc.01", ParseResult.Reason.LEADING_ZERO, 10),
+                arguments("1.2.99999999999", ParseResult.Reason.VALUE_TOO_BIG, 4));
+    }
+
+    @Test
+    void shouldNotCoerceValidVersion() {
+        // when
+        Semver semver = coerce("1.2.3-rc.1");
+
+        // then
+        assertThat(semver).isEqualTo(new Semver("1.2.3-rc.1"));
+    }
+
+    @Test
+    void shouldReuseCanonicalInputAsVersion() {
+        // given
+        String input = "1.2.3-rc.1+build.5";
+
+        // when
+        Semver semver = new Semver(input);
+
+        // then
+        assertThat(semver.getVersion()).isSameAs(input);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"v1.2.3-rc.1+build.5", "  v1.2.3-rc.1+build.5 ", " 1.2.3-rc.1+build.5"})
+    void shouldBuildCanonicalVersionFromNonCanonicalInput(String input) {
+        // when
+        Semver semver = new Semver(input);
+
+        // then
+        assertThat(semver.getVersion()).isEqualTo("1.2.3-rc.1+build.5");
+        assertThat(semver).hasToString("1.2.3-rc.1+build.5");
+        assertThat(semver.getVersion()).isSameAs(semver.getVersion());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"1.2.3-rc-1.0.x-y+build-5.0", "v1.2.3-rc-1.0.x-y+build-5.0"})
+    void shouldReadIdentifiersFromVersion(String input) {
+        // given
+        Semver semver = new Semver(input);
+        Semver built = Semver.of(1, 2, 3)
+                .withPreReleases("rc-1", "0", "x-y")
+                .withBuilds("build-5", "0")
+                .build();
+
+        // then
+        assertThat(semver.getPreRelease()).containsExactly("rc-1", "0", "x-y").isEqualTo(built.getPreRelease());
+        assertThat(semver.getBuild()).containsExactly("build-5", "0").isEqualTo(built.getBuild());
+        assertThat(semver.getPreRelease()).hasSameHashCodeAs(List.of("rc-1", "0", "x-y"));
+        assertThat(built).isEqualTo(semver);
+    }
+
+    @Test
+    void shouldShareEmptyIdentifierLists() {
+        // given
+        Semver parsed = new Semver("1.2.3+build");
+        Semver built = Semver.of(1, 2, 3).withPreReleases(new ArrayList<>()).build();
+
+        // then
+        assertThat(parsed.getPreRelease()).isEmpty();
+        assertThat(parsed.getPreRelease()).isSameAs(built.getPreRelease()).isSameAs(built.getBuild());
+    }
+
     @ParameterizedTest
     @MethodSource("coerceVersions")
     void shouldTryCoerceVersion(String versionToCoerce, String expected) {
@@ -1330,6 +1549,63 @@ class SemverTest {
         assertThat(semver.getVersion()).isEqualTo("1.2.3");
     }
 
+    @Test
+    void shouldBuildSemverWithIdentifiers() {
+        // when
+        Semver semver = Semver.of(1, 2, 3)
+                .withPreReleases("rc", "1")
+                .withBuilds(List.of("sha", "0abc"))
+                .build();
+
+        // then
+        assertThat(semver).isEqualTo(new Semver("1.2.3-rc.1+sha.0abc"));
+        assertThat(semver.getPreRelease()).containsExactly("rc", "1");
+        assertThat(semver.getBuild()).containsExactly("sha", "0abc");
+        assertThat(semver.getVersion()).isEqualTo("1.2.3-rc.1+sha.0abc");
+    }
+
+    @Test
+    void shouldBuildSemverSplittingIdentifiersWithDots() {
+        // when
+        Semver semver = Semver.of(1, 2, 3).withPreRelease("rc.1").build();
+
+        // then
+        assertThat(semver.getPreRelease()).containsExactly("rc", "1");
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidBuilders")
+    void shouldThrowExceptionWhenBuiltVersionIsNotValid(Semver.Builder builder, String expectedVersion) {
+        // when
+        ThrowingCallable throwingCallable = builder::build;
+
+        // then
+        assertThatThrownBy(throwingCallable)
+                .isInstanceOf(SemverException.class)
+                .hasMessage(format(Locale.ROOT, "Version [%s] is not valid semver.", expectedVersion));
+    }
+
+    static Stream<Arguments> invalidBuilders() {
+        return Stream.of(
+                arguments(Semver.of(-1, 2, 3), "-1.2.3"),
+                arguments(Semver.of(1, 2, 3).withPreRelease("01"), "1.2.3-01"),
+                arguments(Semver.of(1, 2, 3).withPreRelease(""), "1.2.3-"),
+                arguments(Semver.of(1, 2, 3).withBuild("a_b"), "1.2.3+a_b"));
+    }
+
+    @Test
+    void shouldCreateBuilderFromSemver() {
+        // given
+        Semver semver = new Semver("v1.2.3-rc.1+build.5");
+
+        // when
+        Semver result = semver.toBuilder().withPatch(4).build();
+
+        // then
+        assertThat(result).isEqualTo(new Semver("1.2.4-rc.1+build.5"));
+        assertThat(semver.toBuilder().build()).isEqualTo(semver);
+    }
+
     @Test
     void shouldUseCustomFormatter() {
         // given
@@ -1377,4 +1653,148 @@ class SemverTest {
         // then
         assertThat(deserializedSemver).isNotSameAs(semver).isEqualTo(semver);
     }
+
+    @Test
+    void shouldSerializeVersionParsedFromNonCanonicalInput() throws Exception {
+        // given
+        Semver semver = new Semver("v1.2.3-beta");
+
+        // when
+        final var serialized = new ByteArrayOutputStream();
+        try (final var oos = new ObjectOutputStream(serialized)) {
+            oos.writeObject(semver);
+        }
+        final Semver deserializedSemver;
+        try (final var ois = new ObjectInputStream(new ByteArrayInputStream(serialized.toByteArray()))) {
+            deserializedSemver = (Semver) ois.readObject();
+        }
+
+        // then
+        assertThat(deserializedSemver.getVersion()).isEqualTo("1.2.3-beta");
+        assertThat(deserializedSemver).isEqualTo(semver);
+        assertThat(deserializedSemver.compareTo(new Semver("1.2.3"))).isNegative();
+        assertThat(deserializedSemver.compareTo(new Semver("1.2.2"))).isPositive();
+    }
+
+    @Test
+    void shouldOrderSortKeysByPrecedence() {
+        // given
+        List<Semver> versions = Stream.of(
+                        "0.0.0",
+                        "1.0.0-alpha",
+                        "1.0.0-alpha.1",
+                        "1.0.0-alpha.beta",
+                        "1.0.0-beta",
+                        "1.0.0-beta.2",
+                        "1.0.0-beta.11",
+                        "1.0.0-rc.1",
+                        "1.0.0",
+                        "1.0.1",
+                        "1.10.0",
+                        "2.0.0-rc2",
+                        "2.0.0-rc10",
+                        "2.0.0",
+                        "256.0.0",
+                        "70000.0.0")
+                .map(Semver::new)
+                .collect(Collectors.toList());
+
+        // when
+        List<byte[]> keys = versions.stream().map(Semver::toSortKey).collect(Collectors.toList());
+
+        // then
+        for (int i = 1; i < keys.size(); i++) {
+            assertThat(versions.get(i - 1)).isLessThan(versions.get(i));
+            assertThat(Arrays.compareUnsigned(keys.get(i - 1), keys.get(i)))
+                    .describedAs("%s < %s", versions.get(i - 1), versions.get(i))
+                    .isNegative();
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                "0.0.0",
+                "1.2.3+build.1",
+                "2147483647.65536.255-rc.01a.0.a00+001",
+                "1.0.0-alpha.undef.2+build",
+                "1.0.0-undef",
+                "1.0.0-x-y-z.--",
+                "1.0.0-rc.123456789012345678901234567890"
+            })
+    void shouldDecodeSortKeys(String version) {
+        // given
+        Semver semver = new Semver(version);
+
+        // when
+        Semver decoded = Semver.fromSortKey(semver.toSortKey());
+
+        // then
+        assertThat(decoded.getVersion()).isEqualTo(version);
+    }
+
+    @Test
+    void shouldCompareSortKeysAsVersions() {
+        // given
+        Random random = new Random(17);
+        String[] identifiers = {
+            "0",
+            "1",
+            "2",
+            "10",
+            "11",
+            "123456789012",
+            "alpha",
+            "beta",
+            "rc",
+            "-x",
+            "x-y",
+            "SNAPSHOT",
+            "rc1",
+            "rc2",
+            "rc10",
+            "beta2",
+            "beta10",
+            "undef"
+        };
+        List<Semver> versions = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            StringBuilder version = new StringBuilder()
+                    .append(random.nextInt(2))
+                    .append('.')
+                    .append(random.nextInt(2))
+                    .append('.')
+                    .append(random.nextInt(300));
+            int preRelease = random.nextInt(4);
+            for (int identifier = 0; identifier < preRelease; identifier++) {
+                version.append(identifier == 0 ? '-' : '.').append(identifiers[random.nextInt(identifiers.length)]);
+            }
+            if (random.nextInt(4) == 0) {
+                version.append("+build.").append(random.nextInt(3));
+            }
+            versions.add(new Semver(version.toString()));
+        }
+
+        for (Semver version : versions) {
+            for (Semver other : versions) {
+                // when
+                int keyCompare = Arrays.compareUnsigned(version.toSortKey(), other.toSortKey());
+
+                // then
+                int compare = version.compareTo(other);
+                if (compare != 0) {
+                    assertThat(Integer.signum(keyCompare))
+                            .describedAs("%s <=> %s", version, other)
+                            .isEqualTo(Integer.signum(compare));
+                }
+            }
+        }
+    }
+
+    @Test
+    void shouldNotDecodeInvalidSortKeys() {
+        assertThatThrownBy(() -> Semver.fromSortKey(new byte[] {1, 1, 5}))
+                .isInstanceOf(SemverException.class)
+                .hasMessage("Sort key is not valid at byte 3.");
+    }
 }
@@ -0,0 +1,58 @@
+package org.semver4j.internal;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.ByteBuffer;
+import org.junit.jupiter.api.Test;
+
+class AsciiCharSequenceTest {
+    @Test
+    void shouldExposeSliceOfBytes() {
+        // given
+        byte[] bytes = "abc-1.2.3-def".getBytes(US_ASCII);
+
+        // when
+        AsciiCharSequence sequence = AsciiCharSequence.of(bytes, 4, 5);
+
+        // then
+        assertThat(sequence.length()).isEqualTo(5);
+        assertThat(sequence.charAt(0)).isEqualTo('1');
+        assertThat(sequence.subSequence(2, 5)).isEqualTo("2.3");
+        assertThat(sequence).hasToString("1.2.3");
+    }
+
+    @Test
+    void shouldReadArrayBackedBufferInPlace() {
+        // given
+        byte[] bytes = "1.2.3".getBytes(US_ASCII);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+
+        // when
+        AsciiCharSequence sequence = AsciiCharSequence.of(buffer, 0, 5);
+        bytes[4] = '4';
+
+        // then
+        assertThat(sequence).hasToString("1.2.4");
+    }
+
+    @Test
+    void shouldExposeNonAsciiBytesAsLatin1Characters() {
+        // when
+        AsciiCharSequence sequence = AsciiCharSequence.of(new byte[] {(byte) 0xE9}, 0, 1);
+
+        // then
+        assertThat(sequence.charAt(0)).isEqualTo('é');
+    }
+
+    @Test
+    void shouldRejectIndexOutsideOfSlice() {
+        // given
+        AsciiCharSequence sequence = AsciiCharSequence.of("1.2.3".getBytes(US_ASCII), 1, 2);
+
+        // then
+        assertThatThrownBy(() -> sequence.charAt(2)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> AsciiCharSequence.of(new byte[2], 1, 2)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+}
@@ -1,8 +1,15 @@
 package org.semver4j.internal;
 
+import static java.lang.Math.max;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.semver4j.Semver;
 
 class ComparatorTest {
@@ -20,4 +27,145 @@ class ComparatorTest {
         assertThat(cmp1).isNegative();
         assertThat(cmp2).isPositive();
     }
+
+    @ParameterizedTest
+    @CsvSource({
+        "1.0.0-99999999999999999999, 1.0.0-100000000000000000000",
+        "1.0.0-rc.9223372036854775807, 1.0.0-rc.9223372036854775808",
+        "1.0.0-a99999999999999999999b, 1.0.0-a100000000000000000000b"
+    })
+    void shouldCompareNumbersWhichDoNotFitInLong(String lower, String greater) {
+        // when
+        int cmp1 = Comparator.compareTo(new Semver(lower), new Semver(greater));
+        int cmp2 = Comparator.compareTo(new Semver(greater), new Semver(lower));
+
+        // then
+        assertThat(cmp1).isNegative();
+        assertThat(cmp2).isPositive();
+    }
+
+    @Test
+    void shouldCompareLikeRegexBasedImplementation() {
+        // given
+        Random random = new Random(7);
+
+        for (int i = 0; i < 100_000; i++) {
+            List<String> preRelease = randomPreRelease(random);
+            List<String> otherPreRelease = randomPreRelease(random);
+            Semver version = Semver.of(1, 0, 0).withPreReleases(preRelease).build();
+            Semver other = Semver.of(1, 0, 0).withPreReleases(otherPreRelease).build();
+
+            Integer expected;
+            try {
+                expected = legacyPreReleaseCompare(preRelease, otherPreRelease);
+            } catch (RuntimeException e) {
+                // The former implementation could fail on some inputs
+                continue;
+            }
+
+            // when
+            int actual = Comparator.compareTo(version, other);
+
+            // then
+            assertThat(actual).as("%s vs %s", preRelease, otherPreRelease).isEqualTo(expected);
+        }
+    }
+
+    private static List<String> randomPreRelease(Random random) {
+        List<String> identifiers = new ArrayList<>();
+        int size = 1 + random.nextInt(3);
+        while (identifiers.size() < size) {
+            String identifier = randomIdentifier(random);
+            if (!identifier.matches("0\\d+")) {
+                identifiers.add(identifier);
+            }
+        }
+        return identifiers;
+    }
+
+    private static String randomIdentifier(Random random) {
+        if (random.nextInt(50) == 0) {
+            return "undef";
+        }
+        if (random.nextBoolean()) {
+            // Letters and numbers alternating, so that identifiers often share their first tokens
+            String[] words = {"a", "rc", "-", "b-"};
+            StringBuilder identifier = new StringBuilder();
+            int chunks = 1 + random.nextInt(3);
+            for (int i = 0; i < chunks; i++) {
+                identifier.append(words[random.nextInt(words.length)]).append(random.nextInt(12));
+            }
+            if (random.nextBoolean()) {
+                identifier.append(words[random.nextInt(words.length)]);
+            }
+            return identifier.toString();
+        }
+        String alphabet = "00123456789abz-";
+        StringBuilder identifier = new StringBuilder();
+        int length = 1 + random.nextInt(7);
+        for (int i = 0; i < length; i++) {
+            identifier.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return identifier.toString();
+    }
+
+    // The regex based comparison this class used to implement, kept as a reference for the ordering
+
+    private static int legacyPreReleaseCompare(List<String> a, List<String> b) {
+        int maxElements = max(a.size(), b.size());
+        int i = 0;
+        do {
+            String x = a.size() > i ? a.get(i) : "undef";
+            String y = b.size() > i ? b.get(i) : "undef";
+            i++;
+            if (x.equals("undef") && y.equals("undef")) {
+                return 0;
+            } else if (y.equals("undef")) {
+                return 1;
+            } else if (x.equals("undef")) {
+                return -1;
+            } else if (x.equals(y)) {
+                continue;
+            }
+            return legacyCompareIdentifiers(x, y);
+        } while (maxElements > i);
+        return 0;
+    }
+
+    private static int legacyCompareIdentifiers(String a, String b) {
+        if (a.matches("^\\d+$") && b.matches("^\\d+$")) {
+            return Long.compare(Long.parseLong(a), Long.parseLong(b));
+        }
+        if (a.matches(".*\\d.*") && b.matches(".*\\d.*")) {
+            Integer alphaNumericComparison = legacyCheckAlphanumericPrerelease(a, b);
+            if (alphaNumericComparison != null) {
+                return alphaNumericComparison;
+            }
+        }
+        return Integer.signum(a.compareTo(b));
+    }
+
+    private static @Nullable Integer legacyCheckAlphanumericPrerelease(String a, String b) {
+        String[] tokenArrA = a.split("(?<=\\D)(?=\\d)");
+        String[] tokenArrB = b.split("(?<=\\D)(?=\\d)");
+        if (tokenArrA.length != tokenArrB.length) {
+            return tokenArrA.length - tokenArrB.length;
+        }
+        if (tokenArrA[0].equals(tokenArrB[0])) {
+            String[] leadingDigitsArrA = tokenArrA[1].split("(?<=\\d)(?=\\D)");
+            String[] leadingDigitsArrB = tokenArrB[1].split("(?<=\\d)(?=\\D)");
+            int digitComparison =
+                    Long.compare(Long.parseLong(leadingDigitsArrA[0]), Long.parseLong(leadingDigitsArrB[0]));
+            if (digitComparison != 0) {
+                return digitComparison;
+            } else if (leadingDigitsArrA.length != leadingDigitsArrB.length) {
+                return leadingDigitsArrA.length - leadingDigitsArrB.length;
+            } else {
+                return legacyCompareIdentifiers(
+                        a.substring(a.indexOf(leadingDigitsArrA[0]) + 1),
+                        b.substring(b.indexOf(leadingDigitsArrB[0]) + 1));
+            }
+        }
+        return null;
+    }
 }
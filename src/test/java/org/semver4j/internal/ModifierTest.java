@@ -1,12 +1,15 @@
 package org.semver4j.internal;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.semver4j.internal.Modifier.*;
 
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.semver4j.Semver;
+import org.semver4j.SemverException;
 
 class ModifierTest {
     @ParameterizedTest
@@ -152,4 +155,59 @@ class ModifierTest {
         assertThat(result.getPreRelease()).isEmpty();
         assertThat(result.getBuild()).isEmpty();
     }
+
+    @Test
+    void withIncMajorShouldKeepIdentifiersOfOriginal() {
+        // given
+        Semver original = new Semver("1.2.3-alpha.1+build.5");
+
+        // when
+        Semver result = withIncMajor(original, 1);
+
+        // then
+        assertThat(result).hasToString("2.2.3-alpha.1+build.5");
+        assertThat(result.getPreRelease()).isEqualTo(original.getPreRelease());
+        assertThat(result.getBuild()).isEqualTo(original.getBuild());
+    }
+
+    @Test
+    void withIncMajorShouldThrowExceptionWhenVersionOverflows() {
+        // given
+        Semver original = new Semver("2147483647.0.0");
+
+        // when
+        ThrowingCallable throwingCallable = () -> withIncMajor(original, 1);
+
+        // then
+        assertThatThrownBy(throwingCallable)
+                .isInstanceOf(SemverException.class)
+                .hasMessage("Version [-2147483648.0.0] is not valid semver.");
+    }
+
+    @ParameterizedTest
+    @CsvSource({"'', 1.2.3-", "alpha..1, 1.2.3-alpha..1", "01, 1.2.3-01"})
+    void withPreReleaseShouldThrowExceptionWhenIdentifierIsNotValid(String preRelease, String expected) {
+        // given
+        Semver original = new Semver("1.2.3");
+
+        // when
+        ThrowingCallable throwingCallable = () -> withPreRelease(original, preRelease);
+
+        // then
+        assertThatThrownBy(throwingCallable)
+                .isInstanceOf(SemverException.class)
+                .hasMessage("Version [" + expected + "] is not valid semver.");
+    }
+
+    @Test
+    void withPreReleaseShouldIgnoreTrailingDot() {
+        // given
+        Semver original = new Semver("1.2.3");
+
+        // when
+        Semver result = withPreRelease(original, "rc.1.");
+
+        // then
+        assertThat(result).hasToString("1.2.3-rc.1");
+    }
 }
@@ -6,14 +6,18 @@ import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Locale;
+import java.util.Random;
+import java.util.regex.Pattern;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.semver4j.ParseResult.Reason;
 import org.semver4j.SemverException;
 import org.semver4j.internal.VersionParser.Version;
 
@@ -74,7 +78,11 @@ class VersionParserTest {
                 arguments(
                         "1.0.0+0.build.1-rc.10000aaa-kk-0.1",
                         new Version(1, 0, 0, List.of(), List.of("0", "build", "1-rc", "10000aaa-kk-0", "1"))),
-                arguments("1.0.0-0A.is.legal", new Version(1, 0, 0, List.of("0A", "is", "legal"), List.of())));
+                arguments("1.0.0-0A.is.legal", new Version(1, 0, 0, List.of("0A", "is", "legal"), List.of())),
+                arguments("v1.2.3", new Version(1, 2, 3)),
+                arguments("v1.2.3-rc.1+build", new Version(1, 2, 3, List.of("rc", "1"), List.of("build"))),
+                arguments("2147483647.2147483647.2147483647", new Version(2147483647, 2147483647, 2147483647)),
+                arguments("1.2.3+001", new Version(1, 2, 3, List.of(), List.of("001"))));
     }
 
     @ParameterizedTest
@@ -132,7 +140,17 @@ class VersionParserTest {
                 arguments("9.8.7-whatever+meta+meta"),
                 arguments(
                         "99999999999999999999999.999999999999999999.99999999999999999----RC-SNAPSHOT.12.09.1--------------------------------..12"),
-                arguments("1.1.1.1"));
+                arguments("1.1.1.1"),
+                arguments(""),
+                arguments("v"),
+                arguments("V1.2.3"),
+                arguments("vv1.2.3"),
+                arguments("1.2.3-"),
+                arguments("1.2.3+"),
+                arguments("1.2.3-alpha."),
+                arguments("1.2.3 "),
+                arguments(" 1.2.3"),
+                arguments("99999999999.0.0-"));
     }
 
     @Test
@@ -147,6 +165,151 @@ class VersionParserTest {
                 .hasMessage(format(Locale.ROOT, "Value [%s] is too big.", "99999999999999999999999"));
     }
 
+    @ParameterizedTest
+    @MethodSource("tooBigSemver")
+    void shouldReportFirstComponentWhichIsTooBig(String version, String tooBig) {
+        // when
+        ThrowingCallable throwingCallable = () -> VersionParser.parse(version);
+
+        // then
+        assertThatCode(throwingCallable)
+                .isInstanceOf(SemverException.class)
+                .hasMessage(format(Locale.ROOT, "Value [%s] is too big.", tooBig));
+    }
+
+    static Stream<Arguments> tooBigSemver() {
+        return Stream.of(
+                arguments("2147483648.0.0", "2147483648"),
+                arguments("1.2147483648.0", "2147483648"),
+                arguments("1.2.2147483648", "2147483648"),
+                arguments("1.2.99999999999-alpha", "99999999999"),
+                arguments("v1.99999999999.99999999998", "99999999999"));
+    }
+
+    @Test
+    void shouldParseVersionFromSliceInPlace() {
+        // given
+        CharSequence text = new StringBuilder("deps: 1.0.0-beta.2+exp.sha.5114f85, next");
+
+        // when
+        Version actual = VersionParser.parse(text, 6, 28);
+
+        // then
+        assertThat(actual).isEqualTo(new Version(1, 0, 0, List.of("beta", "2"), List.of("exp", "sha", "5114f85")));
+    }
+
+    @Test
+    void shouldReportOnlySliceInErrorMessage() {
+        // when
+        ThrowingCallable throwingCallable = () -> VersionParser.parse("x 1.2.x y", 2, 5);
+
+        // then
+        assertThatCode(throwingCallable)
+                .isInstanceOf(SemverException.class)
+                .hasMessage("Version [1.2.x] is not valid semver.");
+    }
+
+    @Test
+    void shouldParseVersionFromAsciiBytes() {
+        // given
+        CharSequence bytes = AsciiCharSequence.of("[2147483647.0.1-rc]".getBytes(StandardCharsets.US_ASCII), 1, 17);
+
+        // when
+        Version actual = VersionParser.parse(bytes, 0, bytes.length());
+
+        // then
+        assertThat(actual).isEqualTo(new Version(2147483647, 0, 1, List.of("rc"), List.of()));
+    }
+
+    @Test
+    void shouldReturnNullWithoutThrowingWhenVersionIsNotValid() {
+        // given
+        ParseStatus status = new ParseStatus();
+
+        // when
+        Version actual = VersionParser.tryParse("1.2.3-", 0, 6, status);
+
+        // then
+        assertThat(actual).isNull();
+        assertThat(status.reason()).isEqualTo(Reason.UNEXPECTED_END);
+        assertThat(status.index()).isEqualTo(6);
+    }
+
+    @Test
+    void shouldReportGrammarErrorBeforeTooBigValue() {
+        // given
+        ParseStatus status = new ParseStatus();
+
+        // when
+        Version actual = VersionParser.tryParse("99999999999.0.0-", 0, 16, status);
+
+        // then
+        assertThat(actual).isNull();
+        assertThat(status.reason()).isEqualTo(Reason.UNEXPECTED_END);
+    }
+
+    @Test
+    void shouldTryParseWithoutStatus() {
+        // when
+        Version valid = VersionParser.tryParse("1.2.3+b", 0, 7, null);
+        Version invalid = VersionParser.tryParse("1.2.x", 0, 5, null);
+
+        // then
+        assertThat(valid).isEqualTo(new Version(1, 2, 3, List.of(), List.of("b")));
+        assertThat(invalid).isNull();
+    }
+
+    @ParameterizedTest
+    @MethodSource("identifiers")
+    void shouldCheckIdentifiers(List<String> identifiers, boolean preRelease, boolean expected) {
+        // when
+        boolean valid = VersionParser.isValidIdentifiers(identifiers, preRelease);
+
+        // then
+        assertThat(valid).isEqualTo(expected);
+    }
+
+    static Stream<Arguments> identifiers() {
+        return Stream.of(
+                arguments(List.of(), true, true),
+                arguments(List.of("alpha", "1", "0a", "-"), true, true),
+                arguments(List.of("001"), false, true),
+                arguments(List.of("001"), true, false),
+                arguments(List.of(""), false, false),
+                arguments(List.of("a.b"), false, false),
+                arguments(List.of("a b"), true, false),
+                arguments(List.of("ok", "nö"), true, false));
+    }
+
+    @Test
+    void shouldAcceptExactlyTheStrictGrammar() {
+        // given
+        Pattern strict = Pattern.compile(Tokenizers.STRICT);
+        Random random = new Random(42);
+        String alphabet = "0123456789v.-+aZ_ ";
+
+        for (int i = 0; i < 20_000; i++) {
+            StringBuilder builder = new StringBuilder();
+            int length = random.nextInt(16);
+            for (int j = 0; j < length; j++) {
+                builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            String version = builder.toString();
+
+            // when
+            boolean parsed;
+            try {
+                VersionParser.parse(version);
+                parsed = true;
+            } catch (SemverException e) {
+                parsed = e.getMessage().startsWith("Value [");
+            }
+
+            // then
+            assertThat(parsed).as(version).isEqualTo(strict.matcher(version).matches());
+        }
+    }
+
     @ParameterizedTest
     @ValueSource(strings = {"1", "99999999999999999999999.999999999999999999.99999999999999999"})
     void shouldThrowSemverExceptionWhichExtendsIllegalArgumentException(String version) {
@@ -0,0 +1,31 @@
+package org.semver4j.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class VersionStringsTest {
+    @Test
+    void shouldTrimWhitespaceOfSlice() {
+        // given
+        String version = "x \t1.2.3\n x";
+
+        // when
+        int start = VersionStrings.trimStart(version, 1, 10);
+        int end = VersionStrings.trimEnd(version, start, 10);
+
+        // then
+        assertThat(version.substring(start, end)).isEqualTo("1.2.3");
+        assertThat(VersionStrings.trimStart("   ", 0, 3)).isEqualTo(3);
+        assertThat(VersionStrings.trimEnd("   ", 3, 3)).isEqualTo(3);
+    }
+
+    @Test
+    void shouldSkipSingleVPrefix() {
+        assertThat(VersionStrings.skipPrefix("v1.2.3", 0, 6)).isEqualTo(1);
+        assertThat(VersionStrings.skipPrefix("vv1.2.3", 0, 7)).isZero();
+        assertThat(VersionStrings.skipPrefix("1.2.3", 0, 5)).isZero();
+        assertThat(VersionStrings.skipPrefix("v", 0, 1)).isZero();
+        assertThat(VersionStrings.skipPrefix(" v1.2.3", 1, 7)).isEqualTo(2);
+    }
+}
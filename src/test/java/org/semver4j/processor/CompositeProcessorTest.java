@@ -0,0 +1,134 @@
+package org.semver4j.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.semver4j.range.RangeListFactory;
+
+class CompositeProcessorTest {
+    private static final Processor CUSTOM = (range, includePreRelease) -> range.equals("@1") ? ">=1.0.0 <2.0.0" : null;
+
+    private static final Processor CARET_SUBCLASS = new CaretProcessor() {
+        @Override
+        public @Nullable String process(String range, boolean includePreRelease) {
+            return range.startsWith("caret:") ? super.process("^" + range.substring(6), includePreRelease) : null;
+        }
+    };
+
+    @ParameterizedTest
+    @MethodSource("ranges")
+    void shouldProcessLikeTheOrderedChain(String range) {
+        // given
+        List<Processor> processors = Processors.ALL_PROCESSORS;
+
+        // when
+        Processor composite = CompositeProcessor.all();
+
+        // then
+        for (boolean includePreRelease : new boolean[] {false, true}) {
+            assertThat(composite.process(range, includePreRelease))
+                    .isEqualTo(processInOrder(processors, range, includePreRelease));
+            assertThat(((RangeProcessor) composite).processRanges(range, includePreRelease))
+                    .isEqualTo(RangeProcessor.of((r, incl) -> processInOrder(processors, r, incl))
+                            .processRanges(range, includePreRelease));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("ranges")
+    void shouldProcessLikeTheOrderedChainWithCustomProcessors(String range) {
+        // given
+        List<Processor> processors = List.of(
+                CUSTOM, Processors.tilde(), CARET_SUBCLASS, Processors.hyphen(), Processors.xRange(), Processors.ivy());
+
+        Processor[] chain = processors.toArray(new Processor[0]);
+
+        // when
+        Processor composite = CompositeProcessor.of(chain);
+
+        // then
+        Processor inOrder = (r, incl) -> processInOrder(processors, r, incl);
+        for (boolean includePreRelease : new boolean[] {false, true}) {
+            assertThat(composite.process(range, includePreRelease))
+                    .isEqualTo(processInOrder(processors, range, includePreRelease));
+            assertThat(((RangeProcessor) composite).processRanges(range, includePreRelease))
+                    .isEqualTo(RangeProcessor.of(inOrder).processRanges(range, includePreRelease));
+            // Ranges no processor handles are parsed as comparators, which may fail the same way on both sides
+            assertThat(outcome(() -> RangeListFactory.create(range, includePreRelease, chain)))
+                    .isEqualTo(outcome(() -> RangeListFactory.create(range, includePreRelease, inOrder)));
+        }
+    }
+
+    static Stream<String> ranges() {
+        return Stream.of(
+                "",
+                "*",
+                "**",
+                "x",
+                "latest",
+                "latest.integration",
+                "latest.release",
+                "^1.2.3",
+                "^0.x",
+                "^1.2.3-beta.2",
+                "~1.2.3",
+                "~>3.2.1",
+                "1.2.3 - 2.3.4",
+                "1.2.3\t-\t2.3.4",
+                "1.2.3 -2.3.4",
+                "1.2.3- 2.3.4",
+                "1.2.3-alpha - 2.1.4-beta",
+                " - ",
+                "-",
+                "1.x",
+                "1.2.*",
+                ">1.2.x",
+                "<=1.x",
+                ">=1.2.3",
+                ">=1.2.3 <2.0.0",
+                "=1.2.3",
+                "[1.0,2.0]",
+                "]1.0,2.0[",
+                "[1.0,)",
+                "(,2.0]",
+                "@1",
+                "caret:1.2.3",
+                "INVALID");
+    }
+
+    @Test
+    void shouldReturnTheResultOfTheFirstProcessorHandlingTheRange() {
+        // given
+        Processor overridingCaret = (range, includePreRelease) -> range.startsWith("^") ? "=1.0.0" : null;
+
+        // when
+        Processor composite = CompositeProcessor.of(overridingCaret, Processors.caret());
+
+        // then
+        assertThat(composite.process("^1.2.3", false)).isEqualTo("=1.0.0");
+    }
+
+    private static Object outcome(Supplier<@Nullable Object> supplier) {
+        try {
+            Object result = supplier.get();
+            return result == null ? "null" : result;
+        } catch (RuntimeException e) {
+            return e.getClass();
+        }
+    }
+
+    private static @Nullable String processInOrder(List<Processor> processors, String range, boolean incl) {
+        return processors.stream()
+                .map(processor -> processor.process(range, incl))
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(null);
+    }
+}
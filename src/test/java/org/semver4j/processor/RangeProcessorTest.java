@@ -0,0 +1,164 @@
+package org.semver4j.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.semver4j.range.Range.RangeOperator.GTE;
+import static org.semver4j.range.Range.RangeOperator.LT;
+
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.semver4j.internal.RangeComparators;
+import org.semver4j.range.Range;
+
+class RangeProcessorTest {
+    private static final List<Processor> PROCESSORS = List.of(
+            new AllVersionsProcessor(),
+            new CaretProcessor(),
+            new HyphenProcessor(),
+            new IvyProcessor(),
+            new TildeProcessor(),
+            new XRangeProcessor(),
+            CompositeProcessor.all());
+
+    @ParameterizedTest
+    @MethodSource
+    void shouldBuildTheRangesOfTheProcessedComparators(String range) {
+        for (Processor processor : PROCESSORS) {
+            for (boolean includePreRelease : new boolean[] {false, true}) {
+                // given
+                RangeProcessor rangeProcessor = (RangeProcessor) processor;
+
+                // when
+                Object expected = outcome(() -> {
+                    String processedRange = processor.process(range, includePreRelease);
+                    return processedRange == null ? null : RangeComparators.parse(processedRange);
+                });
+                Object actual = outcome(() -> rangeProcessor.processRanges(range, includePreRelease));
+
+                // then
+                assertThat(actual)
+                        .describedAs("%s with %s (includePreRelease=%s)", processor, range, includePreRelease)
+                        .isEqualTo(expected);
+            }
+        }
+    }
+
+    static Stream<String> shouldBuildTheRangesOfTheProcessedComparators() {
+        return Stream.of(
+                "",
+                "*",
+                "x",
+                "latest",
+                "latest.integration",
+                "^1.2.3",
+                "^0.2.3",
+                "^0.0.3",
+                "^1.2",
+                "^0.x",
+                "^1.2.3-beta.2",
+                "^0.0.1-alpha",
+                "^1.2.3+build",
+                "^v1.2.3",
+                "~1.2.3",
+                "~1.2",
+                "~1",
+                "~0.2.3",
+                "~>3.2.1",
+                "~1.2.3-beta.2",
+                "~1.2.3-rc.1+build",
+                "1.2.3 - 2.3.4",
+                "1.2 - 2.3.4",
+                "1 - 2",
+                "1.2.3-alpha - 2.1.4-beta",
+                "1.2.3+build - 2.1.4",
+                "v1.2.3 - 2.1.4",
+                "1.x",
+                "1.2.x",
+                "1.2.*",
+                ">1.2.x",
+                ">1.x",
+                "<=1.2.x",
+                "<1.x",
+                ">=1.x",
+                "=1.x",
+                "1.2.3",
+                ">1.2.3 <2.x",
+                "1.x 2.3.*",
+                "[1.0,2.0]",
+                "[1.0,2.0[",
+                "]1.0,2.0]",
+                "]1.0,2.0[",
+                "[1.0,)",
+                "]1.0,)",
+                "(,2.0]",
+                "(,2.0[",
+                "[1.2.3,4.5.6]",
+                "^99999999999",
+                "INVALID");
+    }
+
+    @Test
+    void shouldReturnRangeProcessorsAsIs() {
+        // given
+        CaretProcessor caretProcessor = new CaretProcessor();
+
+        // when
+        RangeProcessor rangeProcessor = RangeProcessor.of(caretProcessor);
+
+        // then
+        assertThat(rangeProcessor).isSameAs(caretProcessor);
+    }
+
+    @Test
+    void shouldAdaptSubclassesOfBuiltInProcessors() {
+        // given
+        Processor processor = new CaretProcessor() {
+            @Override
+            public @Nullable String process(String range, boolean includePreRelease) {
+                return range.startsWith("^") ? ">=9.0.0" : null;
+            }
+        };
+
+        // when
+        RangeProcessor rangeProcessor = RangeProcessor.of(processor);
+
+        // then
+        assertThat(rangeProcessor).isNotSameAs(processor);
+        assertThat(rangeProcessor.processRanges("^1.2.0", false)).containsExactly(new Range("9.0.0", GTE));
+    }
+
+    @Test
+    void shouldParseTheComparatorsOfStringProcessors() {
+        // given
+        Processor processor = (range, includePreRelease) -> range.equals("gradle") ? ">=7.0.0 <8.0.0" : null;
+
+        // when
+        RangeProcessor rangeProcessor = RangeProcessor.of(processor);
+
+        // then
+        assertThat(rangeProcessor.processRanges("gradle", false))
+                .containsExactly(new Range("7.0.0", GTE), new Range("8.0.0", LT));
+        assertThat(rangeProcessor.processRanges("maven", false)).isNull();
+    }
+
+    @Test
+    void shouldNotAdaptNullProcessor() {
+        assertThatThrownBy(() -> RangeProcessor.of(null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("processor cannot be null");
+    }
+
+    private static Object outcome(Supplier<@Nullable Object> supplier) {
+        try {
+            Object result = supplier.get();
+            return result == null ? "null" : result;
+        } catch (RuntimeException e) {
+            return e.getClass();
+        }
+    }
+}
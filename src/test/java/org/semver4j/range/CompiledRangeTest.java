@@ -0,0 +1,184 @@
+package org.semver4j.range;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.semver4j.Semver;
+import org.semver4j.range.Range.RangeOperator;
+
+class CompiledRangeTest {
+    private static final List<Semver> VERSIONS = versions();
+
+    @ParameterizedTest
+    @MethodSource
+    void shouldBeSatisfiedLikeTheRangeList(String range) {
+        for (boolean includePreRelease : new boolean[] {false, true}) {
+            // given
+            RangeList rangeList = RangeListFactory.create(range, includePreRelease);
+
+            // when
+            CompiledRange compiledRange = CompiledRange.of(rangeList.get(), includePreRelease);
+
+            // then
+            for (Semver version : VERSIONS) {
+                assertThat(compiledRange.isSatisfiedBy(version))
+                        .describedAs("%s satisfies %s (includePreRelease=%s)", version, range, includePreRelease)
+                        .isEqualTo(rangeList.isSatisfiedBy(version));
+            }
+        }
+    }
+
+    static Stream<String> shouldBeSatisfiedLikeTheRangeList() {
+        return Stream.of(
+                "*",
+                "^1.2.3",
+                "^0.1.0 || ^1.0.0 || ^2.0.0",
+                "~1.1.1-beta",
+                "1.x || >=2.1.0-alpha <2.2.0",
+                ">=1.0.0 <1.0.0",
+                "<=1.0.0 || >=1.0.0",
+                "<1.0.0 || >1.0.0",
+                "=1.1.1-rc.1 || =1.1.1-alpha",
+                ">1.1.1-alpha <1.1.1-beta || >=1.1.1-alpha.1 <=1.1.1-rc.1",
+                "1.0.0 - 2.0.0-beta || 3.x",
+                "[1.0,2.0) || [2.0,3.0]",
+                "<0.0.1-0",
+                ">=3.0.0");
+    }
+
+    @Test
+    void shouldBeSatisfiedLikeRandomRangeLists() {
+        Random random = new Random(42);
+        RangeOperator[] operators = RangeOperator.values();
+        for (int i = 0; i < 2_000; i++) {
+            // given
+            boolean includePreRelease = random.nextBoolean();
+            RangeList rangeList = new RangeList(includePreRelease);
+            int sets = 1 + random.nextInt(4);
+            for (int set = 0; set < sets; set++) {
+                List<Range> ranges = new ArrayList<>();
+                int size = 1 + random.nextInt(3);
+                for (int range = 0; range < size; range++) {
+                    Semver version = VERSIONS.get(random.nextInt(VERSIONS.size()));
+                    ranges.add(new Range(version, operators[random.nextInt(operators.length)]));
+                }
+                rangeList.add(ranges);
+            }
+
+            // when
+            CompiledRange compiledRange = CompiledRange.of(rangeList.get(), includePreRelease);
+
+            // then
+            for (Semver version : VERSIONS) {
+                assertThat(compiledRange.isSatisfiedBy(version))
+                        .describedAs("%s satisfies %s (includePreRelease=%s)", version, rangeList, includePreRelease)
+                        .isEqualTo(rangeList.isSatisfiedBy(version));
+            }
+        }
+    }
+
+    @Test
+    void shouldUseTheCompiledRangeOfCachedRangeLists() {
+        // given
+        RangeListCache cache = new RangeListCache(16);
+
+        // when
+        RangeList rangeList = cache.get("<1.0.0 || >=2.0.0-beta <3.0.0", false);
+
+        // then
+        assertThat(rangeList.isSatisfiedBy(new Semver("0.9.0"))).isTrue();
+        assertThat(rangeList.isSatisfiedBy(new Semver("1.5.0"))).isFalse();
+        assertThat(rangeList.isSatisfiedBy(new Semver("2.0.0-rc.1"))).isTrue();
+        assertThat(rangeList.isSatisfiedBy(new Semver("2.1.0-rc.1"))).isFalse();
+        assertThat(rangeList.isSatisfiedBy(new Semver("2.9.9"))).isTrue();
+    }
+
+    @Test
+    void shouldNotChangeWhenTheRangeListChanges() {
+        // given
+        RangeList rangeList = RangeListFactory.create(">=1.0.0 <2.0.0");
+        CompiledRange compiledRange = rangeList.compile();
+
+        // when
+        rangeList.add(List.of(new Range("3.0.0", RangeOperator.GTE)));
+        rangeList.get().get(0).add(new Range("1.5.0", RangeOperator.LT));
+
+        // then
+        assertThat(compiledRange).hasToString(">=1.0.0 and <2.0.0");
+        assertThat(compiledRange.isSatisfiedBy(new Semver("1.7.0"))).isTrue();
+        assertThat(compiledRange.isSatisfiedBy(new Semver("3.0.0"))).isFalse();
+    }
+
+    @Test
+    void shouldNotBeModifiable() {
+        // given
+        CompiledRange compiledRange = RangeListFactory.create("1.x || 3.x").compile();
+
+        // when
+        List<List<Range>> rangesList = compiledRange.get();
+
+        // then
+        assertThatThrownBy(() -> rangesList.add(List.of())).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> rangesList.get(0).clear()).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void shouldBeSharedBetweenThreads() throws Exception {
+        // given
+        CompiledRange compiledRange =
+                RangeListFactory.create("^1.2.0 || ~3.4.0-beta").compile();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // when
+        List<Future<Long>> results = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            results.add(executor.submit(
+                    () -> VERSIONS.stream().filter(compiledRange::isSatisfiedBy).count()));
+        }
+        executor.shutdown();
+
+        // then
+        long expected = VERSIONS.stream().filter(compiledRange::isSatisfiedBy).count();
+        for (Future<Long> result : results) {
+            assertThat(result.get()).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void shouldBeSatisfiedBySemver() {
+        // given
+        CompiledRange compiledRange = RangeListFactory.create("^1.2.3", true).compile();
+
+        // then
+        assertThat(compiledRange.isIncludePreRelease()).isTrue();
+        assertThat(new Semver("1.5.0-rc.1").satisfies(compiledRange)).isTrue();
+        assertThat(new Semver("2.0.0").satisfies(compiledRange)).isFalse();
+    }
+
+    private static List<Semver> versions() {
+        List<Semver> versions = new ArrayList<>();
+        String[] preReleases = {"", "-0", "-alpha", "-alpha.1", "-beta", "-rc.1"};
+        for (int major = 0; major < 4; major++) {
+            for (int minor = 0; minor < 3; minor++) {
+                for (int patch = 0; patch < 3; patch++) {
+                    for (String preRelease : preReleases) {
+                        versions.add(new Semver(major + "." + minor + "." + patch + preRelease));
+                    }
+                }
+            }
+        }
+        versions.add(new Semver("1.1.1+build"));
+        versions.add(new Semver("1.1.1-rc.1+build"));
+        return versions;
+    }
+}
@@ -0,0 +1,102 @@
+package org.semver4j.range;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.semver4j.Semver;
+
+class KeyRangeTest {
+    @Test
+    void shouldTranslateARangeOfReleasesOnly() {
+        // when
+        List<KeyRange> ranges = RangeListFactory.create("^1.2.0").toKeyRanges();
+
+        // then
+        assertThat(ranges).hasSize(1);
+        KeyRange range = ranges.get(0);
+        assertThat(range.isReleasesOnly()).isTrue();
+        assertThat(range.getLowKey()).isEqualTo(new Semver("1.2.0").toSortKey());
+        assertThat(range.contains(new Semver("1.2.0").toSortKey())).isTrue();
+        assertThat(range.contains(new Semver("1.9.9+build.1").toSortKey())).isTrue();
+        assertThat(range.contains(new Semver("1.5.0-beta").toSortKey())).isFalse();
+        assertThat(range.contains(new Semver("2.0.0").toSortKey())).isFalse();
+        assertThat(range.contains(new Semver("1.1.9").toSortKey())).isFalse();
+    }
+
+    @Test
+    void shouldTranslateThePreReleasesOfANamedVersionIntoAnExactRange() {
+        // when
+        List<KeyRange> ranges = RangeListFactory.create(">=1.2.3-beta <2.0.0").toKeyRanges();
+
+        // then
+        assertThat(ranges).hasSize(2);
+        assertThat(ranges.get(0).isReleasesOnly()).isFalse();
+        assertThat(ranges.get(0).getLowKey()).isEqualTo(new Semver("1.2.3-beta").toSortKey());
+        assertThat(ranges.get(0).contains(new Semver("1.2.3-beta.2").toSortKey()))
+                .isTrue();
+        assertThat(ranges.get(0).contains(new Semver("1.2.3-alpha").toSortKey()))
+                .isFalse();
+        assertThat(ranges.get(1).isReleasesOnly()).isTrue();
+        assertThat(ranges.get(1).getLowKey()).isEqualTo(ranges.get(0).getHighKey());
+        assertThat(ranges.get(1).contains(new Semver("1.2.3").toSortKey())).isTrue();
+        assertThat(ranges.get(1).contains(new Semver("1.4.0-rc.1").toSortKey())).isFalse();
+    }
+
+    @Test
+    void shouldTranslateRangesIncludingPreReleasesIntoExactRanges() {
+        // when
+        List<KeyRange> ranges =
+                RangeListFactory.create("^1.2.0 || >=3.0.0", true).toKeyRanges();
+
+        // then
+        assertThat(ranges).hasSize(2);
+        assertThat(ranges).noneMatch(KeyRange::isReleasesOnly);
+        assertThat(ranges.get(0).contains(new Semver("1.5.0-beta").toSortKey())).isTrue();
+        assertThat(ranges.get(1).getHighKey()).isNull();
+        assertThat(ranges.get(1).contains(new Semver("42.0.0-rc.1").toSortKey()))
+                .isTrue();
+    }
+
+    @Test
+    void shouldTranslateUnsatisfiableRangeListsIntoNoRanges() {
+        assertThat(RangeListFactory.create(">2.0.0 <1.0.0").toKeyRanges()).isEmpty();
+    }
+
+    @Test
+    void shouldFindTheSameVersionsAsRangeLists() {
+        // given
+        Random random = new Random(11);
+        String[] preReleases = {
+            "", "", "", "-0", "-alpha", "-alpha.1", "-alpha.beta", "-beta.2", "-beta.11", "-rc.1", "-rc.1.undef"
+        };
+        List<Semver> versions = RandomRanges.versionStrings(random, 300, preReleases).stream()
+                .map(Semver::new)
+                .collect(Collectors.toList());
+        List<byte[]> keys = versions.stream().map(Semver::toSortKey).collect(Collectors.toList());
+
+        for (int i = 0; i < 1_000; i++) {
+            // when
+            RangeList rangeList = RandomRanges.rangeList(random, versions);
+            List<KeyRange> ranges = rangeList.toKeyRanges();
+
+            // then
+            for (int j = 1; j < ranges.size(); j++) {
+                byte[] previousHigh = ranges.get(j - 1).getHighKey();
+                assertThat(previousHigh).describedAs("%s", rangeList).isNotNull();
+                assertThat(Arrays.compareUnsigned(previousHigh, ranges.get(j).getLowKey()))
+                        .describedAs("%s", rangeList)
+                        .isLessThanOrEqualTo(0);
+            }
+            for (int j = 0; j < versions.size(); j++) {
+                byte[] key = keys.get(j);
+                assertThat(ranges.stream().anyMatch(range -> range.contains(key)))
+                        .describedAs("%s satisfies %s", versions.get(j), rangeList)
+                        .isEqualTo(rangeList.isSatisfiedBy(versions.get(j)));
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package org.semver4j.range;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.semver4j.Semver;
+import org.semver4j.range.Range.RangeOperator;
+
+/** Generates random versions and range lists, to check the range structures against {@link RangeList} itself. */
+final class RandomRanges {
+    private static final String[] CATALOG_PRE_RELEASES = {
+        "", "-undef", "--", "--a", "-0", "-alpha", "-alpha.1", "-beta", "-rc.1"
+    };
+
+    private RandomRanges() {}
+
+    /**
+     * Returns a catalog of versions with a random {@code patch} for each {@code major}, {@code minor} and
+     * {@code pre-release} suffix, so that the versions share numbers and {@code pre-release}s. The suffixes include
+     * {@code -undef}, {@code --} and {@code --a}, which are below {@code -0}.
+     */
+    static List<Semver> catalog(Random random, int maxMajor) {
+        List<Semver> catalog = new ArrayList<>();
+        for (String preRelease : CATALOG_PRE_RELEASES) {
+            for (int major = 0; major <= maxMajor; major++) {
+                for (int minor = 0; minor <= 2; minor++) {
+                    catalog.add(new Semver(major + "." + minor + "." + random.nextInt(3) + preRelease));
+                }
+            }
+        }
+        return catalog;
+    }
+
+    /**
+     * Returns random version strings with numbers below {@code 3}, one of the given {@code pre-release} suffixes, and a
+     * {@code build} one time in four.
+     */
+    static List<String> versionStrings(Random random, int count, String... preReleases) {
+        List<String> strings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            strings.add(random.nextInt(3) + "." + random.nextInt(3) + "." + random.nextInt(3)
+                    + preReleases[random.nextInt(preReleases.length)]
+                    + (random.nextInt(4) == 0 ? "+build." + random.nextInt(3) : ""));
+        }
+        return strings;
+    }
+
+    /**
+     * Returns a random range list of one to three sets of one or two ranges, each with a random operator and one of the
+     * bounds, which includes {@code pre-release}s or not at random.
+     */
+    static RangeList rangeList(Random random, List<Semver> bounds) {
+        RangeOperator[] operators = RangeOperator.values();
+        RangeList rangeList = new RangeList(random.nextBoolean());
+        int sets = 1 + random.nextInt(3);
+        for (int set = 0; set < sets; set++) {
+            List<Range> ranges = new ArrayList<>();
+            int size = 1 + random.nextInt(2);
+            for (int range = 0; range < size; range++) {
+                Semver bound = bounds.get(random.nextInt(bounds.size()));
+                ranges.add(new Range(bound, operators[random.nextInt(operators.length)]));
+            }
+            rangeList.add(ranges);
+        }
+        return rangeList;
+    }
+}
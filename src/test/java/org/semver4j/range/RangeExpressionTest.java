@@ -83,4 +83,19 @@ class RangeExpressionTest {
         // then
         assertThat(rangeExpression.get().toString()).hasToString("<=1.0.0");
     }
+
+    @Test
+    void shouldNotChangeTheExpressionWhenGettingTheRangeList() {
+        // given
+        RangeExpression rangeExpression = greaterOrEqual("1.0.0");
+        RangeList first = rangeExpression.get();
+
+        // when
+        rangeExpression.and(less("2.0.0"));
+
+        // then
+        assertThat(first).hasToString(">=1.0.0");
+        assertThat(rangeExpression.get()).hasToString(">=1.0.0 and <2.0.0");
+        assertThat(rangeExpression.get()).isNotSameAs(rangeExpression.get());
+    }
 }
@@ -0,0 +1,98 @@
+package org.semver4j.range;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.semver4j.Semver;
+
+class RangeIndexTest {
+    @Test
+    void shouldFindThePayloadsOfTheSatisfiedRangeLists() {
+        // given
+        RangeIndex<String> index = RangeIndex.<String>builder()
+                .add(RangeListFactory.create("^1.2.0"), "caret")
+                .add(RangeListFactory.create(">=1.5.0 <3.0.0"), "interval")
+                .add(RangeListFactory.create("<1.0.0 || >=2.5.0"), "outside")
+                .add(RangeListFactory.create("*"), "any")
+                .build();
+
+        // when/then
+        assertThat(index.size()).isEqualTo(4);
+        assertThat(index.lookup(new Semver("1.6.0"))).containsExactlyInAnyOrder("caret", "interval", "any");
+        assertThat(index.lookup(new Semver("2.7.1"))).containsExactlyInAnyOrder("interval", "outside", "any");
+        assertThat(index.lookup(new Semver("0.1.0"))).containsExactlyInAnyOrder("outside", "any");
+        assertThat(index.lookup(new Semver("3.0.0"))).containsExactlyInAnyOrder("outside", "any");
+    }
+
+    @Test
+    void shouldFollowThePreReleaseRuleOfEachRangeList() {
+        // given
+        RangeIndex<String> index = RangeIndex.<String>builder()
+                .add(RangeListFactory.create(">=1.2.3-beta <2.0.0"), "beta")
+                .add(RangeListFactory.create("^1.0.0", true), "including")
+                .add(RangeListFactory.create("^1.0.0"), "excluding")
+                .build();
+
+        // when/then
+        assertThat(index.lookup(new Semver("1.2.3-rc.1"))).containsExactlyInAnyOrder("beta", "including");
+        assertThat(index.lookup(new Semver("1.5.0-alpha"))).containsExactly("including");
+        assertThat(index.lookup(new Semver("1.5.0"))).containsExactlyInAnyOrder("beta", "including", "excluding");
+        assertThat(index.lookup(new Semver("2.0.0-alpha"))).isEmpty();
+    }
+
+    @Test
+    void shouldFindTheRangeListsOfThePreReleasesBelowTheZeroPreRelease() {
+        // given
+        RangeIndex<String> index = RangeIndex.<String>builder()
+                .add(RangeListFactory.create(">=0.0.0-0 <1.0.0-0", true), "zero")
+                .add(RangeListFactory.create("*", true), "star")
+                .build();
+
+        // when/then
+        // * including pre-releases is >=0.0.0-0
+        assertThat(index.lookup(new Semver("0.0.0--"))).isEmpty();
+        assertThat(index.lookup(new Semver("0.0.0-0"))).containsExactlyInAnyOrder("zero", "star");
+        assertThat(index.lookup(new Semver("1.0.0--"))).containsExactlyInAnyOrder("zero", "star");
+        assertThat(index.lookup(new Semver("1.0.0-undef"))).containsExactlyInAnyOrder("zero", "star");
+        assertThat(index.lookup(new Semver("1.0.0-0"))).containsExactly("star");
+    }
+
+    @Test
+    void shouldNotAddNullPayloads() {
+        assertThatThrownBy(() -> RangeIndex.builder().add(RangeListFactory.create("^1.0.0"), null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("payload must not be null");
+    }
+
+    @Test
+    void shouldFindTheSameRangeListsAsChecksOfEachOfThem() {
+        // given
+        Random random = new Random(3);
+        List<Semver> versions = RandomRanges.catalog(random, 3);
+        List<RangeList> rangeLists = new ArrayList<>();
+        RangeIndex.Builder<Integer> builder = RangeIndex.builder();
+        for (int i = 0; i < 2_000; i++) {
+            RangeList rangeList = RandomRanges.rangeList(random, versions);
+            rangeLists.add(rangeList);
+            builder.add(rangeList, i);
+        }
+
+        // when
+        RangeIndex<Integer> index = builder.build();
+
+        // then
+        for (Semver version : versions) {
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < rangeLists.size(); i++) {
+                if (rangeLists.get(i).isSatisfiedBy(version)) {
+                    expected.add(i);
+                }
+            }
+            assertThat(index.lookup(version)).describedAs("%s", version).containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package org.semver4j.range;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.semver4j.Semver;
+import org.semver4j.processor.Processor;
+import org.semver4j.processor.Processors;
+
+class RangeListCacheTest {
+    @Test
+    void shouldReturnCachedRangeList() {
+        // given
+        RangeListCache cache = new RangeListCache(10);
+        RangeList rangeList = cache.get(">=1.0.0 <2.0.0", false);
+
+        // when
+        RangeList cached = cache.get(">=1.0.0 <2.0.0", false);
+
+        // then
+        assertThat(cached).isSameAs(rangeList);
+        assertThat(cached).hasToString(RangeListFactory.create(">=1.0.0 <2.0.0").toString());
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldKeyOnPreReleaseInclusionAndProcessors() {
+        // given
+        RangeListCache cache = new RangeListCache(10);
+        Processor caret = Processors.caret();
+
+        // when
+        RangeList defaultProcessors = cache.get("^1.2.3", false);
+        RangeList includingPreRelease = cache.get("^1.2.3", true);
+        RangeList caretOnly = cache.get("^1.2.3", false, caret);
+        RangeList noProcessors = cache.get("^1.2.3", false, new Processor[0]);
+
+        // then
+        assertThat(cache.size()).isEqualTo(4);
+        assertThat(includingPreRelease.isSatisfiedBy(new Semver("1.3.0-beta"))).isTrue();
+        assertThat(defaultProcessors.isSatisfiedBy(new Semver("1.3.0-beta"))).isFalse();
+        assertThat(caretOnly).hasToString(defaultProcessors.toString());
+        assertThat(cache.get("^1.2.3", false, caret)).isSameAs(caretOnly);
+        assertThat(noProcessors.get()).isEmpty();
+    }
+
+    @Test
+    void shouldNotAllowModifyingCachedRangeList() {
+        // given
+        RangeListCache cache = new RangeListCache(10);
+        RangeList rangeList = cache.get(">=1.0.0 <2.0.0 || 3.x", false);
+
+        // when / then
+        assertThatThrownBy(() -> rangeList.add(List.of())).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> rangeList.get().clear()).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> rangeList.get().get(0).clear()).isInstanceOf(UnsupportedOperationException.class);
+        assertThat(RangeListFactory.create(">=1.0.0").add(List.of()).get()).hasSize(1);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyReadEntries() {
+        // given
+        RangeListCache cache = new RangeListCache(2);
+        RangeList first = cache.get("1.0.0", false);
+        cache.get("2.0.0", false);
+        cache.get("1.0.0", false);
+
+        // when
+        cache.get("3.0.0", false);
+
+        // then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+        assertThat(cache.get("1.0.0", false)).isSameAs(first);
+        assertThat(cache.getMissCount()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldClearCacheAndStatistics() {
+        // given
+        RangeListCache cache = new RangeListCache(1);
+        cache.get("1.0.0", false);
+        cache.get("2.0.0", false);
+
+        // when
+        cache.clear();
+
+        // then
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getHitCount()).isZero();
+        assertThat(cache.getMissCount()).isZero();
+        assertThat(cache.getEvictionCount()).isZero();
+    }
+
+    @Test
+    void shouldRejectNonPositiveMaximumSize() {
+        assertThatThrownBy(() -> new RangeListCache(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -5,10 +5,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.semver4j.Semver.ZERO;
 import static org.semver4j.range.Range.RangeOperator.GTE;
 
+import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.semver4j.Semver;
+import org.semver4j.processor.CaretProcessor;
 import org.semver4j.processor.IvyProcessor;
 import org.semver4j.processor.XRangeProcessor;
 
@@ -74,4 +76,23 @@ class RangeListFactoryTest {
         assertThat(ivyRangeList.toString()).hasToString(">=1.0.0 and <=2.0.0");
         assertThat(nonIvyRangeList.get()).isEmpty();
     }
+
+    @Test
+    void shouldUseTheOverriddenProcessOfSubclassesOfBuiltInProcessors() {
+        // given
+        CaretProcessor overridingCaret = new CaretProcessor() {
+            @Override
+            public @Nullable String process(String range, boolean includePreRelease) {
+                return range.startsWith("^") ? ">=9.0.0" : super.process(range, includePreRelease);
+            }
+        };
+
+        // when
+        RangeList rangeList = RangeListFactory.create("^1.2.0", overridingCaret);
+
+        // then
+        assertThat(rangeList).hasToString(">=9.0.0");
+        assertThat(rangeList.isSatisfiedBy(new Semver("9.1.0"))).isTrue();
+        assertThat(rangeList.isSatisfiedBy(new Semver("1.5.0"))).isFalse();
+    }
 }
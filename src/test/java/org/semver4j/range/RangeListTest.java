@@ -1,10 +1,40 @@
 package org.semver4j.range;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.semver4j.range.Range.RangeOperator.GTE;
+import static org.semver4j.range.Range.RangeOperator.LT;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.semver4j.Semver;
 
 class RangeListTest {
+    private static final List<Semver> BOUNDS = versions(1, "", "-0", "-alpha", "-alpha.1", "-beta", "-rc.1");
+    private static final List<Semver> WITNESSES = versions(
+            2,
+            "",
+            "-undef",
+            "--",
+            "--a",
+            "-0",
+            "-0.0",
+            "-alpha",
+            "-alpha.0",
+            "-alpha.1",
+            "-alpha.1.0",
+            "-beta",
+            "-beta.0",
+            "-rc.1",
+            "-rc.1.0");
+
     @Test
     void shouldHaveHumanReadableToString() {
         // given
@@ -28,4 +58,310 @@ class RangeListTest {
         // then
         assertThat(string).isEqualTo(">=3.0.0 and <=3.0.1");
     }
+
+    @Test
+    void shouldIntersectRangeLists() {
+        // given
+        RangeList rangeList = RangeListFactory.create("^1.2.0 || ^3.0.0");
+
+        // when
+        RangeList intersection = rangeList.intersect(RangeListFactory.create(">=1.5.0 <3.1.0"));
+
+        // then
+        assertThat(intersection).hasToString("(>=1.5.0 and <2.0.0) or (>=3.0.0 and <3.1.0)");
+    }
+
+    @Test
+    void shouldUniteRangeLists() {
+        // given
+        RangeList rangeList = RangeListFactory.create("^1.2.0");
+
+        // when
+        RangeList union = rangeList.union(RangeListFactory.create("1.0.0 - 1.3.0 || 2.x"));
+
+        // then
+        assertThat(union).hasToString(">=1.0.0 and <3.0.0");
+    }
+
+    @Test
+    void shouldUniteRangeListsWithPreReleasesBelowTheZeroPreRelease() {
+        // given
+        RangeList rangeList = RangeListFactory.create(">=0.3.0-0", true);
+        RangeList other = RangeListFactory.create(">=2147483647.0.0-0 || <2.0.1-beta", true);
+
+        // when
+        RangeList union = rangeList.union(other);
+
+        // then
+        assertThat(union.isSatisfiedBy(new Semver("0.0.0--"))).isTrue();
+        assertThat(union.isSatisfiedBy(new Semver("0.0.0-undef"))).isTrue();
+        assertThat(union.complement().isSatisfiedBy(new Semver("0.0.0--"))).isFalse();
+    }
+
+    @Test
+    void shouldComplementRangeLists() {
+        // given
+        RangeList rangeList = RangeListFactory.create(">=1.0.0-beta <2.0.0");
+
+        // when
+        RangeList complement = rangeList.complement();
+
+        // then
+        assertThat(complement).hasToString("<1.0.0-beta or >=2.0.0");
+        assertThat(complement.isSatisfiedBy(new Semver("1.0.0-alpha"))).isTrue();
+        assertThat(complement.isSatisfiedBy(new Semver("1.0.0-beta"))).isFalse();
+        assertThat(complement.isSatisfiedBy(new Semver("2.0.1-alpha"))).isFalse();
+    }
+
+    @Test
+    void shouldComplementRangeListsIncludingPreReleases() {
+        // given
+        RangeList rangeList = RangeListFactory.create("^1.2.3", true);
+
+        // when
+        RangeList complement = rangeList.complement();
+
+        // then
+        assertThat(complement).hasToString("<1.2.3 or >=2.0.0-0");
+        assertThat(complement.isSatisfiedBy(new Semver("2.0.1-alpha"))).isTrue();
+    }
+
+    @Test
+    void shouldCheckSubsets() {
+        assertThat(RangeListFactory.create("~1.2.3").isSubsetOf(RangeListFactory.create("^1.2.0")))
+                .isTrue();
+        assertThat(RangeListFactory.create("^1.2.0").isSubsetOf(RangeListFactory.create("~1.2.3")))
+                .isFalse();
+        assertThat(RangeListFactory.create("1.2.3-beta").isSubsetOf(RangeListFactory.create("^1.2.3")))
+                .isFalse();
+        assertThat(RangeListFactory.create("1.2.3-beta").isSubsetOf(RangeListFactory.create("^1.2.3", true)))
+                .isFalse();
+        assertThat(RangeListFactory.create("1.2.3-beta").isSubsetOf(RangeListFactory.create("^1.2.3-alpha")))
+                .isTrue();
+    }
+
+    @Test
+    void shouldCheckIntersections() {
+        assertThat(RangeListFactory.create("^1.2.0").intersects(RangeListFactory.create(">=1.9.9")))
+                .isTrue();
+        assertThat(RangeListFactory.create("^1.2.0").intersects(RangeListFactory.create(">=2.0.0-rc.1")))
+                .isFalse();
+        assertThat(RangeListFactory.create("^1.2.0", true).intersects(RangeListFactory.create(">=2.0.0-rc.1")))
+                .isFalse();
+        assertThat(RangeListFactory.create("<2.0.0", true).intersects(RangeListFactory.create(">=2.0.0-rc.1")))
+                .isTrue();
+    }
+
+    @Test
+    void shouldNotUniteRangeListsWhichCannotBeExpressed() {
+        // given
+        RangeList rangeList = RangeListFactory.create("1.x", true);
+
+        // when
+        Throwable throwable = catchThrowable(() -> rangeList.union(RangeListFactory.create("3.x")));
+
+        // then
+        assertThat(throwable).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {"^1.2.0", ">=1.2.0 <2.0.0-undef", "1.2 - 1.x", ">=1.2.0 <1.5.0 || >=1.4.0 <2.0.0 || =1.2.3"})
+    void shouldSimplifyEquivalentRangeListsToEqualRangeLists(String range) {
+        // given
+        RangeList rangeList = RangeListFactory.create(range);
+        RangeList expected = new RangeList(false).add(List.of(new Range("1.2.0", GTE), new Range("2.0.0", LT)));
+
+        // when
+        RangeList simplified = rangeList.simplify();
+
+        // then
+        assertThat(simplified).isEqualTo(expected).hasSameHashCodeAs(expected);
+        assertThat(simplified).hasToString(">=1.2.0 and <2.0.0");
+    }
+
+    @Test
+    void shouldKeepPreReleasesWhenSimplifying() {
+        assertThat(RangeListFactory.create(">=1.0.0-beta <1.0.0 || >=1.0.0 <2.0.0")
+                        .simplify())
+                .hasToString(">=1.0.0-beta and <2.0.0");
+        assertThat(RangeListFactory.create(">1.2.3 <=1.2.3+build || <1.2.4-undef", true)
+                        .simplify())
+                .hasToString("<=1.2.3");
+        // 1.2.4-- is below 1.2.4-0
+        assertThat(RangeListFactory.create(">1.2.3 <=1.2.3+build || <1.2.4-0", true)
+                        .simplify())
+                .hasToString("<1.2.4-0");
+        assertThat(RangeListFactory.create(">=1.2.3 <=1.2.3", true).simplify()).hasToString("=1.2.3");
+    }
+
+    @Test
+    void shouldNotEqualRangeListsWithOtherPreReleaseInclusion() {
+        // given
+        RangeList rangeList = RangeListFactory.create("^1.2.0");
+
+        // when
+        RangeList includingPreReleases = RangeListFactory.create("^1.2.0", true);
+
+        // then
+        assertThat(rangeList).isEqualTo(RangeListFactory.create("^1.2.0")).isNotEqualTo(includingPreReleases);
+    }
+
+    @Test
+    void shouldCheckIfSatisfiable() {
+        assertThat(RangeListFactory.create("^1.2.3").isSatisfiable()).isTrue();
+        assertThat(RangeListFactory.create(">2.0.0 <1.0.0 || >1.2.3 <1.2.4").isSatisfiable())
+                .isFalse();
+        assertThat(RangeListFactory.create(">1.2.3 <1.2.4", true).isSatisfiable())
+                .isTrue();
+        assertThat(new RangeList(false).isSatisfiable()).isFalse();
+    }
+
+    @Test
+    void shouldCheckIfSatisfiedByAnyVersion() {
+        assertThat(RangeListFactory.create("*").isSatisfiedByAny()).isTrue();
+        assertThat(RangeListFactory.create(">=0.0.0 || >=0.0.0").isSatisfiedByAny())
+                .isTrue();
+        assertThat(RangeListFactory.create("^1.2.3").isSatisfiedByAny()).isFalse();
+        assertThat(new RangeList(false).isSatisfiedByAny()).isTrue();
+    }
+
+    @Test
+    void shouldFindTheHighestAndLowestSatisfyingVersions() {
+        // given
+        RangeList rangeList = RangeListFactory.create("^1.2.3 || 3.x");
+        List<Semver> versions = List.of(
+                new Semver("1.2.4"),
+                new Semver("3.1.0"),
+                new Semver("1.3.0-beta"),
+                new Semver("2.0.0"),
+                new Semver("1.0.0"),
+                new Semver("1.9.0"),
+                new Semver("4.0.0"));
+        List<Semver> sortedVersions = versions.stream().sorted().toList();
+
+        // when/then
+        assertThat(rangeList.maxSatisfying(versions)).isEqualTo(new Semver("3.1.0"));
+        assertThat(rangeList.minSatisfying(versions)).isEqualTo(new Semver("1.2.4"));
+        assertThat(rangeList.maxSatisfying(sortedVersions, true)).isEqualTo(new Semver("3.1.0"));
+        assertThat(rangeList.minSatisfying(sortedVersions, true)).isEqualTo(new Semver("1.2.4"));
+        assertThat(rangeList.maxSatisfying(new TreeSet<>(versions))).isEqualTo(new Semver("3.1.0"));
+        assertThat(rangeList.minSatisfying(new TreeSet<>(versions))).isEqualTo(new Semver("1.2.4"));
+        assertThat(RangeListFactory.create("^1.2.3").maxSatisfying(sortedVersions, true))
+                .isEqualTo(new Semver("1.9.0"));
+        assertThat(RangeListFactory.create("^5.0.0").maxSatisfying(new TreeSet<>(versions)))
+                .isNull();
+    }
+
+    @Test
+    void shouldFollowTheSatisfiedVersions() {
+        Random random = new Random(7);
+        List<Semver> shuffledWitnesses = new ArrayList<>(WITNESSES);
+        Collections.shuffle(shuffledWitnesses, random);
+        List<Semver> sortedWitnesses = WITNESSES.stream().sorted().toList();
+        TreeSet<Semver> witnessSet = new TreeSet<>(WITNESSES);
+        for (int i = 0; i < 1_000; i++) {
+            // given
+            RangeList rangeList = RandomRanges.rangeList(random, BOUNDS);
+            RangeList other = RandomRanges.rangeList(random, BOUNDS);
+
+            // when
+            RangeList intersection = rangeList.intersect(other);
+            RangeList complement = rangeList.complement();
+            RangeList simplified = rangeList.simplify();
+            RangeList union = null;
+            if (rangeList.isIncludePreRelease() == other.isIncludePreRelease()) {
+                union = rangeList.union(other);
+            }
+
+            // then
+            String description = rangeList + " (" + rangeList.isIncludePreRelease() + ") with " + other + " ("
+                    + other.isIncludePreRelease() + ")";
+            boolean subset = true;
+            boolean intersects = false;
+            for (Semver version : WITNESSES) {
+                boolean satisfies = rangeList.isSatisfiedBy(version);
+                boolean satisfiesOther = other.isSatisfiedBy(version);
+                subset &= !satisfies || satisfiesOther;
+                intersects |= satisfies && satisfiesOther;
+
+                assertThat(intersection.isSatisfiedBy(version))
+                        .describedAs("%s in intersection of %s", version, description)
+                        .isEqualTo(satisfies && satisfiesOther);
+                if (union != null) {
+                    assertThat(union.isSatisfiedBy(version))
+                            .describedAs("%s in union of %s", version, description)
+                            .isEqualTo(satisfies || satisfiesOther);
+                }
+                assertThat(simplified.isSatisfiedBy(version))
+                        .describedAs("%s in simplified %s", version, description)
+                        .isEqualTo(satisfies);
+                assertThat(complement.isSatisfiedBy(version))
+                        .describedAs("%s in complement of %s", version, description)
+                        .isEqualTo(!satisfies && isMatchable(rangeList, version));
+            }
+            Semver max = WITNESSES.stream()
+                    .filter(rangeList::isSatisfiedBy)
+                    .max(Comparator.naturalOrder())
+                    .orElse(null);
+            Semver min = WITNESSES.stream()
+                    .filter(rangeList::isSatisfiedBy)
+                    .min(Comparator.naturalOrder())
+                    .orElse(null);
+            assertThat(rangeList.maxSatisfying(shuffledWitnesses))
+                    .describedAs(description)
+                    .isEqualTo(max);
+            assertThat(rangeList.maxSatisfying(sortedWitnesses, true))
+                    .describedAs(description)
+                    .isEqualTo(max);
+            assertThat(rangeList.maxSatisfying(witnessSet))
+                    .describedAs(description)
+                    .isEqualTo(max);
+            assertThat(rangeList.minSatisfying(shuffledWitnesses))
+                    .describedAs(description)
+                    .isEqualTo(min);
+            assertThat(rangeList.minSatisfying(sortedWitnesses, true))
+                    .describedAs(description)
+                    .isEqualTo(min);
+            assertThat(rangeList.minSatisfying(witnessSet))
+                    .describedAs(description)
+                    .isEqualTo(min);
+            assertThat(simplified.simplify()).describedAs(description).isEqualTo(simplified);
+            assertThat(rangeList.isSubsetOf(other)).describedAs(description).isEqualTo(subset);
+            assertThat(rangeList.intersects(other)).describedAs(description).isEqualTo(intersects);
+        }
+    }
+
+    /** Whether a version can match a range list at all, given its pre-release rule. */
+    private static boolean isMatchable(RangeList rangeList, Semver version) {
+        if (rangeList.isIncludePreRelease() || version.getPreRelease().isEmpty()) {
+            return true;
+        }
+        return rangeList.get().stream()
+                .filter(ranges -> Interval.of(ranges) != null)
+                .flatMap(List::stream)
+                .map(Range::getRangeVersion)
+                .anyMatch(bound -> !bound.getPreRelease().isEmpty()
+                        && bound.getMajor() == version.getMajor()
+                        && bound.getMinor() == version.getMinor()
+                        && bound.getPatch() == version.getPatch());
+    }
+
+    /**
+     * Returns versions with the given {@code pre-release} suffixes; with more numbers and suffixes than the bounds, so
+     * that a version lies between any two of them.
+     */
+    private static List<Semver> versions(int maximum, String... preReleases) {
+        List<Semver> versions = new ArrayList<>();
+        for (int major = 0; major <= maximum + 1; major++) {
+            for (int minor = 0; minor <= maximum; minor++) {
+                for (int patch = 0; patch <= maximum; patch++) {
+                    for (String preRelease : preReleases) {
+                        versions.add(new Semver(major + "." + minor + "." + patch + preRelease));
+                    }
+                }
+            }
+        }
+        return versions;
+    }
 }
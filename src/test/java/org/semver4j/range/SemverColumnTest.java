@@ -0,0 +1,126 @@
+package org.semver4j.range;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.semver4j.Semver;
+import org.semver4j.SemverException;
+
+class SemverColumnTest {
+    private static final SemverColumn COLUMN = SemverColumn.parse(List.of(
+            "2.0.0",
+            " v1.2.3 ",
+            "1.3.0-beta",
+            "1.2.3+build.7",
+            "1.0.0",
+            "1.3.0",
+            "2.1.0-rc.1",
+            "1.9.9",
+            "3.0.0-alpha"));
+
+    @Test
+    void shouldParseTheRows() {
+        assertThat(COLUMN.size()).isEqualTo(9);
+        assertThat(COLUMN.getMajor(6)).isEqualTo(2);
+        assertThat(COLUMN.getMinor(6)).isEqualTo(1);
+        assertThat(COLUMN.getPatch(1)).isEqualTo(3);
+        assertThat(COLUMN.get(1).getVersion()).isEqualTo("1.2.3");
+        assertThat(COLUMN.get(3).getVersion()).isEqualTo("1.2.3+build.7");
+        assertThat(COLUMN.get(6).getVersion()).isEqualTo("2.1.0-rc.1");
+    }
+
+    @Test
+    void shouldFilterTheRowsSatisfyingARangeList() {
+        assertThat(COLUMN.filter(RangeListFactory.create("^1.2.0 || >=2.1.0-rc.0 <3.0.0")).stream())
+                .containsExactly(1, 3, 5, 6, 7);
+        assertThat(COLUMN.filter(RangeListFactory.create("^1.2.0", true)).stream())
+                .containsExactly(1, 2, 3, 5, 7);
+        assertThat(COLUMN.filter(RangeListFactory.create("^4.0.0")).isEmpty()).isTrue();
+    }
+
+    @Test
+    void shouldFindTheRowOfTheHighestSatisfyingVersion() {
+        assertThat(COLUMN.argMax(RangeListFactory.create("^1.2.0"))).isEqualTo(7);
+        assertThat(COLUMN.argMax(RangeListFactory.create("<=1.2.3"))).isEqualTo(1);
+        assertThat(COLUMN.argMax(RangeListFactory.create("*", true))).isEqualTo(8);
+        assertThat(COLUMN.argMax(RangeListFactory.create("^4.0.0"))).isEqualTo(-1);
+    }
+
+    @Test
+    void shouldFindThePreReleasesBelowTheZeroPreRelease() {
+        // given
+        SemverColumn column = SemverColumn.parse(List.of("0.0.0--", "0.3.2", "1.0.0-undef", "1.0.0--", "1.0.0-0"));
+        RangeList rangeList = RangeListFactory.create(">=0.0.0-0 <1.0.0-0", true);
+
+        // when/then
+        assertThat(column.filter(rangeList).stream()).containsExactly(1, 2, 3);
+        assertThat(column.argMax(rangeList)).isEqualTo(3);
+    }
+
+    @Test
+    void shouldSortTheRowsByPrecedence() {
+        assertThat(COLUMN.sortIndices()).containsExactly(4, 1, 3, 2, 5, 7, 0, 6, 8);
+    }
+
+    @Test
+    void shouldNotParseInvalidVersions() {
+        assertThatThrownBy(() -> SemverColumn.parse(List.of("1.0.0", " 1.2 ")))
+                .isInstanceOf(SemverException.class)
+                .hasMessage("Version [1.2] is not valid semver.");
+    }
+
+    @Test
+    void shouldFindTheSameRowsAsRangeLists() {
+        // given
+        Random random = new Random(5);
+        String[] preReleases = {
+            "", "", "-undef", "--", "--a", "-0", "-alpha", "-alpha.1", "-alpha.beta", "-beta.2", "-beta.11", "-rc.1"
+        };
+        List<String> strings = RandomRanges.versionStrings(random, 300, preReleases);
+        List<Semver> versions = strings.stream().map(Semver::new).collect(Collectors.toList());
+        List<Semver> bounds = new ArrayList<>(versions);
+        bounds.add(new Semver("1.1.1-alpha.0"));
+        bounds.add(new Semver("1.1.1-beta"));
+        bounds.add(new Semver("1.1.1-zeta"));
+
+        // when
+        SemverColumn column = SemverColumn.parse(strings);
+
+        // then
+        assertThat(IntStream.range(0, column.size()).mapToObj(column::get)).containsExactlyElementsOf(versions);
+        assertThat(column.sortIndices())
+                .containsExactly(IntStream.range(0, versions.size())
+                        .boxed()
+                        .sorted(Comparator.comparing(versions::get))
+                        .mapToInt(Integer::intValue)
+                        .toArray());
+        for (int i = 0; i < 1_000; i++) {
+            RangeList rangeList = RandomRanges.rangeList(random, bounds);
+            List<Integer> expected = IntStream.range(0, versions.size())
+                    .filter(row -> rangeList.isSatisfiedBy(versions.get(row)))
+                    .boxed()
+                    .collect(Collectors.toList());
+            assertThat(column.filter(rangeList).stream().boxed())
+                    .describedAs("%s", rangeList)
+                    .containsExactlyElementsOf(expected);
+            assertThat(column.filter(rangeList, ColumnKernel.SCALAR))
+                    .describedAs("%s", rangeList)
+                    .isEqualTo(column.filter(rangeList));
+            int max = column.argMax(rangeList);
+            if (expected.isEmpty()) {
+                assertThat(max).describedAs("%s", rangeList).isEqualTo(-1);
+            } else {
+                assertThat(versions.get(max))
+                        .describedAs("%s", rangeList)
+                        .isEqualByComparingTo(rangeList.maxSatisfying(versions));
+            }
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package org.semver4j.range;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.semver4j.Semver;
+
+class SemverIndexTest {
+    private static final SemverIndex INDEX = SemverIndex.of(versions(
+            "2.0.0", "1.2.3", "1.3.0-beta", "1.2.3+build", "1.0.0", "1.3.0", "2.1.0-rc.1", "1.9.9", "3.0.0-alpha"));
+
+    @Test
+    void shouldSortAndDeduplicateVersions() {
+        assertThat(INDEX)
+                .containsExactlyElementsOf(versions(
+                        "1.0.0", "1.2.3", "1.3.0-beta", "1.3.0", "1.9.9", "2.0.0", "2.1.0-rc.1", "3.0.0-alpha"));
+        assertThat(INDEX.size()).isEqualTo(8);
+        assertThat(INDEX.get(1).getVersion()).isEqualTo("1.2.3");
+    }
+
+    @Test
+    void shouldFindTheVersionsSatisfyingARangeList() {
+        // given
+        RangeList rangeList = RangeListFactory.create("^1.2.0 || >=2.1.0-rc.0 <3.0.0");
+
+        // when
+        List<Semver> satisfying = INDEX.satisfying(rangeList);
+
+        // then
+        assertThat(satisfying).containsExactlyElementsOf(versions("1.2.3", "1.3.0", "1.9.9", "2.1.0-rc.1"));
+        assertThat(INDEX.satisfying(RangeListFactory.create("^1.2.0", true)))
+                .containsExactlyElementsOf(versions("1.2.3", "1.3.0-beta", "1.3.0", "1.9.9"));
+        assertThat(INDEX.maxSatisfying(rangeList)).isEqualTo(new Semver("2.1.0-rc.1"));
+        assertThat(INDEX.minSatisfying(rangeList)).isEqualTo(new Semver("1.2.3"));
+        assertThat(INDEX.maxSatisfying(RangeListFactory.create("^4.0.0"))).isNull();
+    }
+
+    @Test
+    void shouldFindThePreReleasesBelowTheZeroPreRelease() {
+        // given
+        SemverIndex index =
+                SemverIndex.of(versions("0.0.0--", "0.0.0-0", "0.9.0", "1.0.0-undef", "1.0.0--", "1.0.0-0"));
+        RangeList rangeList = RangeListFactory.create(">=0.0.0-0 <1.0.0-0", true);
+
+        // when
+        List<Semver> satisfying = index.satisfying(rangeList);
+
+        // then
+        assertThat(satisfying).containsExactlyElementsOf(versions("0.0.0-0", "0.9.0", "1.0.0-undef", "1.0.0--"));
+        assertThat(index.toBitSet(rangeList).stream().mapToObj(index::get)).containsExactlyElementsOf(satisfying);
+        assertThat(index.maxSatisfying(rangeList)).isEqualTo(new Semver("1.0.0--"));
+    }
+
+    @Test
+    void shouldLookUpNeighbouringVersions() {
+        assertThat(INDEX.floor(new Semver("1.5.0"))).isEqualTo(new Semver("1.3.0"));
+        assertThat(INDEX.floor(new Semver("1.3.0"))).isEqualTo(new Semver("1.3.0"));
+        assertThat(INDEX.floor(new Semver("0.9.0"))).isNull();
+        assertThat(INDEX.ceiling(new Semver("1.3.0-alpha"))).isEqualTo(new Semver("1.3.0-beta"));
+        assertThat(INDEX.ceiling(new Semver("3.0.0"))).isNull();
+        assertThat(INDEX.latest()).isEqualTo(new Semver("3.0.0-alpha"));
+        assertThat(INDEX.latestStable()).isEqualTo(new Semver("2.0.0"));
+        assertThat(SemverIndex.of(List.of()).latestStable()).isNull();
+    }
+
+    @Test
+    void shouldIterateInDescendingOrder() {
+        // given
+        List<Semver> descending = new ArrayList<>();
+
+        // when
+        INDEX.descendingIterator().forEachRemaining(descending::add);
+
+        // then
+        List<Semver> expected = new ArrayList<>();
+        INDEX.forEach(expected::add);
+        Collections.reverse(expected);
+        assertThat(descending).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void shouldCombineTheBitSetsOfRangeLists() {
+        // given
+        BitSet caret = INDEX.toBitSet(RangeListFactory.create("^1.2.0"));
+        BitSet interval = INDEX.toBitSet(RangeListCache.getDefault().get(">=1.3.0-beta <2.1.0", false));
+
+        // when
+        BitSet both = (BitSet) caret.clone();
+        both.and(interval);
+        BitSet either = (BitSet) caret.clone();
+        either.or(interval);
+
+        // then
+        assertThat(both.stream().mapToObj(INDEX::get)).containsExactlyElementsOf(versions("1.3.0", "1.9.9"));
+        assertThat(either.stream().mapToObj(INDEX::get))
+                .containsExactlyElementsOf(versions("1.2.3", "1.3.0-beta", "1.3.0", "1.9.9", "2.0.0"));
+        assertThat(INDEX.toBitSet(RangeListCache.getDefault().get(">=1.3.0-beta <2.1.0", false)))
+                .isEqualTo(interval)
+                .isNotSameAs(interval);
+    }
+
+    @Test
+    void shouldNotIndexNullVersions() {
+        assertThatThrownBy(() -> SemverIndex.of(Arrays.asList(new Semver("1.0.0"), null)))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("versions must not contain null");
+    }
+
+    @Test
+    void shouldFindTheSameVersionsAsRangeLists() {
+        Random random = new Random(11);
+        List<Semver> catalog = RandomRanges.catalog(random, 2);
+        SemverIndex index = SemverIndex.of(catalog);
+        List<Semver> sorted = catalog.stream().distinct().sorted().collect(Collectors.toList());
+
+        for (int i = 0; i < 1_000; i++) {
+            // given
+            RangeList rangeList = RandomRanges.rangeList(random, catalog);
+
+            // when
+            List<Semver> satisfying = index.satisfying(rangeList);
+            List<Semver> descending = new ArrayList<>();
+            Iterator<Semver> iterator = index.descendingIterator(rangeList);
+            iterator.forEachRemaining(descending::add);
+
+            // then
+            List<Semver> expected =
+                    sorted.stream().filter(rangeList::isSatisfiedBy).collect(Collectors.toList());
+            assertThat(satisfying).describedAs("%s", rangeList).containsExactlyElementsOf(expected);
+            Collections.reverse(expected);
+            assertThat(descending).describedAs("%s", rangeList).containsExactlyElementsOf(expected);
+            assertThat(index.toBitSet(rangeList).stream().mapToObj(index::get))
+                    .describedAs("%s", rangeList)
+                    .containsExactlyElementsOf(satisfying);
+            assertThat(index.maxSatisfying(rangeList)).isEqualTo(expected.isEmpty() ? null : expected.get(0));
+            assertThat(index.minSatisfying(rangeList))
+                    .isEqualTo(expected.isEmpty() ? null : expected.get(expected.size() - 1));
+        }
+    }
+
+    private static List<Semver> versions(String... versions) {
+        return Arrays.stream(versions).map(Semver::new).collect(Collectors.toList());
+    }
+}
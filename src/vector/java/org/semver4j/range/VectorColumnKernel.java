@@ -0,0 +1,77 @@
+package org.semver4j.range;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * The kernel checking as many rows at a time as the preferred {@code int} vectors of the platform hold.
+ *
+ * <p>Each key is compared lexicographically with masks: a row is above a bound if its {@code major} is greater, or
+ * equal with a greater {@code minor}, and so on. The bits of the rows found in each vector are then written at once,
+ * since the number of lanes divides the 64 bits of a word. The rows left after the last whole vector are checked with
+ * the scalar loop.
+ *
+ * <p>This class is only compiled by the {@code vector} build profile. Loading it fails when the {@code
+ * jdk.incubator.vector} module is not resolved, and {@link ColumnKernel#get()} then falls back to the scalar kernel.
+ */
+final class VectorColumnKernel extends ColumnKernel {
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    VectorColumnKernel() {
+        if (Long.SIZE % SPECIES.length() != 0) {
+            throw new UnsupportedOperationException("Unsupported vector length: " + SPECIES.length());
+        }
+    }
+
+    @Override
+    long[] filter(int[] majors, int[] minors, int[] patches, int[] preReleaseKeys, Bounds bounds) {
+        long[] words = new long[(majors.length + 63) >>> 6];
+        int length = SPECIES.loopBound(majors.length);
+        for (int row = 0; row < length; row += SPECIES.length()) {
+            IntVector major = IntVector.fromArray(SPECIES, majors, row);
+            IntVector minor = IntVector.fromArray(SPECIES, minors, row);
+            IntVector patch = IntVector.fromArray(SPECIES, patches, row);
+            IntVector preReleaseKey = IntVector.fromArray(SPECIES, preReleaseKeys, row);
+            VectorMask<Integer> release = preReleaseKey.compare(VectorOperators.EQ, Integer.MAX_VALUE);
+
+            VectorMask<Integer> found = SPECIES.maskAll(false);
+            for (int i = 0; i < bounds.count; i++) {
+                VectorMask<Integer> applies = bounds.preRelease[i] ? release.not() : release;
+                if (!applies.anyTrue()) {
+                    continue;
+                }
+                VectorMask<Integer> aboveLower =
+                        isAbove(major, minor, patch, preReleaseKey, bounds.lowers, i, bounds.lowerInclusive[i]);
+                VectorMask<Integer> aboveUpper =
+                        isAbove(major, minor, patch, preReleaseKey, bounds.uppers, i, !bounds.upperInclusive[i]);
+                found = found.or(applies.and(aboveLower).andNot(aboveUpper));
+            }
+            words[row >>> 6] |= found.toLong() << row;
+        }
+        filterRange(majors, minors, patches, preReleaseKeys, bounds, length, majors.length, words);
+        return words;
+    }
+
+    /** Whether each row is above the {@code i}th key, or equal to it if {@code orEqual} is set. */
+    private static VectorMask<Integer> isAbove(
+            IntVector major,
+            IntVector minor,
+            IntVector patch,
+            IntVector preReleaseKey,
+            int[] keys,
+            int i,
+            boolean orEqual) {
+        int offset = i * Bounds.KEY_SIZE;
+        // From the last component to the first: above on a component, or equal on it and above on the next ones
+        VectorMask<Integer> above =
+                preReleaseKey.compare(orEqual ? VectorOperators.GE : VectorOperators.GT, keys[offset + 3]);
+        above = patch.compare(VectorOperators.GT, keys[offset + 2])
+                .or(patch.compare(VectorOperators.EQ, keys[offset + 2]).and(above));
+        above = minor.compare(VectorOperators.GT, keys[offset + 1])
+                .or(minor.compare(VectorOperators.EQ, keys[offset + 1]).and(above));
+        return major.compare(VectorOperators.GT, keys[offset])
+                .or(major.compare(VectorOperators.EQ, keys[offset]).and(above));
+    }
+}